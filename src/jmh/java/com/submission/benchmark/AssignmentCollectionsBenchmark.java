@@ -0,0 +1,95 @@
+package com.submission.benchmark;
+
+import com.submission.model.Assignment;
+import com.submission.model.Result;
+import com.submission.model.Submission;
+import com.submission.model.Teacher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory relationship management on a transient {@link Assignment} holding {@code size}
+ * submissions and results. No database is involved; this isolates the collection cost of
+ * {@code addResult}/{@code addSubmission} and {@code hasResult}. Run with {@code -t} to compare
+ * contended and uncontended throughput.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssignmentCollectionsBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private Assignment assignment;
+    private Result[] results;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        // logback.xml keeps com.submission at DEBUG, and the add/remove helpers log every call
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.submission"))
+            .setLevel(ch.qos.logback.classic.Level.INFO);
+        Teacher teacher = new Teacher("Bench", "Teacher", "collections@bench.example.com", "hash");
+        assignment = new Assignment("Collections", "Benchmark", "bench.pdf",
+            LocalDateTime.now().plusDays(30), teacher);
+        results = new Result[size];
+        for (int i = 0; i < size; i++) {
+            long studentId = i;
+            assignment.addSubmission(new Submission(null, studentId, "submissions/" + i + ".pdf"));
+            results[i] = new Result(null, studentId);
+            assignment.addResult(results[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean containsResult() {
+        return assignment.hasResult(results[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public Result addAndRemoveResult() {
+        // Student ids above the seeded range so the set size stays at {@code size}
+        Result result = new Result(null, size + ThreadLocalRandom.current().nextLong(1_000_000));
+        assignment.addResult(result);
+        assignment.removeResult(result);
+        return result;
+    }
+
+    @Benchmark
+    public Submission addAndRemoveSubmission() {
+        Submission submission = new Submission(null, (long) size, "submissions/extra.pdf");
+        assignment.addSubmission(submission);
+        assignment.removeSubmission(submission);
+        return submission;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean containsResultContended() {
+        return containsResult();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Result addAndRemoveResultContended() {
+        return addAndRemoveResult();
+    }
+}
@@ -0,0 +1,44 @@
+package com.submission.benchmark;
+
+import com.submission.model.Assignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query paths of {@link com.submission.dao.impl.AssignmentDAOImpl} behind the assignment endpoints.
+ * Throughput mode reports ops/s, sample mode reports the latency distribution including p0.99,
+ * and {@code -prof gc} adds the allocation rate per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class AssignmentDAOBenchmark {
+
+    @Benchmark
+    public List<Assignment> findByTeacherId(SeededDatabase database, DaoSession session) {
+        List<Assignment> assignments = session.assignmentDAO.findByTeacherId(database.randomTeacherId(session.random));
+        session.reset();
+        return assignments;
+    }
+
+    @Benchmark
+    public List<Assignment> findActiveAssignments(SeededDatabase database, DaoSession session) {
+        List<Assignment> assignments = session.assignmentDAO.findActiveAssignments(database.now);
+        session.reset();
+        return assignments;
+    }
+
+    @Benchmark
+    public long countSubmissionsByAssignmentId(SeededDatabase database, DaoSession session) {
+        return session.assignmentDAO.countSubmissionsByAssignmentId(database.randomAssignmentId(session.random));
+    }
+}
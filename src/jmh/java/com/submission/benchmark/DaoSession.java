@@ -0,0 +1,58 @@
+package com.submission.benchmark;
+
+import com.submission.dao.AssignmentDAO;
+import com.submission.dao.ResultDAO;
+import com.submission.dao.TeacherDAO;
+import com.submission.dao.impl.AssignmentDAOImpl;
+import com.submission.dao.impl.ResultDAOImpl;
+import com.submission.dao.impl.StudentResultDAOImpl;
+import com.submission.dao.impl.TeacherDAOImpl;
+import com.submission.service.ResultService;
+import com.submission.service.StudentResultsCache;
+import com.submission.service.impl.ResultServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.util.Random;
+
+/**
+ * Per-thread entity manager and DAOs, mirroring how each request gets its own persistence context.
+ */
+@State(Scope.Thread)
+public class DaoSession {
+
+    EntityManager em;
+    AssignmentDAO assignmentDAO;
+    ResultDAO resultDAO;
+    TeacherDAO teacherDAO;
+    ResultService resultService;
+    final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void open(SeededDatabase database) {
+        em = database.emf.createEntityManager();
+        assignmentDAO = new AssignmentDAOImpl(em);
+        resultDAO = new ResultDAOImpl(em);
+        teacherDAO = new TeacherDAOImpl(em);
+        resultService = new ResultServiceImpl(resultDAO, assignmentDAO,
+            new StudentResultDAOImpl(em), new StudentResultsCache());
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if (em != null && em.isOpen()) {
+            em.close();
+        }
+    }
+
+    /**
+     * Detaches everything loaded by the previous operation so each call hydrates fresh entities,
+     * as a new request would.
+     */
+    void reset() {
+        em.clear();
+    }
+}
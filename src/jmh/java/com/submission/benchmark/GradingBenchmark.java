@@ -0,0 +1,62 @@
+package com.submission.benchmark;
+
+import com.submission.model.Result;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-submission grading through {@link com.submission.service.impl.ResultServiceImpl}.
+ * The {@code statements} counter divided by the operation count is the number of JDBC statements
+ * per grade, which should stay flat across the {@code submissions} parameter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class GradingBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+        Statistics statistics;
+
+        @Setup(Level.Trial)
+        public void open(SeededDatabase database) {
+            statistics = database.emf.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+        }
+    }
+
+    @Benchmark
+    public Result updateGrade(SeededDatabase database, DaoSession session, StatementCounter counter) {
+        Long submissionId = database.randomSubmissionId(session.random);
+        long before = counter.statistics.getPrepareStatementCount();
+        session.em.getTransaction().begin();
+        try {
+            Result result = session.resultService.updateGrade(
+                submissionId, database.ownerOfSubmission(submissionId), "A", "Benchmark regrade");
+            session.em.flush();
+            return result;
+        } finally {
+            // Roll back so every iteration grades against the same seeded data
+            session.em.getTransaction().rollback();
+            counter.statements += counter.statistics.getPrepareStatementCount() - before;
+            session.reset();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.submission.benchmark;
+
+import com.submission.controller.RequestDispatcher;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@value #CLIENTS} concurrent HTTP clients against a JAX-RS endpoint served by Jersey on
+ * Grizzly, whose {@value #CONTAINER_THREADS} worker threads play the container's request pool.
+ * Each request waits {@code ioMillis} outside the database, then takes one of {@code poolSize}
+ * H2 connections and runs a statement that sleeps {@code dbMillis} in the database. Scores are
+ * requests per second; the {@code ok} and {@code rejected} counters split them into 200s and
+ * the dispatcher's 503s.
+ *
+ * <ul>
+ *   <li>{@code container}: {@link RequestDispatcher} runs the work on the worker thread, its
+ *       default.</li>
+ *   <li>{@code virtual}: the dispatcher hands each request to a virtual thread of its own and
+ *       the worker goes back to the pool. This needs Java 21, e.g.
+ *       {@code -Djmh.args="RequestDispatchBenchmark -jvm /path/to/jdk-21/bin/java"}; on an older
+ *       runtime the trial fails rather than measure platform threads instead.</li>
+ * </ul>
+ *
+ * H2 runs a statement while holding a lock on its session, so a virtual thread in
+ * {@code dbMillis} pins its carrier thread, as it would in many JDBC drivers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RequestDispatchBenchmark {
+
+    private static final int CLIENTS = 2000;
+    private static final int CONTAINER_THREADS = 200;
+
+    @Param({"container", "virtual"})
+    public String mode;
+
+    @Param({"10", "50"})
+    public int poolSize;
+
+    @Param("2")
+    public int dbMillis;
+
+    @Param("3")
+    public int ioMillis;
+
+    private ExecutorService executor;
+    private BlockingQueue<Connection> connections;
+    private HttpServer server;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        if ("virtual".equals(mode)) {
+            executor = RequestDispatcher.virtualThreadExecutor();
+            if (executor == null) {
+                throw new IllegalStateException("Virtual threads need Java 21; run this mode with -jvm on a Java 21 runtime");
+            }
+        }
+        RequestDispatcher dispatcher = new RequestDispatcher(executor, CLIENTS);
+
+        connections = new ArrayBlockingQueue<>(poolSize);
+        // A database per connection: H2 runs one statement at a time per database
+        for (int i = 0; i < poolSize; i++) {
+            Connection connection = DriverManager.getConnection("jdbc:h2:mem:dispatch" + i, "sa", "");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create alias sleep for 'java.lang.Thread.sleep(long)'");
+            }
+            connections.add(connection);
+        }
+
+        ResourceConfig resources = new ResourceConfig().register(new WorkResource(dispatcher, this::handle));
+        server = GrizzlyHttpServerFactory.createHttpServer(URI.create("http://localhost:0/"), resources, false);
+        NetworkListener listener = server.getListener("grizzly");
+        listener.getTransport().setWorkerThreadPoolConfig(ThreadPoolConfig.defaultConfig()
+            .setCorePoolSize(CONTAINER_THREADS)
+            .setMaxPoolSize(CONTAINER_THREADS));
+        // Every client keeps its connection, as a browser would
+        listener.getKeepAlive().setMaxRequestsCount(-1);
+        server.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + listener.getPort() + "/work")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws SQLException {
+        if (server != null) {
+            server.shutdownNow();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (connections != null) {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CLIENTS)
+    public void concurrentClients(Outcomes outcomes) {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenAccept(response -> outcomes.count(response.statusCode()));
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+
+    private Response handle() {
+        try {
+            Thread.sleep(ioMillis);
+            Connection connection = connections.take();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("call sleep(" + dbMillis + ")");
+            } finally {
+                connections.add(connection);
+            }
+            return Response.ok().build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.serverError().build();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Path("work")
+    public static class WorkResource {
+        private final RequestDispatcher dispatcher;
+        private final Supplier<Response> work;
+
+        WorkResource(RequestDispatcher dispatcher, Supplier<Response> work) {
+            this.dispatcher = dispatcher;
+            this.work = work;
+        }
+
+        @GET
+        public void work(@Suspended AsyncResponse async) {
+            dispatcher.dispatch(async, HttpMethod.GET, work);
+        }
+    }
+
+    /**
+     * Responses per second by outcome. Any status but 200 or 503 fails the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ok.reset();
+            rejected.reset();
+        }
+
+        public long ok() {
+            return ok.sum();
+        }
+
+        public long rejected() {
+            return rejected.sum();
+        }
+
+        void count(int status) {
+            if (status == 200) {
+                ok.increment();
+            } else if (status == 503) {
+                rejected.increment();
+            } else {
+                throw new IllegalStateException("Unexpected status " + status);
+            }
+        }
+    }
+}
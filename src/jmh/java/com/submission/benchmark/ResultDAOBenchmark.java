@@ -0,0 +1,30 @@
+package com.submission.benchmark;
+
+import com.submission.model.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student results lookup in {@link com.submission.dao.impl.ResultDAOImpl}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ResultDAOBenchmark {
+
+    @Benchmark
+    public List<Result> findByStudentId(SeededDatabase database, DaoSession session) {
+        List<Result> results = session.resultDAO.findByStudentId(database.randomStudentId(session.random));
+        session.reset();
+        return results;
+    }
+}
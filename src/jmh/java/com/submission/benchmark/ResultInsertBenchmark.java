@@ -0,0 +1,148 @@
+package com.submission.benchmark;
+
+import com.submission.dao.ResultDAO;
+import com.submission.dao.impl.ResultDAOImpl;
+import com.submission.model.Assignment;
+import com.submission.model.Result;
+import com.submission.model.Teacher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts {@value #RESULTS} results through {@link ResultDAO#save} in one transaction, flushing
+ * and clearing every {@value #FLUSH_EVERY} as a bulk import would. Scores are inserts per second.
+ *
+ * <ul>
+ *   <li>{@code identity}: Result ids from the identity column, as before the id sequences, via
+ *       {@code META-INF/identity-ids.xml}. Every persist is an INSERT on its own.</li>
+ *   <li>{@code sequence}: the mapped pooled-lo sequence. One sequence call per block of ids and
+ *       the inserts go out in JDBC batches.</li>
+ * </ul>
+ *
+ * The {@code statements} counter divided by the operation count is JDBC statements per insert.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ResultInsertBenchmark {
+
+    private static final int RESULTS = 10_000;
+    private static final int STUDENTS_PER_ASSIGNMENT = 50;
+    private static final int FLUSH_EVERY = 50;
+
+    @Param({"identity", "sequence"})
+    public String idGeneration;
+
+    private EntityManagerFactory emf;
+    private final List<Long> assignmentIds = new ArrayList<>();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+    }
+
+    @Setup(Level.Trial)
+    public void seed() {
+        emf = Persistence.createEntityManagerFactory("TestPU", overrides());
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Teacher teacher = new Teacher("Teacher", "Bench", "teacher@bench.example.com", "hash");
+            em.persist(teacher);
+            for (int i = 0; i < RESULTS / STUDENTS_PER_ASSIGNMENT; i++) {
+                Assignment assignment = new Assignment("Assignment " + i, "Benchmark assignment " + i,
+                    null, LocalDateTime.now().plusDays(30), teacher);
+                em.persist(assignment);
+                assignmentIds.add(assignment.getId());
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteResults() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createQuery("DELETE FROM Result").executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public void insertResults(StatementCounter counter) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        EntityManager em = emf.createEntityManager();
+        ResultDAO resultDAO = new ResultDAOImpl(em);
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < RESULTS; i++) {
+                Assignment assignment = em.getReference(Assignment.class,
+                    assignmentIds.get(i / STUDENTS_PER_ASSIGNMENT));
+                resultDAO.save(new Result(assignment, (long) (i % STUDENTS_PER_ASSIGNMENT)));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            counter.statements += statistics.getPrepareStatementCount() - before;
+        }
+    }
+
+    private Map<String, Object> overrides() {
+        Map<String, Object> properties = new HashMap<>();
+        // A dedicated in-memory database so benchmark data never leaks into the unit test database
+        properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:bench-inserts-" + idGeneration + ";DB_CLOSE_DELAY=-1");
+        properties.put("hibernate.show_sql", "false");
+        properties.put("hibernate.format_sql", "false");
+        properties.put("hibernate.generate_statistics", "true");
+        if ("identity".equals(idGeneration)) {
+            properties.put("hibernate.orm_xml_files", List.of("META-INF/identity-ids.xml"));
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,177 @@
+package com.submission.benchmark;
+
+import com.submission.model.Teacher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Embedded H2 database seeded once per trial with a realistic term's worth of data.
+ * Every assignment receives {@value #SUBMISSIONS_PER_ASSIGNMENT} submissions and one result per
+ * submission, so the {@code submissions} parameter scales assignments, submissions and results together.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    static final int TEACHERS = 50;
+    static final int STUDENTS = 2_000;
+    static final int SUBMISSIONS_PER_ASSIGNMENT = 50;
+    private static final int JDBC_BATCH_SIZE = 1_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int submissions;
+
+    EntityManagerFactory emf;
+    final List<Long> teacherIds = new ArrayList<>();
+    final List<String> teacherEmails = new ArrayList<>();
+    long firstAssignmentId;
+    int assignmentCount;
+    LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        emf = Persistence.createEntityManagerFactory("TestPU", overrides());
+        now = LocalDateTime.now();
+        assignmentCount = submissions / SUBMISSIONS_PER_ASSIGNMENT;
+
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < TEACHERS; i++) {
+                Teacher teacher = new Teacher("Teacher" + i, "Bench", "teacher" + i + "@bench.example.com", "hash");
+                em.persist(teacher);
+                teacherIds.add(teacher.getId());
+                teacherEmails.add(teacher.getEmail());
+            }
+            em.flush();
+            firstAssignmentId = 1L;
+            em.unwrap(Session.class).doWork(connection -> {
+                insertAssignments(connection);
+                insertSubmissionsAndResults(connection);
+            });
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    Long randomTeacherId(Random random) {
+        return teacherIds.get(random.nextInt(teacherIds.size()));
+    }
+
+    String randomTeacherEmail(Random random) {
+        return teacherEmails.get(random.nextInt(teacherEmails.size()));
+    }
+
+    Long randomAssignmentId(Random random) {
+        return firstAssignmentId + random.nextInt(assignmentCount);
+    }
+
+    Long randomSubmissionId(Random random) {
+        return 1L + random.nextInt(submissions);
+    }
+
+    Long ownerOfSubmission(Long submissionId) {
+        int assignmentIndex = (int) ((submissionId - 1) / SUBMISSIONS_PER_ASSIGNMENT);
+        return teacherIds.get(assignmentIndex % TEACHERS);
+    }
+
+    Long randomStudentId(Random random) {
+        return (long) random.nextInt(STUDENTS);
+    }
+
+    private void insertAssignments(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO assignments (id, title, description, file_path, deadline, createdAt, teacher_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < assignmentCount; i++) {
+                // Alternate past and future deadlines so active/past finders each match half the table
+                LocalDateTime deadline = (i % 2 == 0) ? now.plusDays(1 + i % 30) : now.minusDays(1 + i % 30);
+                ps.setLong(1, firstAssignmentId + i);
+                ps.setString(2, "Assignment " + i);
+                ps.setString(3, "Benchmark assignment " + i);
+                ps.setString(4, "assignments/" + i + ".pdf");
+                ps.setTimestamp(5, Timestamp.valueOf(deadline));
+                ps.setTimestamp(6, Timestamp.valueOf(now.minusDays(60)));
+                ps.setLong(7, teacherIds.get(i % TEACHERS));
+                ps.setString(8, "ACTIVE");
+                ps.addBatch();
+                if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertSubmissionsAndResults(Connection connection) throws SQLException {
+        try (PreparedStatement submission = connection.prepareStatement(
+                "INSERT INTO submissions (id, assignment_id, student_id, file_path, timestamp, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement result = connection.prepareStatement(
+                "INSERT INTO results (id, assignment_id, student_id, grade, remarks, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < submissions; i++) {
+                long assignmentId = firstAssignmentId + i / SUBMISSIONS_PER_ASSIGNMENT;
+                long studentId = (i / SUBMISSIONS_PER_ASSIGNMENT * 7L + i % SUBMISSIONS_PER_ASSIGNMENT) % STUDENTS;
+                boolean graded = i % 4 != 0;
+
+                submission.setLong(1, i + 1L);
+                submission.setLong(2, assignmentId);
+                submission.setLong(3, studentId);
+                submission.setString(4, "submissions/" + i + ".pdf");
+                submission.setTimestamp(5, Timestamp.valueOf(now.minusDays(i % 45)));
+                submission.setString(6, graded ? "GRADED" : "SUBMITTED");
+                submission.addBatch();
+
+                result.setLong(1, i + 1L);
+                result.setLong(2, assignmentId);
+                result.setLong(3, studentId);
+                result.setString(4, graded ? "B" : null);
+                result.setString(5, graded ? "Benchmark remarks" : null);
+                result.setString(6, graded ? "GRADED" : "PENDING");
+                result.addBatch();
+
+                if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                    submission.executeBatch();
+                    result.executeBatch();
+                }
+            }
+            submission.executeBatch();
+            result.executeBatch();
+        }
+    }
+
+    private Map<String, Object> overrides() {
+        Map<String, Object> properties = new HashMap<>();
+        // A dedicated in-memory database so benchmark data never leaks into the unit test database
+        properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:bench-" + submissions + ";DB_CLOSE_DELAY=-1");
+        properties.put("hibernate.show_sql", "false");
+        properties.put("hibernate.format_sql", "false");
+        return properties;
+    }
+}
@@ -0,0 +1,30 @@
+package com.submission.benchmark;
+
+import com.submission.model.Teacher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login lookup in {@link com.submission.dao.impl.TeacherDAOImpl}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class TeacherDAOBenchmark {
+
+    @Benchmark
+    public Optional<Teacher> findByEmail(SeededDatabase database, DaoSession session) {
+        Optional<Teacher> teacher = session.teacherDAO.findByEmail(database.randomTeacherEmail(session.random));
+        session.reset();
+        return teacher;
+    }
+}
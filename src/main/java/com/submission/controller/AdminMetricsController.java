@@ -0,0 +1,74 @@
+package com.submission.controller;
+
+import com.submission.metrics.DeadlineMetrics;
+import com.submission.metrics.EndpointMetricsRegistry;
+import com.submission.metrics.HibernateMetrics;
+import com.submission.metrics.MetricsSnapshot;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.hibernate.SessionFactory;
+
+/**
+ * Read-only operational metrics. Access is restricted to the ADMIN role in web.xml.
+ */
+@Path("/api/admin/metrics")
+@Produces(MediaType.APPLICATION_JSON)
+public class AdminMetricsController extends BaseController {
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    private EndpointMetricsRegistry endpointMetrics;
+
+    @Inject
+    private DeadlineMetrics deadlineMetrics;
+
+    @GET
+    public Response getMetrics() {
+        try {
+            return ok("Metrics retrieved successfully",
+                new MetricsSnapshot(hibernateMetrics(), endpointMetrics.snapshot(), deadlineMetrics.snapshot()));
+        } catch (Exception e) {
+            return serverError("Failed to retrieve metrics: " + e.getMessage());
+        }
+    }
+
+    @GET
+    @Path("/hibernate")
+    public Response getHibernateMetrics() {
+        try {
+            return ok("Hibernate metrics retrieved successfully", hibernateMetrics());
+        } catch (Exception e) {
+            return serverError("Failed to retrieve metrics: " + e.getMessage());
+        }
+    }
+
+    @GET
+    @Path("/endpoints")
+    public Response getEndpointMetrics() {
+        try {
+            return ok("Endpoint metrics retrieved successfully", endpointMetrics.snapshot());
+        } catch (Exception e) {
+            return serverError("Failed to retrieve metrics: " + e.getMessage());
+        }
+    }
+
+    @GET
+    @Path("/deadlines")
+    public Response getDeadlineMetrics() {
+        try {
+            return ok("Deadline metrics retrieved successfully", deadlineMetrics.snapshot());
+        } catch (Exception e) {
+            return serverError("Failed to retrieve metrics: " + e.getMessage());
+        }
+    }
+
+    private HibernateMetrics hibernateMetrics() {
+        return HibernateMetrics.from(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+}
@@ -1,12 +1,21 @@
 package com.submission.controller;
 
+import com.submission.dto.AssignmentDetail;
 import com.submission.dto.AssignmentRequest;
+import com.submission.dto.AssignmentSummary;
+import com.submission.dto.OperationStatus;
+import com.submission.dto.Page;
 import com.submission.model.Assignment;
+import com.submission.operation.OperationCapacityExceededException;
+import com.submission.operation.OperationTracker;
 import com.submission.service.AssignmentService;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import java.net.URI;
 import java.util.List;
 
 @Path("/api/assignments")
@@ -17,77 +26,134 @@ public class AssignmentController extends BaseController {
     @Inject
     private AssignmentService assignmentService;
 
+    @Inject
+    private OperationTracker operationTracker;
+
     @POST
-    public Response createAssignment(AssignmentRequest request) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            Assignment assignment = assignmentService.createAssignment(
-                request.getTitle(),
-                request.getDescription(),
-                request.getFilePath(),
-                request.getDeadline(),
-                teacherId
-            );
-            return ok("Assignment created successfully", assignment);
-        } catch (IllegalArgumentException e) {
-            return error(e.getMessage());
-        } catch (Exception e) {
-            return serverError("Failed to create assignment: " + e.getMessage());
-        }
+    public void createAssignment(AssignmentRequest request, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                Assignment assignment = assignmentService.createAssignment(
+                    request.getTitle(),
+                    request.getDescription(),
+                    request.getFilePath(),
+                    request.getDeadline(),
+                    teacherId
+                );
+                return ok("Assignment created successfully", AssignmentDetail.from(assignment));
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to create assignment: " + e.getMessage());
+            }
+        });
     }
 
     @GET
-    public Response getTeacherAssignments() {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            List<Assignment> assignments = assignmentService.getTeacherAssignments(teacherId);
-            return ok("Assignments retrieved successfully", assignments);
-        } catch (Exception e) {
-            return serverError("Failed to retrieve assignments: " + e.getMessage());
-        }
+    public void getTeacherAssignments(@QueryParam("cursor") String cursor,
+                                      @QueryParam("limit") Integer limit,
+                                      @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                Page<AssignmentSummary> page =
+                    assignmentService.getTeacherAssignmentPage(teacherId, cursor, limit);
+                return ok("Assignments retrieved successfully", page.getItems(), page.getNextCursor());
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to retrieve assignments: " + e.getMessage());
+            }
+        });
     }
 
     @GET
     @Path("/{id}")
-    public Response getAssignment(@PathParam("id") Long assignmentId) {
-        try {
-            return assignmentService.findAssignmentById(assignmentId)
-                .map(assignment -> ok("Assignment retrieved successfully", assignment))
-                .orElse(notFound("Assignment not found"));
-        } catch (Exception e) {
-            return serverError("Failed to retrieve assignment: " + e.getMessage());
-        }
+    public void getAssignment(@PathParam("id") Long assignmentId, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                return assignmentService.findAssignmentDetail(assignmentId)
+                    .map(assignment -> ok("Assignment retrieved successfully", assignment))
+                    .orElse(notFound("Assignment not found"));
+            } catch (Exception e) {
+                return serverError("Failed to retrieve assignment: " + e.getMessage());
+            }
+        });
     }
 
     @PUT
     @Path("/{id}")
-    public Response updateAssignment(@PathParam("id") Long assignmentId, AssignmentRequest request) {
+    public void updateAssignment(@PathParam("id") Long assignmentId, AssignmentRequest request,
+                                 @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Assignment updated = assignmentService.updateAssignment(
+                    assignmentId,
+                    request.getTitle(),
+                    request.getDescription(),
+                    request.getDeadline()
+                );
+                return ok("Assignment updated successfully", AssignmentDetail.from(updated));
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to update assignment: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Deleting an assignment with its submissions and results can take a while, so it runs in
+     * the background: ownership is checked here and the client gets 202 with the location of
+     * an operation to poll.
+     */
+    @DELETE
+    @Path("/{id}")
+    public Response deleteAssignment(@PathParam("id") Long assignmentId) {
         try {
-            Assignment updated = assignmentService.updateAssignment(
-                assignmentId,
-                request.getTitle(),
-                request.getDescription(),
-                request.getDeadline()
-            );
-            return ok("Assignment updated successfully", updated);
+            Long teacherId = getCurrentTeacherId();
+            AssignmentDetail assignment = assignmentService.findAssignmentDetail(assignmentId)
+                .orElseThrow(() -> new IllegalArgumentException("Assignment not found"));
+            if (!assignment.teacherId().equals(teacherId)) {
+                throw new IllegalArgumentException("Not authorized to delete this assignment");
+            }
+            OperationStatus operation = operationTracker.submit("assignment.delete", teacherId,
+                () -> assignmentService.deleteAssignment(assignmentId, teacherId));
+            return accepted("Assignment deletion started", operation,
+                URI.create("/api/operations/" + operation.id()));
         } catch (IllegalArgumentException e) {
             return error(e.getMessage());
+        } catch (OperationCapacityExceededException e) {
+            return serviceUnavailable(e.getMessage(), 1);
         } catch (Exception e) {
-            return serverError("Failed to update assignment: " + e.getMessage());
+            return serverError("Failed to delete assignment: " + e.getMessage());
         }
     }
 
+    /**
+     * Deletes several of the caller's assignments in one background operation, e.g.
+     * {@code DELETE /api/assignments?id=3&id=7}. Ownership of every assignment is checked in
+     * the operation; if any is not the caller's, it fails and nothing is deleted.
+     */
     @DELETE
-    @Path("/{id}")
-    public Response deleteAssignment(@PathParam("id") Long assignmentId) {
+    public Response deleteAssignments(@QueryParam("id") List<Long> assignmentIds) {
         try {
             Long teacherId = getCurrentTeacherId();
-            assignmentService.deleteAssignment(assignmentId, teacherId);
-            return ok("Assignment deleted successfully");
+            if (assignmentIds == null || assignmentIds.isEmpty()) {
+                throw new IllegalArgumentException("At least one assignment ID is required");
+            }
+            List<Long> ids = List.copyOf(assignmentIds);
+            OperationStatus operation = operationTracker.submit("assignment.delete", teacherId,
+                () -> assignmentService.deleteAssignments(ids, teacherId));
+            return accepted("Assignment deletion started", operation,
+                URI.create("/api/operations/" + operation.id()));
         } catch (IllegalArgumentException e) {
             return error(e.getMessage());
+        } catch (OperationCapacityExceededException e) {
+            return serviceUnavailable(e.getMessage(), 1);
         } catch (Exception e) {
-            return serverError("Failed to delete assignment: " + e.getMessage());
+            return serverError("Failed to delete assignments: " + e.getMessage());
         }
     }
 }
\ No newline at end of file
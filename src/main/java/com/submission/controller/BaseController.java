@@ -1,11 +1,19 @@
 package com.submission.controller;
 
 import com.submission.dto.ApiResponse;
+import com.submission.routing.ReplicaRouting;
+import com.submission.security.SessionTokenStore;
+import jakarta.inject.Inject;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import java.net.URI;
 import java.security.Principal;
+import java.util.function.Supplier;
 
 public abstract class BaseController {
     
@@ -14,13 +22,69 @@ public abstract class BaseController {
     
     @Context
     protected SecurityContext securityContext;
-    
+
+    @Inject
+    protected SessionTokenStore sessionTokenStore;
+
+    @Inject
+    protected RequestDispatcher requestDispatcher;
+
+    // Resource instances are per request; dispatch() fills these in on the request thread
+    private Long dispatchedTeacherId;
+    private RuntimeException dispatchedIdentityError;
+
+    /**
+     * Produces the response through {@link RequestDispatcher}, which may run {@code work} off
+     * the request thread. The caller's identity is resolved here first, so
+     * {@link #getCurrentTeacherId()} still works inside {@code work}, as does the caller's
+     * {@link ReplicaRouting} session; anything else read from the request must be read before
+     * calling this.
+     */
+    protected void dispatch(AsyncResponse async, Supplier<Response> work) {
+        try {
+            dispatchedTeacherId = resolveTeacherId();
+        } catch (RuntimeException e) {
+            // Thrown from getCurrentTeacherId() inside the work, as it would have been inline
+            dispatchedIdentityError = e;
+        }
+        requestDispatcher.dispatch(async, request != null ? request.getMethod() : null,
+            ReplicaRouting.propagate(work));
+    }
+
     protected Long getCurrentTeacherId() {
+        if (dispatchedTeacherId != null) {
+            return dispatchedTeacherId;
+        }
+        if (dispatchedIdentityError != null) {
+            throw dispatchedIdentityError;
+        }
+        return resolveTeacherId();
+    }
+
+    private Long resolveTeacherId() {
         Principal principal = securityContext.getUserPrincipal();
-        if (principal == null) {
+        if (principal != null) {
+            return Long.parseLong(principal.getName());
+        }
+        // Token issued at login; resolving it is a lookup, not another password check
+        String token = getBearerToken();
+        if (token == null) {
             throw new SecurityException("No authenticated user found");
         }
-        return Long.parseLong(principal.getName());
+        return sessionTokenStore.resolve(token)
+            .orElseThrow(() -> new SecurityException("Session expired or invalid"));
+    }
+
+    protected String getBearerToken() {
+        if (request == null) {
+            return null;
+        }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        String token = header.substring(7).trim();
+        return token.isEmpty() ? null : token;
     }
     
     protected Response ok(String message) {
@@ -31,32 +95,69 @@ public abstract class BaseController {
         return Response.ok(ApiResponse.success(message, data)).build();
     }
     
+    protected <T> Response ok(String message, T data, String nextCursor) {
+        return Response.ok(ApiResponse.success(message, data, nextCursor)).build();
+    }
+    
+    protected <T> Response accepted(String message, T data, URI location) {
+        return Response.accepted(ApiResponse.success(message, data)).location(location).build();
+    }
+    
+    // Error bodies are JSON even from methods that produce something else, e.g. a CSV export
     protected Response error(String message) {
         return Response.status(Response.Status.BAD_REQUEST)
+                .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(ApiResponse.error(message))
                 .build();
     }
     
     protected Response unauthorized(String message) {
         return Response.status(Response.Status.UNAUTHORIZED)
+                .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(ApiResponse.error(message))
                 .build();
     }
     
     protected Response forbidden(String message) {
         return Response.status(Response.Status.FORBIDDEN)
+                .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(ApiResponse.error(message))
                 .build();
     }
     
     protected Response notFound(String message) {
         return Response.status(Response.Status.NOT_FOUND)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(ApiResponse.error(message))
+                .build();
+    }
+    
+    protected Response conflict(String message) {
+        return Response.status(Response.Status.CONFLICT)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(ApiResponse.error(message))
+                .build();
+    }
+    
+    protected Response tooManyRequests(String message, long retryAfterSeconds) {
+        return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(ApiResponse.error(message))
+                .build();
+    }
+    
+    protected Response serviceUnavailable(String message, long retryAfterSeconds) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(ApiResponse.error(message))
                 .build();
     }
     
     protected Response serverError(String message) {
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(ApiResponse.error(message))
                 .build();
     }
@@ -0,0 +1,30 @@
+package com.submission.controller;
+
+import com.submission.dto.AssignmentStats;
+import com.submission.service.DashboardService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+
+@Path("/api/dashboard")
+@Produces(MediaType.APPLICATION_JSON)
+public class DashboardController extends BaseController {
+
+    @Inject
+    private DashboardService dashboardService;
+
+    @GET
+    public Response getDashboard() {
+        try {
+            Long teacherId = getCurrentTeacherId();
+            List<AssignmentStats> stats = dashboardService.getAssignmentStats(teacherId);
+            return ok("Dashboard retrieved successfully", stats);
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        } catch (Exception e) {
+            return serverError("Failed to retrieve dashboard: " + e.getMessage());
+        }
+    }
+}
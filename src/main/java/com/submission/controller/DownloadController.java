@@ -0,0 +1,184 @@
+package com.submission.controller;
+
+import com.submission.service.DownloadService;
+import com.submission.storage.ByteRange;
+import com.submission.storage.ContentAddressedStore;
+import com.submission.storage.UnsatisfiableRangeException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serves assignment, note and past paper files. Responses carry a strong ETag and
+ * Last-Modified so clients revalidate with a 304, and a single byte range is honoured so an
+ * interrupted download can pick up where it stopped. Only signed-in students and teachers get
+ * here (see web.xml).
+ */
+@Path("/api/files")
+@Produces(MediaType.APPLICATION_JSON)
+public class DownloadController extends BaseController {
+
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    @Inject
+    private DownloadService downloadService;
+
+    @Context
+    private Request httpRequest;
+
+    @GET
+    @Path("/assignments/{id}")
+    @Produces(MediaType.WILDCARD)
+    public Response downloadAssignmentFile(@PathParam("id") Long assignmentId,
+                                           @HeaderParam("Range") String range,
+                                           @HeaderParam("If-Range") String ifRange) {
+        return serve(() -> downloadService.findAssignmentFile(assignmentId), range, ifRange);
+    }
+
+    @GET
+    @Path("/notes/{id}")
+    @Produces(MediaType.WILDCARD)
+    public Response downloadNoteFile(@PathParam("id") Long noteId,
+                                     @HeaderParam("Range") String range,
+                                     @HeaderParam("If-Range") String ifRange) {
+        return serve(() -> downloadService.findNoteFile(noteId), range, ifRange);
+    }
+
+    @GET
+    @Path("/past-papers/{id}")
+    @Produces(MediaType.WILDCARD)
+    public Response downloadPastPaperFile(@PathParam("id") Long pastPaperId,
+                                          @HeaderParam("Range") String range,
+                                          @HeaderParam("If-Range") String ifRange) {
+        return serve(() -> downloadService.findPastPaperFile(pastPaperId), range, ifRange);
+    }
+
+    private Response serve(Supplier<Optional<java.nio.file.Path>> lookup, String range, String ifRange) {
+        try {
+            Optional<java.nio.file.Path> found = lookup.get();
+            if (found.isEmpty()) {
+                return notFound("File not found");
+            }
+            java.nio.file.Path file = found.get();
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long length = attributes.size();
+            EntityTag etag = entityTag(file, attributes);
+            // HTTP dates have whole-second precision; compare at that precision or a 304 never matches
+            Date lastModified = new Date(attributes.lastModifiedTime().to(TimeUnit.SECONDS) * 1000);
+            CacheControl cacheControl = new CacheControl();
+            cacheControl.setNoCache(true);
+
+            Response.ResponseBuilder notModified = httpRequest.evaluatePreconditions(lastModified, etag);
+            if (notModified != null) {
+                return notModified.cacheControl(cacheControl).lastModified(lastModified).build();
+            }
+
+            ByteRange byteRange = rangeStillValid(ifRange, etag, lastModified)
+                ? ByteRange.parse(range, length)
+                : null;
+            long start = byteRange != null ? byteRange.start() : 0;
+            long count = byteRange != null ? byteRange.length() : length;
+
+            Response.ResponseBuilder builder = byteRange != null
+                ? Response.status(Response.Status.PARTIAL_CONTENT).header(CONTENT_RANGE, byteRange.contentRange(length))
+                : Response.ok();
+            return builder
+                .entity(transfer(file, start, count))
+                .type(mediaType(file))
+                .header(HttpHeaders.CONTENT_LENGTH, count)
+                .header(ACCEPT_RANGES, "bytes")
+                .header("Content-Disposition", "attachment; filename=\"" + file.getFileName() + "\"")
+                .tag(etag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .build();
+        } catch (UnsatisfiableRangeException e) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(CONTENT_RANGE, "bytes */" + e.getFileLength())
+                .build();
+        } catch (Exception e) {
+            return serverError("Failed to download file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the region with {@link FileChannel#transferTo}, which hands the work to the kernel
+     * where the target allows it and never stages the file in heap.
+     */
+    private static StreamingOutput transfer(java.nio.file.Path file, long start, long count) {
+        return output -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(output);
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long written = channel.transferTo(position, remaining, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    position += written;
+                    remaining -= written;
+                }
+            }
+            output.flush();
+        };
+    }
+
+    // A blob is named after its SHA-256 and never rewritten, so the hash is its tag. Other files
+    // use size plus modification time in nanoseconds: any rewrite of the file changes one of them,
+    // and neither needs the content to be read
+    private static EntityTag entityTag(java.nio.file.Path file, BasicFileAttributes attributes) {
+        Optional<String> hash = ContentAddressedStore.contentHash(file);
+        if (hash.isPresent()) {
+            return new EntityTag(hash.get());
+        }
+        long modified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+        return new EntityTag(Long.toHexString(attributes.size()) + "-" + Long.toHexString(modified));
+    }
+
+    // A range is only applied if the client's copy is still the current one (RFC 9110 13.1.5)
+    private static boolean rangeStillValid(String ifRange, EntityTag etag, Date lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"")) {
+            return value.equals("\"" + etag.getValue() + "\"");
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .toInstant().toEpochMilli() == lastModified.getTime();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    // Uses the mime-mapping entries in web.xml
+    private MediaType mediaType(java.nio.file.Path file) {
+        String type = request != null
+            ? request.getServletContext().getMimeType(file.getFileName().toString())
+            : null;
+        return type != null ? MediaType.valueOf(type) : MediaType.APPLICATION_OCTET_STREAM_TYPE;
+    }
+}
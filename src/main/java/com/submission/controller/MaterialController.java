@@ -0,0 +1,78 @@
+package com.submission.controller;
+
+import com.submission.dto.ApiResponse;
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.service.MaterialService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+
+/**
+ * Note and past paper uploads. The request body is the file itself and the details are query
+ * parameters, so the body streams to storage without being buffered. The created file is
+ * served from {@link DownloadController}.
+ */
+@Path("/api/materials")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+public class MaterialController extends BaseController {
+
+    @Inject
+    private MaterialService materialService;
+
+    @POST
+    @Path("/notes")
+    public Response uploadNote(@QueryParam("title") String title,
+                               @QueryParam("subject") String subject,
+                               @QueryParam("academicYear") String academicYear,
+                               @QueryParam("fileName") String fileName,
+                               InputStream body) {
+        try {
+            Note note = materialService.uploadNote(getCurrentTeacherId(), title, subject, academicYear,
+                fileName, Channels.newChannel(body));
+            return Response.created(URI.create("/api/files/notes/" + note.getId()))
+                .entity(ApiResponse.success("Note uploaded successfully", note.getId()))
+                .build();
+        } catch (SecurityException e) {
+            return unauthorized(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        } catch (IOException e) {
+            return serverError("Upload interrupted: " + e.getMessage());
+        } catch (Exception e) {
+            return serverError("Failed to upload note: " + e.getMessage());
+        }
+    }
+
+    @POST
+    @Path("/past-papers")
+    public Response uploadPastPaper(@QueryParam("title") String title,
+                                    @QueryParam("description") String description,
+                                    @QueryParam("examYear") Integer examYear,
+                                    @QueryParam("examType") ExamType examType,
+                                    @QueryParam("fileName") String fileName,
+                                    InputStream body) {
+        try {
+            PastPaper pastPaper = materialService.uploadPastPaper(getCurrentTeacherId(), title, description,
+                examYear, examType, fileName, Channels.newChannel(body));
+            return Response.created(URI.create("/api/files/past-papers/" + pastPaper.getId()))
+                .entity(ApiResponse.success("Past paper uploaded successfully", pastPaper.getId()))
+                .build();
+        } catch (SecurityException e) {
+            return unauthorized(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        } catch (IOException e) {
+            return serverError("Upload interrupted: " + e.getMessage());
+        } catch (Exception e) {
+            return serverError("Failed to upload past paper: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.submission.controller;
+
+import com.submission.operation.OperationTracker;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Status of background operations started by the current teacher, such as an assignment
+ * deletion. Other teachers' operations are reported as not found.
+ */
+@Path("/api/operations")
+@Produces(MediaType.APPLICATION_JSON)
+public class OperationController extends BaseController {
+
+    @Inject
+    private OperationTracker operationTracker;
+
+    @GET
+    @Path("/{id}")
+    public Response getOperation(@PathParam("id") String operationId) {
+        try {
+            Long teacherId = getCurrentTeacherId();
+            return operationTracker.find(operationId, teacherId)
+                .map(operation -> ok("Operation retrieved successfully", operation))
+                .orElse(notFound("Operation not found"));
+        } catch (Exception e) {
+            return serverError("Failed to retrieve operation: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.submission.controller;
+
+import com.submission.dto.ApiResponse;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+/**
+ * Decides which thread produces a suspended request's response. By default that is the
+ * container thread that received it, as before. With {@value #MODE_PROPERTY} set the work is
+ * handed off and the container thread goes back to its pool while the work blocks on JDBC or
+ * bcrypt:
+ *
+ * <ul>
+ *   <li>{@code virtual}: a virtual thread per request. With {@value #THREAD_FACTORY_PROPERTY}
+ *       set, the threads come from that managed thread factory instead, so EJB calls and
+ *       transactions work on them as on a request thread; name one that makes virtual threads,
+ *       e.g. defined with Jakarta Concurrency 3.1's
+ *       {@code @ManagedThreadFactoryDefinition(virtual = true)}, as the default factory makes
+ *       platform threads. Before Java 21 the managed executor is used instead.</li>
+ *   <li>{@code managed}: the container's default {@code ManagedExecutorService}.</li>
+ * </ul>
+ *
+ * Handing off does not add database connections. At most {@value #MAX_IN_FLIGHT_PROPERTY}
+ * requests are in flight; anything beyond that is answered with a 503 and Retry-After, as it
+ * never started. A GET or HEAD still running after {@link #TIMEOUT_SECONDS} is answered with a
+ * 504. Other methods are never timed out: their work may still commit, and a client told to
+ * retry would apply it twice.
+ */
+@ApplicationScoped
+public class RequestDispatcher {
+
+    public static final String MODE_PROPERTY = "submission.dispatch.mode";
+    public static final String MAX_IN_FLIGHT_PROPERTY = "submission.dispatch.maxInFlight";
+    public static final String THREAD_FACTORY_PROPERTY = "submission.dispatch.threadFactory";
+    static final int DEFAULT_MAX_IN_FLIGHT = 2048;
+    static final long TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDispatcher.class);
+    private static final String DEFAULT_MANAGED_EXECUTOR = "java:comp/DefaultManagedExecutorService";
+
+    private final Executor executor;
+    private final Semaphore inFlight;
+    // Shut down with this bean; the container's executor and thread factory belong to the container
+    private final ExecutorService ownedExecutor;
+
+    public RequestDispatcher() {
+        String mode = System.getProperty(MODE_PROPERTY, "inline");
+        String threadFactoryName = System.getProperty(THREAD_FACTORY_PROPERTY);
+        ThreadFactory threadFactory = "virtual".equals(mode) && threadFactoryName != null
+            ? managedThreadFactory(threadFactoryName)
+            : null;
+        this.ownedExecutor = "virtual".equals(mode) && threadFactory == null ? virtualThreadExecutor() : null;
+        if (threadFactory != null) {
+            this.executor = threadPerTask(threadFactory);
+        } else if (ownedExecutor != null) {
+            this.executor = ownedExecutor;
+        } else if ("virtual".equals(mode) || "managed".equals(mode)) {
+            if ("virtual".equals(mode)) {
+                logger.warn("Virtual threads need Java 21 or later; dispatching on the managed executor");
+            }
+            this.executor = managedExecutor();
+        } else {
+            this.executor = null;
+        }
+        this.inFlight = new Semaphore(Integer.getInteger(MAX_IN_FLIGHT_PROPERTY, DEFAULT_MAX_IN_FLIGHT));
+    }
+
+    /**
+     * @param executor where work runs, or null to run it on the calling thread
+     */
+    public RequestDispatcher(Executor executor, int maxInFlight) {
+        this.executor = executor;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.ownedExecutor = null;
+    }
+
+    /**
+     * Resumes {@code async} with the response {@code work} produces. The work may run on
+     * another thread, so it must not read the request or the security context.
+     *
+     * @param method the request's HTTP method; only GET and HEAD are timed out
+     */
+    public void dispatch(AsyncResponse async, String method, Supplier<Response> work) {
+        if (executor == null) {
+            async.resume(work.get());
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            async.resume(busy());
+            return;
+        }
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) {
+            async.setTimeoutHandler(timedOut -> timedOut.resume(timedOut()));
+            async.setTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    async.resume(work.get());
+                } catch (RuntimeException e) {
+                    async.resume(e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            async.resume(busy());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * An executor that starts a virtual thread per task, or null on runtimes before Java 21.
+     */
+    public static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Starts each task on a new thread from {@code threadFactory}.
+     */
+    static Executor threadPerTask(ThreadFactory threadFactory) {
+        return task -> {
+            Thread thread = threadFactory.newThread(task);
+            // A managed thread factory returns null once the application is stopping
+            if (thread == null) {
+                throw new RejectedExecutionException("Thread factory is shut down");
+            }
+            thread.start();
+        };
+    }
+
+    private static ThreadFactory managedThreadFactory(String name) {
+        try {
+            return (ThreadFactory) new InitialContext().lookup(name);
+        } catch (NamingException e) {
+            logger.warn("No managed thread factory at {}; dispatching on plain virtual threads", name);
+            return null;
+        }
+    }
+
+    private static Executor managedExecutor() {
+        try {
+            return (Executor) new InitialContext().lookup(DEFAULT_MANAGED_EXECUTOR);
+        } catch (NamingException e) {
+            logger.warn("No managed executor at {}; requests run on container threads", DEFAULT_MANAGED_EXECUTOR);
+            return null;
+        }
+    }
+
+    // No Retry-After: the read may still finish, and the client decides whether to ask again
+    private static Response timedOut() {
+        return Response.status(Response.Status.GATEWAY_TIMEOUT)
+            .entity(ApiResponse.error("The request took too long"))
+            .build();
+    }
+
+    private static Response busy() {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, 1)
+            .entity(ApiResponse.error("Server is busy, please try again"))
+            .build();
+    }
+}
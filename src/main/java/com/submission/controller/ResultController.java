@@ -1,12 +1,25 @@
 package com.submission.controller;
 
+import com.submission.dto.AppealClaim;
+import com.submission.dto.AppealDecisionRequest;
+import com.submission.dto.GradeOutcome;
 import com.submission.dto.GradeRequest;
 import com.submission.model.Result;
+import com.submission.service.AppealNotClaimedException;
 import com.submission.service.ResultService;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Path("/api/results")
@@ -19,84 +32,196 @@ public class ResultController extends BaseController {
 
     @POST
     @Path("/submissions/{submissionId}/grade")
-    public Response gradeSubmission(
+    public void gradeSubmission(
             @PathParam("submissionId") Long submissionId,
-            GradeRequest gradeRequest) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            Result result = resultService.gradeSubmission(
-                submissionId,
-                teacherId,
-                gradeRequest.getGrade(),
-                gradeRequest.getRemarks()
-            );
-            return ok("Submission graded successfully", result);
-        } catch (IllegalArgumentException e) {
-            return error(e.getMessage());
-        } catch (Exception e) {
-            return serverError("Failed to grade submission: " + e.getMessage());
-        }
+            GradeRequest gradeRequest,
+            @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                Result result = resultService.gradeSubmission(
+                    submissionId,
+                    teacherId,
+                    gradeRequest.getGrade(),
+                    gradeRequest.getRemarks()
+                );
+                return ok("Submission graded successfully", result);
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to grade submission: " + e.getMessage());
+            }
+        });
+    }
+
+    @POST
+    @Path("/grades")
+    public void gradeSubmissions(List<GradeRequest> gradeRequests, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                List<GradeOutcome> outcomes = resultService.gradeSubmissions(gradeRequests, teacherId);
+                return ok("Grades processed", outcomes);
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to grade submissions: " + e.getMessage());
+            }
+        });
     }
 
     @GET
     @Path("/assignments/{assignmentId}")
-    public Response getResultsByAssignment(@PathParam("assignmentId") Long assignmentId) {
+    public void getResultsByAssignment(@PathParam("assignmentId") Long assignmentId,
+                                       @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                List<Result> results = resultService.getResultsByAssignment(assignmentId, teacherId);
+                return ok("Results retrieved successfully", results);
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to retrieve results: " + e.getMessage());
+            }
+        });
+    }
+
+    @GET
+    @Path("/assignments/{assignmentId}/export")
+    @Produces({"application/x-ndjson", "text/csv"})
+    public Response exportResultsByAssignment(
+            @PathParam("assignmentId") Long assignmentId,
+            @QueryParam("format") String format) {
         try {
             Long teacherId = getCurrentTeacherId();
-            List<Result> results = resultService.getResultsByAssignment(assignmentId, teacherId);
-            return ok("Results retrieved successfully", results);
+            ResultExportFormat exportFormat = ResultExportFormat.fromParameter(format);
+            // Fail fast with a JSON error before any body bytes are committed
+            resultService.verifyAssignmentOwnership(assignmentId, teacherId);
+
+            StreamingOutput body = output -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                exportFormat.writeHeader(writer);
+                try {
+                    resultService.exportResultsByAssignment(assignmentId, teacherId, row -> {
+                        try {
+                            exportFormat.writeRow(writer, row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                writer.flush();
+            };
+
+            String extension = exportFormat == ResultExportFormat.CSV ? "csv" : "ndjson";
+            return Response.ok(body, exportFormat.mediaType())
+                .header("Content-Disposition",
+                    "attachment; filename=\"assignment-" + assignmentId + "-results." + extension + "\"")
+                .build();
         } catch (IllegalArgumentException e) {
             return error(e.getMessage());
         } catch (Exception e) {
-            return serverError("Failed to retrieve results: " + e.getMessage());
+            return serverError("Failed to export results: " + e.getMessage());
         }
     }
 
     @GET
     @Path("/submissions/{submissionId}")
-    public Response getResult(@PathParam("submissionId") Long submissionId) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            return resultService.getResult(submissionId, teacherId)
-                .map(result -> ok("Result retrieved successfully", result))
-                .orElse(notFound("Result not found"));
-        } catch (Exception e) {
-            return serverError("Failed to retrieve result: " + e.getMessage());
-        }
+    public void getResult(@PathParam("submissionId") Long submissionId, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                return resultService.getResult(submissionId, teacherId)
+                    .map(result -> ok("Result retrieved successfully", result))
+                    .orElse(notFound("Result not found"));
+            } catch (Exception e) {
+                return serverError("Failed to retrieve result: " + e.getMessage());
+            }
+        });
     }
 
     @PUT
     @Path("/submissions/{submissionId}/grade")
-    public Response updateGrade(
+    public void updateGrade(
             @PathParam("submissionId") Long submissionId,
-            GradeRequest gradeRequest) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            Result result = resultService.updateGrade(
-                submissionId,
-                teacherId,
-                gradeRequest.getGrade(),
-                gradeRequest.getRemarks()
-            );
-            return ok("Grade updated successfully", result);
-        } catch (IllegalArgumentException e) {
-            return error(e.getMessage());
-        } catch (Exception e) {
-            return serverError("Failed to update grade: " + e.getMessage());
-        }
+            GradeRequest gradeRequest,
+            @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                Result result = resultService.updateGrade(
+                    submissionId,
+                    teacherId,
+                    gradeRequest.getGrade(),
+                    gradeRequest.getRemarks()
+                );
+                return ok("Grade updated successfully", result);
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to update grade: " + e.getMessage());
+            }
+        });
     }
 
     @DELETE
     @Path("/submissions/{submissionId}/grade")
-    public Response deleteGrade(@PathParam("submissionId") Long submissionId) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            resultService.deleteGrade(submissionId, teacherId);
-            return ok("Grade deleted successfully");
-        } catch (IllegalArgumentException e) {
-            return error(e.getMessage());
-        } catch (Exception e) {
-            return serverError("Failed to delete grade: " + e.getMessage());
-        }
+    public void deleteGrade(@PathParam("submissionId") Long submissionId, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                resultService.deleteGrade(submissionId, teacherId);
+                return ok("Grade deleted successfully");
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to delete grade: " + e.getMessage());
+            }
+        });
+    }
+
+    @POST
+    @Path("/appeals/claim")
+    public void claimAppeals(@QueryParam("limit") Integer limit, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                List<AppealClaim> claims = resultService.claimAppeals(teacherId, limit);
+                return ok("Appeals claimed", claims);
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to claim appeals: " + e.getMessage());
+            }
+        });
+    }
+
+    @PUT
+    @Path("/submissions/{submissionId}/appeal")
+    public void updateAppealStatus(
+            @PathParam("submissionId") Long submissionId,
+            AppealDecisionRequest decision,
+            @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                Result result = resultService.updateAppealStatus(
+                    submissionId,
+                    teacherId,
+                    decision.getStatus(),
+                    decision.getRemarks()
+                );
+                return ok("Appeal updated successfully", result);
+            } catch (AppealNotClaimedException e) {
+                return conflict(e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to update appeal: " + e.getMessage());
+            }
+        });
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
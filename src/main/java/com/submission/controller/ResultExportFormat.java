@@ -0,0 +1,84 @@
+package com.submission.controller;
+
+import com.submission.dto.ResultExportRow;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Line-oriented encodings supported by the results export endpoint.
+ */
+enum ResultExportFormat {
+
+    NDJSON("application/x-ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, ResultExportRow row) throws IOException {
+            writer.write(JSONB.toJson(row));
+            writer.write('\n');
+        }
+    },
+
+    CSV("text/csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("result_id,student_id,grade,status,remarks\r\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, ResultExportRow row) throws IOException {
+            writer.write(String.valueOf(row.resultId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.studentId()));
+            writer.write(',');
+            writer.write(escape(row.grade()));
+            writer.write(',');
+            writer.write(row.status() != null ? row.status().name() : "");
+            writer.write(',');
+            writer.write(escape(row.remarks()));
+            writer.write("\r\n");
+        }
+
+        private String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    };
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    private final String mediaType;
+
+    ResultExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    String mediaType() {
+        return mediaType;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, ResultExportRow row) throws IOException;
+
+    static ResultExportFormat fromParameter(String format) {
+        if (format == null || format.trim().isEmpty()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+}
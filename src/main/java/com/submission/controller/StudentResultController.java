@@ -0,0 +1,47 @@
+package com.submission.controller;
+
+import com.submission.dto.Page;
+import com.submission.dto.StudentResultSummary;
+import com.submission.service.ResultService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.MediaType;
+import java.security.Principal;
+
+/**
+ * A student's own results, newest deadline first. Restricted to the STUDENT role in web.xml;
+ * the principal name is the student ID, and students only see their own results.
+ */
+@Path("/api/students/{studentId}/results")
+@Produces(MediaType.APPLICATION_JSON)
+public class StudentResultController extends BaseController {
+
+    @Inject
+    private ResultService resultService;
+
+    @GET
+    public void getResults(@PathParam("studentId") Long studentId,
+                           @QueryParam("cursor") String cursor,
+                           @QueryParam("limit") Integer limit,
+                           @Suspended AsyncResponse async) {
+        // Read the security context on the request thread, before dispatching
+        Principal principal = securityContext.getUserPrincipal();
+        if (principal == null || !securityContext.isUserInRole("STUDENT")
+                || !principal.getName().equals(String.valueOf(studentId))) {
+            async.resume(forbidden("Not authorized to view these results"));
+            return;
+        }
+        dispatch(async, () -> {
+            try {
+                Page<StudentResultSummary> page = resultService.getStudentResults(studentId, cursor, limit);
+                return ok("Results retrieved successfully", page.getItems(), page.getNextCursor());
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to retrieve results: " + e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.submission.controller;
+
+import com.submission.dto.ApiResponse;
+import com.submission.dto.UploadRequest;
+import com.submission.dto.UploadStatus;
+import com.submission.ingest.IngestCapacityExceededException;
+import com.submission.service.UploadService;
+import com.submission.storage.UploadConflictException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.security.Principal;
+
+/**
+ * Resumable submission uploads. A client declares the file with POST, sends the bytes with one
+ * or more PATCH requests carrying {@code Upload-Offset}, and after an interruption asks for the
+ * stored offset with HEAD and continues from there. The submission exists once the last byte
+ * has been received.
+ *
+ * <p>Restricted to the STUDENT role in web.xml. The principal name is the student ID: uploads
+ * are always the caller's own, and another student's upload id is answered as not found.
+ */
+@Path("/api/uploads")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class SubmissionUploadController extends BaseController {
+
+    static final String UPLOAD_OFFSET = "Upload-Offset";
+    static final String UPLOAD_LENGTH = "Upload-Length";
+    static final String OFFSET_OCTET_STREAM = "application/offset+octet-stream";
+
+    @Inject
+    private UploadService uploadService;
+
+    @POST
+    public Response beginUpload(UploadRequest request) {
+        Long studentId = currentStudentId();
+        if (studentId == null) {
+            return forbidden("Only students can upload submissions");
+        }
+        try {
+            UploadStatus status = uploadService.beginUpload(studentId, request);
+            return Response.created(URI.create("/api/uploads/" + status.uploadId()))
+                .header(UPLOAD_OFFSET, status.offset())
+                .header(UPLOAD_LENGTH, status.length())
+                .entity(ApiResponse.success("Upload started", status))
+                .build();
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        } catch (Exception e) {
+            return serverError("Failed to start upload: " + e.getMessage());
+        }
+    }
+
+    @HEAD
+    @Path("/{uploadId}")
+    public Response getUploadOffset(@PathParam("uploadId") String uploadId) {
+        Long studentId = currentStudentId();
+        if (studentId == null) {
+            return Response.status(Response.Status.FORBIDDEN).build();
+        }
+        try {
+            UploadStatus status = uploadService.getUploadStatus(uploadId, studentId);
+            return Response.ok()
+                .header(UPLOAD_OFFSET, status.offset())
+                .header(UPLOAD_LENGTH, status.length())
+                .header("Cache-Control", "no-store")
+                .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+    }
+
+    @PATCH
+    @Path("/{uploadId}")
+    @Consumes({OFFSET_OCTET_STREAM, MediaType.APPLICATION_OCTET_STREAM})
+    public Response appendChunk(@PathParam("uploadId") String uploadId,
+                                @HeaderParam(UPLOAD_OFFSET) Long offset,
+                                InputStream body) {
+        Long studentId = currentStudentId();
+        if (studentId == null) {
+            return forbidden("Only students can upload submissions");
+        }
+        if (offset == null || offset < 0) {
+            return error(UPLOAD_OFFSET + " header is required");
+        }
+        try {
+            UploadStatus status = uploadService.appendChunk(uploadId, studentId, offset, Channels.newChannel(body));
+            String message = status.complete() ? "Upload complete" : "Chunk received";
+            return Response.ok(ApiResponse.success(message, status))
+                .header(UPLOAD_OFFSET, status.offset())
+                .build();
+        } catch (UploadConflictException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .header(UPLOAD_OFFSET, e.getCurrentOffset())
+                .entity(ApiResponse.error(e.getMessage()))
+                .build();
+        } catch (IngestCapacityExceededException e) {
+            return serviceUnavailable(e.getMessage(), 1);
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        } catch (IOException e) {
+            // The bytes that arrived are kept; the client resumes from the offset HEAD reports
+            return serverError("Upload interrupted: " + e.getMessage());
+        } catch (Exception e) {
+            return serverError("Failed to store chunk: " + e.getMessage());
+        }
+    }
+
+    @DELETE
+    @Path("/{uploadId}")
+    public Response cancelUpload(@PathParam("uploadId") String uploadId) {
+        Long studentId = currentStudentId();
+        if (studentId == null) {
+            return forbidden("Only students can upload submissions");
+        }
+        try {
+            uploadService.cancelUpload(uploadId, studentId);
+            return ok("Upload cancelled");
+        } catch (IllegalArgumentException e) {
+            return notFound(e.getMessage());
+        } catch (Exception e) {
+            return serverError("Failed to cancel upload: " + e.getMessage());
+        }
+    }
+
+    private Long currentStudentId() {
+        Principal principal = securityContext.getUserPrincipal();
+        if (principal == null || !securityContext.isUserInRole("STUDENT")) {
+            return null;
+        }
+        return Long.valueOf(principal.getName());
+    }
+}
@@ -1,14 +1,24 @@
 package com.submission.controller;
 
 import com.submission.dto.LoginRequest;
+import com.submission.dto.LoginResponse;
 import com.submission.dto.TeacherDTO;
 import com.submission.model.Teacher;
+import com.submission.operation.OperationCapacityExceededException;
+import com.submission.operation.OperationTracker;
+import com.submission.security.HashingCapacityExceededException;
+import com.submission.security.LoginAttemptLimiter;
+import com.submission.security.SessionTokenStore.IssuedToken;
 import com.submission.service.TeacherService;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 @Path("/api/teacher")
@@ -19,95 +29,148 @@ public class TeacherController extends BaseController {
     @Inject
     private TeacherService teacherService;
 
+    @Inject
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Inject
+    private OperationTracker operationTracker;
+
     @POST
     @Path("/login")
-    public Response login(LoginRequest loginRequest) {
-        try {
-            return teacherService.authenticateTeacher(loginRequest.getEmail(), loginRequest.getPassword())
-                .map(teacher -> ok("Login successful", toDTO(teacher)))
-                .orElse(unauthorized("Invalid email or password"));
-        } catch (Exception e) {
-            return serverError("Login failed: " + e.getMessage());
-        }
+    public void login(LoginRequest loginRequest, @Suspended AsyncResponse async) {
+        // Read from the request before the work may leave this thread
+        String clientAddress = request != null ? request.getRemoteAddr() : null;
+        dispatch(async, () -> {
+            try {
+                String email = loginRequest.getEmail();
+                long retryAfter = loginAttemptLimiter.tryAcquire(email, clientAddress);
+                if (retryAfter > 0) {
+                    return tooManyRequests("Too many login attempts, please try again later", retryAfter);
+                }
+                return teacherService.authenticateTeacher(email, loginRequest.getPassword())
+                    .map(teacher -> {
+                        loginAttemptLimiter.recordSuccess(email);
+                        IssuedToken token = sessionTokenStore.issue(teacher.getId());
+                        return ok("Login successful",
+                            new LoginResponse(token.token(), token.expiresAt(), toDTO(teacher)));
+                    })
+                    .orElse(unauthorized("Invalid email or password"));
+            } catch (HashingCapacityExceededException e) {
+                return serviceUnavailable(e.getMessage(), 1);
+            } catch (Exception e) {
+                return serverError("Login failed: " + e.getMessage());
+            }
+        });
+    }
+
+    @POST
+    @Path("/logout")
+    public Response logout() {
+        sessionTokenStore.revoke(getBearerToken());
+        return ok("Logout successful");
     }
 
+    /**
+     * Registration spends most of its time in bcrypt, so it completes on the operation pool and
+     * the request thread is released straight away.
+     */
     @POST
     @Path("/register")
-    public Response register(TeacherDTO teacherDTO) {
+    public CompletionStage<Response> register(TeacherDTO teacherDTO) {
         try {
-            if (teacherService.isEmailAvailable(teacherDTO.getEmail())) {
-                Teacher teacher = teacherService.registerTeacher(
-                    teacherDTO.getFirstName(),
-                    teacherDTO.getLastName(),
-                    teacherDTO.getEmail(),
-                    teacherDTO.getPassword()
-                );
-                return ok("Registration successful", toDTO(teacher));
-            } else {
-                return error("Email already exists");
-            }
-        } catch (Exception e) {
-            return serverError("Registration failed: " + e.getMessage());
+            return operationTracker.supply(() -> {
+                try {
+                    if (teacherService.isEmailAvailable(teacherDTO.getEmail())) {
+                        Teacher teacher = teacherService.registerTeacher(
+                            teacherDTO.getFirstName(),
+                            teacherDTO.getLastName(),
+                            teacherDTO.getEmail(),
+                            teacherDTO.getPassword()
+                        );
+                        return ok("Registration successful", toDTO(teacher));
+                    } else {
+                        return error("Email already exists");
+                    }
+                } catch (HashingCapacityExceededException e) {
+                    return serviceUnavailable(e.getMessage(), 1);
+                } catch (Exception e) {
+                    return serverError("Registration failed: " + e.getMessage());
+                }
+            });
+        } catch (OperationCapacityExceededException e) {
+            return CompletableFuture.completedFuture(serviceUnavailable(e.getMessage(), 1));
         }
     }
 
     @GET
     @Path("/profile")
-    public Response getProfile() {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            return teacherService.findTeacherById(teacherId)
-                .map(teacher -> ok("Profile retrieved successfully", toDTO(teacher)))
-                .orElse(notFound("Teacher not found"));
-        } catch (Exception e) {
-            return serverError("Failed to retrieve profile: " + e.getMessage());
-        }
+    public void getProfile(@Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                return teacherService.findTeacherById(teacherId)
+                    .map(teacher -> ok("Profile retrieved successfully", toDTO(teacher)))
+                    .orElse(notFound("Teacher not found"));
+            } catch (Exception e) {
+                return serverError("Failed to retrieve profile: " + e.getMessage());
+            }
+        });
     }
 
     @PUT
     @Path("/profile")
-    public Response updateProfile(TeacherDTO teacherDTO) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            Teacher teacher = teacherService.findTeacherById(teacherId)
-                .orElseThrow(() -> new IllegalArgumentException("Teacher not found"));
-            teacher.setFirstName(teacherDTO.getFirstName());
-            teacher.setLastName(teacherDTO.getLastName());
-            Teacher updatedTeacher = teacherService.updateTeacher(teacher);
-            return ok("Profile updated successfully", toDTO(updatedTeacher));
-        } catch (IllegalArgumentException e) {
-            return error(e.getMessage());
-        } catch (Exception e) {
-            return serverError("Failed to update profile: " + e.getMessage());
-        }
+    public void updateProfile(TeacherDTO teacherDTO, @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                Teacher teacher = teacherService.findTeacherById(teacherId)
+                    .orElseThrow(() -> new IllegalArgumentException("Teacher not found"));
+                teacher.setFirstName(teacherDTO.getFirstName());
+                teacher.setLastName(teacherDTO.getLastName());
+                Teacher updatedTeacher = teacherService.updateTeacher(teacher);
+                return ok("Profile updated successfully", toDTO(updatedTeacher));
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (Exception e) {
+                return serverError("Failed to update profile: " + e.getMessage());
+            }
+        });
     }
 
     @PUT
     @Path("/password")
-    public Response changePassword(@QueryParam("currentPassword") String currentPassword,
-                                 @QueryParam("newPassword") String newPassword) {
-        try {
-            Long teacherId = getCurrentTeacherId();
-            teacherService.updatePassword(teacherId, currentPassword, newPassword);
-            return ok("Password changed successfully");
-        } catch (IllegalArgumentException e) {
-            return error(e.getMessage());
-        } catch (Exception e) {
-            return serverError("Failed to change password: " + e.getMessage());
-        }
+    public void changePassword(@QueryParam("currentPassword") String currentPassword,
+                                 @QueryParam("newPassword") String newPassword,
+                                 @Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                Long teacherId = getCurrentTeacherId();
+                teacherService.updatePassword(teacherId, currentPassword, newPassword);
+                sessionTokenStore.revokeAll(teacherId);
+                return ok("Password changed successfully");
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            } catch (HashingCapacityExceededException e) {
+                return serviceUnavailable(e.getMessage(), 1);
+            } catch (Exception e) {
+                return serverError("Failed to change password: " + e.getMessage());
+            }
+        });
     }
 
     @GET
     @Path("/list")
-    public Response getAllTeachers() {
-        try {
-            List<TeacherDTO> teachers = teacherService.getAllTeachers().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-            return ok("Teachers retrieved successfully", teachers);
-        } catch (Exception e) {
-            return serverError("Failed to retrieve teachers: " + e.getMessage());
-        }
+    public void getAllTeachers(@Suspended AsyncResponse async) {
+        dispatch(async, () -> {
+            try {
+                List<TeacherDTO> teachers = teacherService.getAllTeachers().stream()
+                    .map(this::toDTO)
+                    .collect(Collectors.toList());
+                return ok("Teachers retrieved successfully", teachers);
+            } catch (Exception e) {
+                return serverError("Failed to retrieve teachers: " + e.getMessage());
+            }
+        });
     }
 
     private TeacherDTO toDTO(Teacher teacher) {
@@ -1,18 +1,50 @@
 package com.submission.dao;
 
+import com.submission.dto.AssignmentDetail;
+import com.submission.dto.AssignmentStats;
+import com.submission.dto.AssignmentSummary;
+import com.submission.dto.DeadlineEntry;
 import com.submission.model.Assignment;
 import com.submission.model.Teacher;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AssignmentDAO {
     Assignment save(Assignment assignment);
+
+    /**
+     * Persists all assignments and flushes once, so their inserts go to the database in JDBC
+     * batches rather than one round-trip each.
+     */
+    List<Assignment> saveAll(List<Assignment> assignments);
+
     Optional<Assignment> findById(Long id);
     boolean exists(Long id);
     void deleteById(Long id);
     List<Assignment> findByTeacher(Teacher teacher);
     List<Assignment> findByTeacherId(Long teacherId);
+
+    /**
+     * Projection of a single assignment, read without loading the entity.
+     */
+    Optional<AssignmentDetail> findDetailById(Long id);
+
+    /**
+     * An unloaded reference to an assignment known to exist, for setting associations.
+     */
+    Assignment getReference(Long id);
+
+    /**
+     * Keyset page of a teacher's assignments ordered by {@code (deadline, id)}, as summaries.
+     *
+     * @param teacherId owning teacher
+     * @param afterDeadline deadline of the last row on the previous page, or null for the first page
+     * @param afterId id of the last row on the previous page, or null for the first page
+     * @param limit maximum number of rows to return
+     */
+    List<AssignmentSummary> findSummariesByTeacherIdAfter(Long teacherId, LocalDateTime afterDeadline, Long afterId, int limit);
     List<Assignment> findByDeadlineBefore(LocalDateTime deadline);
     List<Assignment> findByDeadlineAfter(LocalDateTime deadline);
     List<Assignment> findAssignmentsByDeadlineRange(LocalDateTime start, LocalDateTime end);
@@ -23,5 +55,41 @@ public interface AssignmentDAO {
     List<Assignment> findAll();
     boolean hasSubmissions(Long assignmentId);
     long countSubmissionsByAssignmentId(Long assignmentId);
-    void deleteAssignmentAndRelatedData(Long assignmentId);
+
+    /**
+     * Submission, graded and late counts for all of a teacher's assignments in one grouped query.
+     */
+    List<AssignmentStats> findStatsByTeacherId(Long teacherId);
+
+    /**
+     * The given assignment ids that belong to the teacher; ids of other teachers' assignments
+     * and of missing ones are left out.
+     */
+    List<Long> findIdsOwnedBy(Long teacherId, Collection<Long> assignmentIds);
+
+    /**
+     * Deletes the assignments together with their submissions and results, in bulk statements
+     * within the caller's transaction. Student timeline rows go with the results.
+     *
+     * @return the number of assignments deleted
+     */
+    int deleteAssignmentsAndRelatedData(Collection<Long> assignmentIds);
+
+    /**
+     * Deadlines of assignments that are not yet closed and fall at or before {@code until},
+     * earliest first.
+     */
+    List<DeadlineEntry> findOpenDeadlinesUntil(LocalDateTime until);
+
+    /**
+     * Closes every open assignment whose deadline is at or before {@code now} in one UPDATE.
+     * @return number of assignments closed
+     */
+    int closeExpiredAssignments(LocalDateTime now);
+
+    /**
+     * Marks submitted work that arrived after its assignment's deadline as late, in one UPDATE.
+     * @return number of submissions changed
+     */
+    int markLateSubmissions(Collection<Long> assignmentIds);
 } 
\ No newline at end of file
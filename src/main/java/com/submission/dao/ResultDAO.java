@@ -1,16 +1,61 @@
 package com.submission.dao;
 
+import com.submission.dto.AppealClaim;
+import com.submission.dto.GradingTarget;
+import com.submission.dto.ResultExportRow;
 import com.submission.model.Result;
 import com.submission.model.ResultStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ResultDAO extends BaseDAO<Result> {
     List<Result> findByAssignmentId(Long assignmentId);
     List<Result> findByStudentId(Long studentId);
+
+    /**
+     * Results for an assignment owned by the given teacher, with the assignment fetched.
+     * Empty both when there are no results and when the teacher does not own the assignment.
+     */
+    List<Result> findByAssignmentIdAndTeacherId(Long assignmentId, Long teacherId);
+
+    /**
+     * Streams export rows for an assignment ordered by student. The stream holds an open
+     * cursor and must be closed by the caller inside the same transaction.
+     */
+    Stream<ResultExportRow> streamExportRowsByAssignmentId(Long assignmentId);
+
+    /**
+     * Loads the given submissions with their assignments and existing results in one query.
+     * Unknown ids are simply absent from the returned list.
+     */
+    List<GradingTarget> findGradingTargets(Collection<Long> submissionIds);
+
+    Optional<GradingTarget> findGradingTarget(Long submissionId);
+
     Optional<Result> findByAssignmentAndStudentId(Long assignmentId, Long studentId);
     List<Result> findByStatus(ResultStatus status);
     List<Result> findAppealedResults();
+
+    /**
+     * Claims up to {@code limit} open appeals on the teacher's assignments, oldest first, for
+     * {@code lease}. An appeal is open while it is APPEALED and unclaimed or its lease has
+     * expired. Concurrent reviewers skip rows another reviewer is claiming, so they never
+     * receive the same appeal.
+     */
+    List<AppealClaim> claimAppeals(Long teacherId, LocalDateTime now, Duration lease, int limit);
+
     void updateGrade(Long resultId, String grade, String remarks);
-    void updateAppealStatus(Long resultId, ResultStatus status, String remarks);
+
+    /**
+     * Records a decision on an appeal {@code reviewerId} holds a claim on that is still live at
+     * {@code now}, and releases the claim. Nothing is written when the appeal is unclaimed, the
+     * claim expired or another reviewer holds it. A loaded {@code result} is refreshed.
+     *
+     * @return whether the decision was recorded
+     */
+    boolean updateAppealStatus(Result result, Long reviewerId, LocalDateTime now, ResultStatus status, String remarks);
 } 
\ No newline at end of file
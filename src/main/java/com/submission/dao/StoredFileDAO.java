@@ -0,0 +1,33 @@
+package com.submission.dao;
+
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Records and looks up the stored file paths of downloadable entities.
+ */
+public interface StoredFileDAO {
+    Optional<String> findAssignmentFilePath(Long assignmentId);
+    Optional<String> findNoteFilePath(Long noteId);
+    Optional<String> findPastPaperFilePath(Long pastPaperId);
+    /**
+     * Persists the note as uploaded by the teacher, in one transaction.
+     * @throws IllegalArgumentException if the teacher does not exist
+     */
+    Note saveNote(Long teacherId, Note note);
+    /**
+     * Persists the past paper as uploaded by the teacher, in one transaction.
+     * @throws IllegalArgumentException if the teacher does not exist
+     */
+    PastPaper savePastPaper(Long teacherId, PastPaper pastPaper);
+    /**
+     * @return every file path a note or past paper points at
+     */
+    Set<String> findMaterialFilePaths();
+    /**
+     * @return number of notes and past papers pointing at {@code filePath}
+     */
+    long countMaterialReferences(String filePath);
+}
@@ -0,0 +1,35 @@
+package com.submission.dao;
+
+import com.submission.dto.StudentResultSummary;
+import com.submission.model.Result;
+import com.submission.model.ResultStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Maintains and reads the per-student results projection ({@code student_results}).
+ */
+public interface StudentResultDAO {
+
+    /**
+     * Adds the projection row for a newly persisted result.
+     */
+    void insert(Result result);
+
+    /**
+     * Copies a result's grade, remarks and status onto its projection row.
+     */
+    void sync(Long resultId, String grade, String remarks, ResultStatus status);
+
+    /**
+     * Keyset page of a student's results ordered newest deadline first, by
+     * {@code (deadline, resultId)} descending.
+     *
+     * @param studentId the student
+     * @param beforeDeadline deadline of the last row already returned, or null for the first page
+     * @param beforeResultId result id of the last row already returned, or null for the first page
+     * @param limit maximum number of rows
+     */
+    List<StudentResultSummary> findByStudentIdBefore(Long studentId, LocalDateTime beforeDeadline,
+                                                     Long beforeResultId, int limit);
+}
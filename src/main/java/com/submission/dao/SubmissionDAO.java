@@ -0,0 +1,17 @@
+package com.submission.dao;
+
+import com.submission.model.Submission;
+import java.util.List;
+import java.util.Optional;
+
+public interface SubmissionDAO extends BaseDAO<Submission> {
+    /**
+     * Persists all submissions in one transaction. Ids come from the sequence, so the inserts
+     * are written in JDBC batches when the transaction commits.
+     */
+    List<Submission> saveAll(List<Submission> submissions);
+
+    List<Submission> findByAssignmentId(Long assignmentId);
+    boolean existsByAssignmentIdAndStudentId(Long assignmentId, Long studentId);
+    Optional<Submission> findByAssignmentIdAndStudentId(Long assignmentId, Long studentId);
+}
@@ -1,18 +1,33 @@
 package com.submission.dao.impl;
 
 import com.submission.dao.AssignmentDAO;
+import com.submission.dto.AssignmentDetail;
+import com.submission.dto.AssignmentStats;
+import com.submission.dto.AssignmentSummary;
+import com.submission.dto.DeadlineEntry;
 import com.submission.model.Assignment;
+import com.submission.model.SubmissionStatus;
 import com.submission.model.Teacher;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public class AssignmentDAOImpl implements AssignmentDAO {
     
+    // Ids per bulk statement, well inside every database's bind parameter limit
+    static final int DELETE_CHUNK_SIZE = 500;
+    private static final String TEACHER_ASSIGNMENTS_ROLE = Teacher.class.getName() + ".assignments";
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -28,11 +43,18 @@ public class AssignmentDAOImpl implements AssignmentDAO {
         if (assignment == null) {
             throw new IllegalArgumentException("Assignment cannot be null");
         }
+        // The id comes from the sequence on persist; the insert waits for the transaction's flush
         entityManager.persist(assignment);
-        entityManager.flush();
         return assignment;
     }
 
+    @Override
+    public List<Assignment> saveAll(List<Assignment> assignments) {
+        assignments.forEach(entityManager::persist);
+        entityManager.flush();
+        return assignments;
+    }
+
     @Override
     public Optional<Assignment> findById(Long id) {
         if (id == null) {
@@ -67,6 +89,48 @@ public class AssignmentDAOImpl implements AssignmentDAO {
             .getResultList();
     }
 
+    @Override
+    public Assignment getReference(Long id) {
+        return entityManager.getReference(Assignment.class, id);
+    }
+
+    @Override
+    public Optional<AssignmentDetail> findDetailById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return entityManager.createQuery(
+            "SELECT new com.submission.dto.AssignmentDetail(a.id, a.title, a.description, a.filePath, " +
+            "a.deadline, a.createdAt, a.status, a.teacher.id) " +
+            "FROM Assignment a WHERE a.id = :id", AssignmentDetail.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst();
+    }
+
+    @Override
+    public List<AssignmentSummary> findSummariesByTeacherIdAfter(Long teacherId, LocalDateTime afterDeadline,
+                                                                 Long afterId, int limit) {
+        String select = "SELECT new com.submission.dto.AssignmentSummary(a.id, a.title, a.filePath, " +
+            "a.deadline, a.status, a.teacher.id) FROM Assignment a WHERE a.teacher.id = :teacherId ";
+        TypedQuery<AssignmentSummary> query;
+        if (afterDeadline == null || afterId == null) {
+            query = entityManager.createQuery(
+                select + "ORDER BY a.deadline, a.id", AssignmentSummary.class);
+        } else {
+            query = entityManager.createQuery(
+                select +
+                "AND (a.deadline > :deadline OR (a.deadline = :deadline AND a.id > :id)) " +
+                "ORDER BY a.deadline, a.id", AssignmentSummary.class)
+                .setParameter("deadline", afterDeadline)
+                .setParameter("id", afterId);
+        }
+        return query
+            .setParameter("teacherId", teacherId)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
     @Override
     public List<Assignment> findByDeadlineBefore(LocalDateTime deadline) {
         return entityManager.createQuery(
@@ -116,38 +180,24 @@ public class AssignmentDAOImpl implements AssignmentDAO {
         if (assignment.getId() == null) {
             throw new IllegalArgumentException("Assignment ID cannot be null for update");
         }
-        return entityManager.merge(assignment);
+        Assignment merged = entityManager.merge(assignment);
+        // Results copy the title and deadline into the student timeline; only rows that
+        // differ are touched, so an edit to anything else costs one indexed no-op
+        entityManager.createQuery(
+            "UPDATE StudentResult sr SET sr.assignmentTitle = :title, sr.deadline = :deadline, " +
+            "sr.updatedAt = :now WHERE sr.assignmentId = :assignmentId " +
+            "AND (sr.assignmentTitle <> :title OR sr.deadline <> :deadline)")
+            .setParameter("title", merged.getTitle())
+            .setParameter("deadline", merged.getDeadline())
+            .setParameter("now", LocalDateTime.now())
+            .setParameter("assignmentId", merged.getId())
+            .executeUpdate();
+        return merged;
     }
 
     @Override
     public void delete(Assignment assignment) {
-        beginTransaction();
-        try {
-            // Clear persistence context to ensure fresh state
-            entityManager.clear();
-            
-            // Get a fresh managed instance
-            Assignment managedAssignment = entityManager.find(Assignment.class, assignment.getId());
-            if (managedAssignment != null) {
-                // Delete related submissions first
-                entityManager.createQuery("DELETE FROM Submission s WHERE s.assignment = :assignment")
-                    .setParameter("assignment", managedAssignment)
-                    .executeUpdate();
-                
-                // Delete related results
-                entityManager.createQuery("DELETE FROM Result r WHERE r.assignment = :assignment")
-                    .setParameter("assignment", managedAssignment)
-                    .executeUpdate();
-                
-                // Finally delete the assignment
-                entityManager.remove(managedAssignment);
-                entityManager.flush();
-            }
-            commitTransaction();
-        } catch (Exception e) {
-            rollbackTransaction();
-            throw e;
-        }
+        deleteAssignmentsAndRelatedData(List.of(assignment.getId()));
     }
 
     @Override
@@ -174,31 +224,107 @@ public class AssignmentDAOImpl implements AssignmentDAO {
     }
 
     @Override
-    public void deleteAssignmentAndRelatedData(Long assignmentId) {
-        entityManager.createQuery("DELETE FROM Submission s WHERE s.assignment.id = :assignmentId")
-            .setParameter("assignmentId", assignmentId)
-            .executeUpdate();
-            
-        entityManager.createQuery("DELETE FROM Assignment a WHERE a.id = :assignmentId")
-            .setParameter("assignmentId", assignmentId)
-            .executeUpdate();
+    public List<AssignmentStats> findStatsByTeacherId(Long teacherId) {
+        return entityManager.createQuery(
+            "SELECT new com.submission.dto.AssignmentStats(a.id, a.title, a.deadline, COUNT(s), " +
+            "COALESCE(SUM(CASE WHEN s.status = com.submission.model.SubmissionStatus.GRADED THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN s.timestamp > a.deadline THEN 1 ELSE 0 END), 0L)) " +
+            "FROM Assignment a LEFT JOIN a.submissions s " +
+            "WHERE a.teacher.id = :teacherId " +
+            "GROUP BY a.id, a.title, a.deadline " +
+            "ORDER BY a.deadline, a.id", AssignmentStats.class)
+            .setParameter("teacherId", teacherId)
+            .getResultList();
     }
 
-    private void beginTransaction() {
-        if (!entityManager.getTransaction().isActive()) {
-            entityManager.getTransaction().begin();
+    @Override
+    public List<Long> findIdsOwnedBy(Long teacherId, Collection<Long> assignmentIds) {
+        if (assignmentIds == null || assignmentIds.isEmpty()) {
+            return List.of();
         }
+        return entityManager.createQuery(
+            "SELECT a.id FROM Assignment a WHERE a.teacher.id = :teacherId AND a.id IN :ids", Long.class)
+            .setParameter("teacherId", teacherId)
+            .setParameter("ids", assignmentIds)
+            .getResultList();
     }
 
-    private void commitTransaction() {
-        if (entityManager.getTransaction().isActive()) {
-            entityManager.getTransaction().commit();
+    @Override
+    public int deleteAssignmentsAndRelatedData(Collection<Long> assignmentIds) {
+        if (assignmentIds == null || assignmentIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(assignmentIds));
+        int deleted = 0;
+        // Children first for the foreign keys; student_results rows cascade from results
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            entityManager.createQuery("DELETE FROM Submission s WHERE s.assignment.id IN :ids")
+                .setParameter("ids", chunk)
+                .executeUpdate();
+            entityManager.createQuery("DELETE FROM Result r WHERE r.assignment.id IN :ids")
+                .setParameter("ids", chunk)
+                .executeUpdate();
+            deleted += entityManager.createQuery("DELETE FROM Assignment a WHERE a.id IN :ids")
+                .setParameter("ids", chunk)
+                .executeUpdate();
         }
+        // Bulk statements go around both caches. Assignments this context already holds are
+        // detached, together with their loaded submissions and results, and taken out of a
+        // loaded teacher's collection so the flush does not cascade to them; getReference finds
+        // them without a query. The second-level cache drops the assignments and the teachers'
+        // cached assignment collections.
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        for (Long id : ids) {
+            Assignment held = entityManager.getReference(Assignment.class, id);
+            if (Hibernate.isInitialized(held)) {
+                Teacher teacher = held.getTeacher();
+                if (teacher != null && Hibernate.isInitialized(teacher)
+                        && Hibernate.isInitialized(teacher.getAssignments())) {
+                    teacher.getAssignments().remove(held);
+                }
+            }
+            entityManager.detach(held);
+            cache.evict(Assignment.class, id);
+        }
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache()
+            .evictCollectionData(TEACHER_ASSIGNMENTS_ROLE);
+        return deleted;
     }
 
-    private void rollbackTransaction() {
-        if (entityManager.getTransaction().isActive()) {
-            entityManager.getTransaction().rollback();
+    @Override
+    public List<DeadlineEntry> findOpenDeadlinesUntil(LocalDateTime until) {
+        return entityManager.createQuery(
+            "SELECT new com.submission.dto.DeadlineEntry(a.id, a.deadline) FROM Assignment a " +
+            "WHERE a.status <> :closed AND a.deadline <= :until " +
+            "ORDER BY a.deadline, a.id", DeadlineEntry.class)
+            .setParameter("closed", Assignment.STATUS_CLOSED)
+            .setParameter("until", until)
+            .getResultList();
+    }
+
+    @Override
+    public int closeExpiredAssignments(LocalDateTime now) {
+        return entityManager.createQuery(
+            "UPDATE Assignment a SET a.status = :closed " +
+            "WHERE a.status <> :closed AND a.deadline <= :now")
+            .setParameter("closed", Assignment.STATUS_CLOSED)
+            .setParameter("now", now)
+            .executeUpdate();
+    }
+
+    @Override
+    public int markLateSubmissions(Collection<Long> assignmentIds) {
+        if (assignmentIds == null || assignmentIds.isEmpty()) {
+            return 0;
         }
+        return entityManager.createQuery(
+            "UPDATE Submission s SET s.status = :late " +
+            "WHERE s.assignment.id IN :assignmentIds AND s.status = :submitted " +
+            "AND s.timestamp > (SELECT a.deadline FROM Assignment a WHERE a.id = s.assignment.id)")
+            .setParameter("late", SubmissionStatus.LATE)
+            .setParameter("submitted", SubmissionStatus.SUBMITTED)
+            .setParameter("assignmentIds", assignmentIds)
+            .executeUpdate();
     }
-}
\ No newline at end of file
+}
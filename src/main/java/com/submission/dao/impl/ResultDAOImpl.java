@@ -1,22 +1,43 @@
 package com.submission.dao.impl;
 
 import com.submission.dao.ResultDAO;
+import com.submission.dto.AppealClaim;
+import com.submission.dto.GradingTarget;
+import com.submission.dto.ResultExportRow;
 import com.submission.model.Result;
 import com.submission.model.ResultStatus;
+import com.submission.model.Submission;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.LockOptions;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Transactional
 public class ResultDAOImpl implements ResultDAO {
 
+    // Rows pulled per JDBC round-trip while streaming; keeps memory flat for any cohort size
+    static final int EXPORT_FETCH_SIZE = 500;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    public ResultDAOImpl() {
+    }
+
+    public ResultDAOImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
     @Override
     public Result save(Result result) {
         entityManager.persist(result);
@@ -76,6 +97,50 @@ public class ResultDAOImpl implements ResultDAO {
         return query.getResultList();
     }
 
+    @Override
+    public List<Result> findByAssignmentIdAndTeacherId(Long assignmentId, Long teacherId) {
+        return entityManager.createQuery(
+            "SELECT r FROM Result r JOIN FETCH r.assignment a " +
+            "WHERE a.id = :assignmentId AND a.teacher.id = :teacherId " +
+            "ORDER BY r.studentId", Result.class)
+            .setParameter("assignmentId", assignmentId)
+            .setParameter("teacherId", teacherId)
+            .getResultList();
+    }
+
+    @Override
+    public Stream<ResultExportRow> streamExportRowsByAssignmentId(Long assignmentId) {
+        return entityManager.createQuery(
+            "SELECT new com.submission.dto.ResultExportRow(r.id, r.studentId, r.grade, r.status, r.remarks) " +
+            "FROM Result r WHERE r.assignment.id = :assignmentId " +
+            "ORDER BY r.studentId", ResultExportRow.class)
+            .setParameter("assignmentId", assignmentId)
+            .setHint("org.hibernate.fetchSize", EXPORT_FETCH_SIZE)
+            .setHint("org.hibernate.readOnly", true)
+            .getResultStream();
+    }
+
+    @Override
+    public List<GradingTarget> findGradingTargets(Collection<Long> submissionIds) {
+        if (submissionIds == null || submissionIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createQuery(
+            "SELECT s, r FROM Submission s JOIN FETCH s.assignment a " +
+            "LEFT JOIN Result r ON r.assignment = a AND r.studentId = s.studentId " +
+            "WHERE s.id IN :ids", Object[].class)
+            .setParameter("ids", submissionIds)
+            .getResultList();
+        return rows.stream()
+            .map(row -> new GradingTarget((Submission) row[0], (Result) row[1]))
+            .toList();
+    }
+
+    @Override
+    public Optional<GradingTarget> findGradingTarget(Long submissionId) {
+        return findGradingTargets(List.of(submissionId)).stream().findFirst();
+    }
+
     @Override
     public Optional<Result> findByAssignmentAndStudentId(Long assignmentId, Long studentId) {
         try {
@@ -109,6 +174,51 @@ public class ResultDAOImpl implements ResultDAO {
         return query.getResultList();
     }
 
+    @Override
+    public List<AppealClaim> claimAppeals(Long teacherId, LocalDateTime now, Duration lease, int limit) {
+        // SKIP LOCKED where the dialect has it: concurrent claimers pass over each other's rows
+        // instead of queueing behind them. Elsewhere this is a plain FOR UPDATE, and the guarded
+        // UPDATE below still hands each row to a single reviewer.
+        List<Long> candidates = entityManager.createQuery(
+            "SELECT r.id FROM Result r WHERE r.status = :status AND r.appealText IS NOT NULL " +
+            "AND (r.appealLeaseUntil IS NULL OR r.appealLeaseUntil < :now) " +
+            "AND r.assignment.id IN (SELECT a.id FROM Assignment a WHERE a.teacher.id = :teacherId) " +
+            "ORDER BY r.id", Long.class)
+            .setParameter("status", ResultStatus.APPEALED)
+            .setParameter("now", now)
+            .setParameter("teacherId", teacherId)
+            .setMaxResults(limit)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .setHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+            .getResultList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        // Stored with microsecond precision; truncate so the returned lease matches the row
+        LocalDateTime leaseUntil = now.plus(lease).truncatedTo(ChronoUnit.MICROS);
+        entityManager.createQuery(
+            "UPDATE Result r SET r.appealClaimedBy = :reviewer, r.appealLeaseUntil = :until " +
+            "WHERE r.id IN :ids AND r.status = :status " +
+            "AND (r.appealLeaseUntil IS NULL OR r.appealLeaseUntil < :now)")
+            .setParameter("reviewer", teacherId)
+            .setParameter("until", leaseUntil)
+            .setParameter("ids", candidates)
+            .setParameter("status", ResultStatus.APPEALED)
+            .setParameter("now", now)
+            .executeUpdate();
+        return entityManager.createQuery(
+            "SELECT new com.submission.dto.AppealClaim(r.id, s.id, a.id, a.title, r.studentId, " +
+            "r.grade, r.remarks, r.appealText, r.appealLeaseUntil) " +
+            "FROM Result r JOIN r.assignment a " +
+            "LEFT JOIN Submission s ON s.assignment = a AND s.studentId = r.studentId " +
+            "WHERE r.id IN :ids AND r.appealClaimedBy = :reviewer AND r.appealLeaseUntil = :until " +
+            "ORDER BY r.id", AppealClaim.class)
+            .setParameter("ids", candidates)
+            .setParameter("reviewer", teacherId)
+            .setParameter("until", leaseUntil)
+            .getResultList();
+    }
+
     @Override
     @Transactional
     public void updateGrade(Long resultId, String grade, String remarks) {
@@ -120,17 +230,33 @@ public class ResultDAOImpl implements ResultDAO {
             .setParameter("status", ResultStatus.GRADED)
             .setParameter("id", resultId)
             .executeUpdate();
+        // Bulk updates bypass the entity, so the student results projection is updated alongside
+        StudentResultDAOImpl.sync(entityManager, resultId, grade, remarks, ResultStatus.GRADED);
     }
 
     @Override
     @Transactional
-    public void updateAppealStatus(Long resultId, ResultStatus status, String remarks) {
-        entityManager.createQuery(
-            "UPDATE Result r SET r.status = :status, r.remarks = :remarks " +
-            "WHERE r.id = :id")
+    public boolean updateAppealStatus(Result result, Long reviewerId, LocalDateTime now,
+                                      ResultStatus status, String remarks) {
+        // The claim is checked by the UPDATE itself, so a claim that changes hands or expires
+        // between reading the result and deciding cannot be overwritten
+        int decided = entityManager.createQuery(
+            "UPDATE Result r SET r.status = :status, r.remarks = :remarks, " +
+            "r.appealClaimedBy = NULL, r.appealLeaseUntil = NULL " +
+            "WHERE r.id = :id AND r.appealClaimedBy = :reviewer AND r.appealLeaseUntil >= :now")
             .setParameter("status", status)
             .setParameter("remarks", remarks)
-            .setParameter("id", resultId)
+            .setParameter("id", result.getId())
+            .setParameter("reviewer", reviewerId)
+            .setParameter("now", now)
             .executeUpdate();
+        if (decided == 0) {
+            return false;
+        }
+        // The bulk update bypassed the entity; the loaded copy, if any, is the one refreshed
+        Result current = entityManager.find(Result.class, result.getId());
+        entityManager.refresh(current);
+        StudentResultDAOImpl.sync(entityManager, current.getId(), current.getGrade(), remarks, status);
+        return true;
     }
-} 
\ No newline at end of file
+}
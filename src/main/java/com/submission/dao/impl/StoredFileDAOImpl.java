@@ -0,0 +1,99 @@
+package com.submission.dao.impl;
+
+import com.submission.dao.StoredFileDAO;
+import com.submission.model.Assignment;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.model.Teacher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+@Transactional
+public class StoredFileDAOImpl implements StoredFileDAO {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StoredFileDAOImpl() {
+    }
+
+    public StoredFileDAOImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // find() rather than a projection query: all three entities are in the second-level cache,
+    // so a burst of downloads after publication does not reach the database at all
+
+    @Override
+    public Optional<String> findAssignmentFilePath(Long assignmentId) {
+        return find(Assignment.class, assignmentId).map(Assignment::getFilePath);
+    }
+
+    @Override
+    public Optional<String> findNoteFilePath(Long noteId) {
+        return find(Note.class, noteId).map(Note::getFilePath);
+    }
+
+    @Override
+    public Optional<String> findPastPaperFilePath(Long pastPaperId) {
+        return find(PastPaper.class, pastPaperId).map(PastPaper::getFilePath);
+    }
+
+    @Override
+    public Note saveNote(Long teacherId, Note note) {
+        uploader(teacherId).addNote(note);
+        entityManager.persist(note);
+        return note;
+    }
+
+    @Override
+    public PastPaper savePastPaper(Long teacherId, PastPaper pastPaper) {
+        uploader(teacherId).addPastPaper(pastPaper);
+        entityManager.persist(pastPaper);
+        return pastPaper;
+    }
+
+    // Loaded here rather than by the caller, which holds no transaction while the file streams in
+    private Teacher uploader(Long teacherId) {
+        Teacher teacher = entityManager.find(Teacher.class, teacherId);
+        if (teacher == null) {
+            throw new IllegalArgumentException("Teacher not found");
+        }
+        return teacher;
+    }
+
+    @Override
+    public Set<String> findMaterialFilePaths() {
+        Set<String> paths = new HashSet<>(entityManager.createQuery(
+                "SELECT DISTINCT n.filePath FROM Note n", String.class)
+            .getResultList());
+        paths.addAll(entityManager.createQuery(
+                "SELECT DISTINCT p.filePath FROM PastPaper p", String.class)
+            .getResultList());
+        return paths;
+    }
+
+    @Override
+    public long countMaterialReferences(String filePath) {
+        long notes = entityManager.createQuery(
+                "SELECT COUNT(n) FROM Note n WHERE n.filePath = :path", Long.class)
+            .setParameter("path", filePath)
+            .getSingleResult();
+        long pastPapers = entityManager.createQuery(
+                "SELECT COUNT(p) FROM PastPaper p WHERE p.filePath = :path", Long.class)
+            .setParameter("path", filePath)
+            .getSingleResult();
+        return notes + pastPapers;
+    }
+
+    private <T> Optional<T> find(Class<T> type, Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityManager.find(type, id));
+    }
+}
@@ -0,0 +1,75 @@
+package com.submission.dao.impl;
+
+import com.submission.dao.StudentResultDAO;
+import com.submission.dto.StudentResultSummary;
+import com.submission.model.Result;
+import com.submission.model.ResultStatus;
+import com.submission.model.StudentResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional
+public class StudentResultDAOImpl implements StudentResultDAO {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StudentResultDAOImpl() {
+    }
+
+    public StudentResultDAOImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insert(Result result) {
+        // Assigned id, so the insert waits for the flush and is batched with its neighbours
+        entityManager.persist(new StudentResult(result));
+    }
+
+    @Override
+    public void sync(Long resultId, String grade, String remarks, ResultStatus status) {
+        sync(entityManager, resultId, grade, remarks, status);
+    }
+
+    // Also for bulk updates of results in ResultDAOImpl, which bypass the entity
+    static void sync(EntityManager entityManager, Long resultId, String grade, String remarks, ResultStatus status) {
+        entityManager.createQuery(
+            "UPDATE StudentResult sr SET sr.grade = :grade, sr.remarks = :remarks, " +
+            "sr.status = :status, sr.updatedAt = :now WHERE sr.resultId = :id")
+            .setParameter("grade", grade)
+            .setParameter("remarks", remarks)
+            .setParameter("status", status)
+            .setParameter("now", LocalDateTime.now())
+            .setParameter("id", resultId)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<StudentResultSummary> findByStudentIdBefore(Long studentId, LocalDateTime beforeDeadline,
+                                                            Long beforeResultId, int limit) {
+        String select = "SELECT new com.submission.dto.StudentResultSummary(sr.resultId, sr.assignmentId, " +
+            "sr.assignmentTitle, sr.deadline, sr.grade, sr.remarks, sr.status) " +
+            "FROM StudentResult sr WHERE sr.studentId = :studentId ";
+        TypedQuery<StudentResultSummary> query;
+        if (beforeDeadline == null || beforeResultId == null) {
+            query = entityManager.createQuery(
+                select + "ORDER BY sr.deadline DESC, sr.resultId DESC", StudentResultSummary.class);
+        } else {
+            query = entityManager.createQuery(
+                select +
+                "AND (sr.deadline < :deadline OR (sr.deadline = :deadline AND sr.resultId < :id)) " +
+                "ORDER BY sr.deadline DESC, sr.resultId DESC", StudentResultSummary.class)
+                .setParameter("deadline", beforeDeadline)
+                .setParameter("id", beforeResultId);
+        }
+        return query
+            .setParameter("studentId", studentId)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
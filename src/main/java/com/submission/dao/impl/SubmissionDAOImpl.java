@@ -0,0 +1,106 @@
+package com.submission.dao.impl;
+
+import com.submission.dao.SubmissionDAO;
+import com.submission.model.Submission;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional
+public class SubmissionDAOImpl implements SubmissionDAO {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SubmissionDAOImpl() {
+    }
+
+    public SubmissionDAOImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Submission save(Submission submission) {
+        entityManager.persist(submission);
+        return submission;
+    }
+
+    @Override
+    public List<Submission> saveAll(List<Submission> submissions) {
+        submissions.forEach(entityManager::persist);
+        return submissions;
+    }
+
+    @Override
+    public Optional<Submission> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityManager.find(Submission.class, id));
+    }
+
+    @Override
+    public List<Submission> findAll() {
+        return entityManager.createQuery("SELECT s FROM Submission s", Submission.class)
+            .getResultList();
+    }
+
+    @Override
+    public void delete(Submission submission) {
+        entityManager.remove(entityManager.contains(submission) ?
+            submission : entityManager.merge(submission));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        findById(id).ifPresent(this::delete);
+    }
+
+    @Override
+    public Submission update(Submission submission) {
+        return entityManager.merge(submission);
+    }
+
+    @Override
+    public boolean exists(Long id) {
+        return entityManager.createQuery(
+            "SELECT COUNT(s) FROM Submission s WHERE s.id = :id", Long.class)
+            .setParameter("id", id)
+            .getSingleResult() > 0;
+    }
+
+    @Override
+    public List<Submission> findByAssignmentId(Long assignmentId) {
+        return entityManager.createQuery(
+            "SELECT s FROM Submission s WHERE s.assignment.id = :assignmentId " +
+            "ORDER BY s.timestamp", Submission.class)
+            .setParameter("assignmentId", assignmentId)
+            .getResultList();
+    }
+
+    @Override
+    public boolean existsByAssignmentIdAndStudentId(Long assignmentId, Long studentId) {
+        return !entityManager.createQuery(
+            "SELECT s.id FROM Submission s WHERE s.assignment.id = :assignmentId " +
+            "AND s.studentId = :studentId", Long.class)
+            .setParameter("assignmentId", assignmentId)
+            .setParameter("studentId", studentId)
+            .setMaxResults(1)
+            .getResultList()
+            .isEmpty();
+    }
+
+    @Override
+    public Optional<Submission> findByAssignmentIdAndStudentId(Long assignmentId, Long studentId) {
+        return entityManager.createQuery(
+            "SELECT s FROM Submission s WHERE s.assignment.id = :assignmentId " +
+            "AND s.studentId = :studentId", Submission.class)
+            .setParameter("assignmentId", assignmentId)
+            .setParameter("studentId", studentId)
+            .setMaxResults(1)
+            .getResultStream()
+            .findFirst();
+    }
+}
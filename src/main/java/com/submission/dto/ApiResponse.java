@@ -4,11 +4,17 @@ public class ApiResponse<T> {
     private boolean success;
     private String message;
     private T data;
+    private String nextCursor;
 
     private ApiResponse(boolean success, String message, T data) {
+        this(success, message, data, null);
+    }
+
+    private ApiResponse(boolean success, String message, T data, String nextCursor) {
         this.success = success;
         this.message = message;
         this.data = data;
+        this.nextCursor = nextCursor;
     }
 
     public static <T> ApiResponse<T> success(String message) {
@@ -19,6 +25,10 @@ public class ApiResponse<T> {
         return new ApiResponse<>(true, message, data);
     }
 
+    public static <T> ApiResponse<T> success(String message, T data, String nextCursor) {
+        return new ApiResponse<>(true, message, data, nextCursor);
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(false, message, null);
     }
@@ -34,4 +44,8 @@ public class ApiResponse<T> {
     public T getData() {
         return data;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.submission.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * An appeal claimed by a reviewer, with what they need to decide it. The claim lapses at
+ * {@code leaseUntil} unless the appeal is decided first.
+ */
+public record AppealClaim(Long resultId, Long submissionId, Long assignmentId, String assignmentTitle,
+                          Long studentId, String grade, String remarks, String appealText,
+                          LocalDateTime leaseUntil) {
+}
@@ -0,0 +1,32 @@
+package com.submission.dto;
+
+import com.submission.model.ResultStatus;
+
+public class AppealDecisionRequest {
+    private ResultStatus status;
+    private String remarks;
+
+    public AppealDecisionRequest() {
+    }
+
+    public AppealDecisionRequest(ResultStatus status, String remarks) {
+        this.status = status;
+        this.remarks = remarks;
+    }
+
+    public ResultStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ResultStatus status) {
+        this.status = status;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public void setRemarks(String remarks) {
+        this.remarks = remarks;
+    }
+}
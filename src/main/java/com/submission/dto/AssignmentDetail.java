@@ -0,0 +1,24 @@
+package com.submission.dto;
+
+import com.submission.model.Assignment;
+import java.time.LocalDateTime;
+
+/**
+ * What the assignment endpoints return for a single assignment: its own columns and the
+ * teacher's id, but none of the lazy associations.
+ */
+public record AssignmentDetail(Long id, String title, String description, String filePath,
+                               LocalDateTime deadline, LocalDateTime createdAt, String status,
+                               Long teacherId) {
+
+    /**
+     * Copies an assignment already in hand, such as one just created or updated. Reading the
+     * teacher's id does not initialize the teacher proxy.
+     */
+    public static AssignmentDetail from(Assignment assignment) {
+        return new AssignmentDetail(assignment.getId(), assignment.getTitle(),
+            assignment.getDescription(), assignment.getFilePath(), assignment.getDeadline(),
+            assignment.getCreatedAt(), assignment.getStatus(),
+            assignment.getTeacher() != null ? assignment.getTeacher().getId() : null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.submission.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-assignment counters for the teacher dashboard, produced by a single grouped query.
+ * A submission counts as late when it arrived after the assignment deadline, whatever its
+ * current status.
+ */
+public record AssignmentStats(Long assignmentId, String title, LocalDateTime deadline,
+                              Long submissionCount, Long gradedCount, Long lateCount) {
+}
@@ -0,0 +1,12 @@
+package com.submission.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a teacher's assignment listing. Selected column by column with a constructor
+ * expression, so listing never loads the entity, its teacher or its collections, and leaves
+ * the description out.
+ */
+public record AssignmentSummary(Long id, String title, String filePath, LocalDateTime deadline,
+                                String status, Long teacherId) {
+}
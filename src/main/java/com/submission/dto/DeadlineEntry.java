@@ -0,0 +1,9 @@
+package com.submission.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * An open assignment's deadline, as tracked by the deadline scheduler.
+ */
+public record DeadlineEntry(Long assignmentId, LocalDateTime deadline) {
+}
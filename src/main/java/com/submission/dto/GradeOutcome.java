@@ -0,0 +1,43 @@
+package com.submission.dto;
+
+/**
+ * Per-item result of a bulk grading request. Rejected items carry the reason; the rest of the
+ * batch is still applied.
+ */
+public class GradeOutcome {
+    private final Long submissionId;
+    private final Long resultId;
+    private final boolean success;
+    private final String message;
+
+    private GradeOutcome(Long submissionId, Long resultId, boolean success, String message) {
+        this.submissionId = submissionId;
+        this.resultId = resultId;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static GradeOutcome graded(Long submissionId, Long resultId) {
+        return new GradeOutcome(submissionId, resultId, true, "Graded");
+    }
+
+    public static GradeOutcome rejected(Long submissionId, String message) {
+        return new GradeOutcome(submissionId, null, false, message);
+    }
+
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+
+    public Long getResultId() {
+        return resultId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -1,6 +1,7 @@
 package com.submission.dto;
 
 public class GradeRequest {
+    private Long submissionId;
     private String grade;
     private String remarks;
 
@@ -12,6 +13,23 @@ public class GradeRequest {
         this.remarks = remarks;
     }
 
+    public GradeRequest(Long submissionId, String grade, String remarks) {
+        this.submissionId = submissionId;
+        this.grade = grade;
+        this.remarks = remarks;
+    }
+
+    /**
+     * Only read by the bulk grading endpoint; single-item endpoints take the id from the path.
+     */
+    public Long getSubmissionId() {
+        return submissionId;
+    }
+
+    public void setSubmissionId(Long submissionId) {
+        this.submissionId = submissionId;
+    }
+
     public String getGrade() {
         return grade;
     }
@@ -0,0 +1,11 @@
+package com.submission.dto;
+
+import com.submission.model.Result;
+import com.submission.model.Submission;
+
+/**
+ * A submission loaded together with its assignment and, if one exists, the student's result for
+ * that assignment. {@code result} is null when the submission has not been graded yet.
+ */
+public record GradingTarget(Submission submission, Result result) {
+}
@@ -0,0 +1,64 @@
+package com.submission.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by {@code (deadline, id)}. Encoded as an opaque URL-safe token
+ * so clients treat it as a continuation handle rather than something to construct themselves.
+ */
+public class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime deadline;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime deadline, Long id) {
+        // Timestamp columns keep microseconds and round the rest; match that so a cursor taken
+        // from a freshly persisted entity compares equal to the stored row
+        this.deadline = deadline == null ? null : deadline.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+        this.id = id;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = deadline + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token continuation token, may be null or blank for the first page
+     * @return the decoded cursor, or null when no token was supplied
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
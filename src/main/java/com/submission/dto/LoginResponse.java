@@ -0,0 +1,42 @@
+package com.submission.dto;
+
+import java.time.Instant;
+
+public class LoginResponse {
+    private String token;
+    private Instant expiresAt;
+    private TeacherDTO teacher;
+
+    public LoginResponse() {
+    }
+
+    public LoginResponse(String token, Instant expiresAt, TeacherDTO teacher) {
+        this.token = token;
+        this.expiresAt = expiresAt;
+        this.teacher = teacher;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public TeacherDTO getTeacher() {
+        return teacher;
+    }
+
+    public void setTeacher(TeacherDTO teacher) {
+        this.teacher = teacher;
+    }
+}
@@ -0,0 +1,13 @@
+package com.submission.dto;
+
+import com.submission.operation.OperationState;
+import java.time.Instant;
+
+/**
+ * Where a background operation stands, as returned by {@code /api/operations/{id}}.
+ *
+ * @param error the failure message once {@code state} is FAILED, otherwise null
+ */
+public record OperationStatus(String id, String type, OperationState state, Instant submittedAt,
+                              Instant finishedAt, String error) {
+}
@@ -0,0 +1,10 @@
+package com.submission.dto;
+
+import com.submission.model.ResultStatus;
+
+/**
+ * Flat, unmanaged view of a result used by the export endpoint. Rows are built by a JPQL
+ * constructor expression, so streaming them never grows the persistence context.
+ */
+public record ResultExportRow(Long resultId, Long studentId, String grade, ResultStatus status, String remarks) {
+}
@@ -0,0 +1,12 @@
+package com.submission.dto;
+
+import com.submission.model.ResultStatus;
+import java.time.LocalDateTime;
+
+/**
+ * One row of a student's results timeline, read from the {@code student_results} projection.
+ */
+public record StudentResultSummary(Long resultId, Long assignmentId, String assignmentTitle,
+                                   LocalDateTime deadline, String grade, String remarks,
+                                   ResultStatus status) {
+}
@@ -0,0 +1,46 @@
+package com.submission.dto;
+
+/**
+ * A file a student is about to upload. The student is the caller, never a field.
+ */
+public class UploadRequest {
+    private Long assignmentId;
+    private String fileName;
+    private Long length;
+
+    public UploadRequest() {
+    }
+
+    public UploadRequest(Long assignmentId, String fileName, Long length) {
+        this.assignmentId = assignmentId;
+        this.fileName = fileName;
+        this.length = length;
+    }
+
+    public Long getAssignmentId() {
+        return assignmentId;
+    }
+
+    public void setAssignmentId(Long assignmentId) {
+        this.assignmentId = assignmentId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Total size of the file in bytes, declared up front so it can be checked before any upload.
+     */
+    public Long getLength() {
+        return length;
+    }
+
+    public void setLength(Long length) {
+        this.length = length;
+    }
+}
@@ -0,0 +1,16 @@
+package com.submission.dto;
+
+/**
+ * Progress of a resumable upload. {@code submissionId} is set once the last chunk has arrived
+ * and the submission has been recorded.
+ */
+public record UploadStatus(String uploadId, long offset, long length, boolean complete, Long submissionId) {
+
+    public static UploadStatus inProgress(String uploadId, long offset, long length) {
+        return new UploadStatus(uploadId, offset, length, false, null);
+    }
+
+    public static UploadStatus completed(String uploadId, long length, Long submissionId) {
+        return new UploadStatus(uploadId, length, length, true, submissionId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.submission.ingest;
+
+/**
+ * Thrown when the submission ingest queue is full. Callers should answer with 503 Service
+ * Unavailable and let the client retry.
+ */
+public class IngestCapacityExceededException extends RuntimeException {
+
+    public IngestCapacityExceededException() {
+        super("Too many submissions in progress, please retry");
+    }
+}
@@ -0,0 +1,203 @@
+package com.submission.ingest;
+
+import com.submission.dao.SubmissionDAO;
+import com.submission.model.Submission;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+/**
+ * Writes submissions behind the requests that make them. Requests queue their submission and
+ * wait; a single writer thread takes everything queued, up to {@link #BATCH_SIZE}, and persists
+ * it in one transaction whose inserts go to the database as one JDBC batch. A request's future
+ * completes only after that transaction has committed, so nothing is acknowledged that is not
+ * durable.
+ *
+ * <p>Batches form on their own under load: while one batch is being written the next one
+ * queues up, and a submission arriving at a quiet moment is written straight away. At most
+ * {@value #QUEUE_CAPACITY_PROPERTY} submissions wait (default {@value #DEFAULT_QUEUE_CAPACITY});
+ * beyond that {@link #submit} throws {@link IngestCapacityExceededException}.
+ */
+@ApplicationScoped
+public class SubmissionIngestor {
+
+    public static final String QUEUE_CAPACITY_PROPERTY = "submission.ingest.queueCapacity";
+    static final int DEFAULT_QUEUE_CAPACITY = 2000;
+    // Matches hibernate.jdbc.batch_size and the default id allocation size
+    static final int BATCH_SIZE = 50;
+
+    private static final String MANAGED_THREAD_FACTORY = "java:comp/DefaultManagedThreadFactory";
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionIngestor.class);
+
+    @Inject
+    private SubmissionDAO submissionDAO;
+
+    private final BlockingQueue<Pending> queue;
+    private Consumer<List<Submission>> writer;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public SubmissionIngestor() {
+        this.queue = new ArrayBlockingQueue<>(Integer.getInteger(QUEUE_CAPACITY_PROPERTY, DEFAULT_QUEUE_CAPACITY));
+    }
+
+    public SubmissionIngestor(SubmissionDAO submissionDAO, int queueCapacity) {
+        this(submissionDAO::saveAll, queueCapacity);
+    }
+
+    SubmissionIngestor(Consumer<List<Submission>> writer, int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = writer;
+        start();
+    }
+
+    @PostConstruct
+    void start() {
+        if (writer == null) {
+            writer = submissionDAO::saveAll;
+        }
+        running = true;
+        writerThread = threadFactory().newThread(this::writeLoop);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a submission for the next batch.
+     *
+     * @return completes with the persisted submission once its transaction has committed, or
+     *         exceptionally if it could not be written. Cancelling it withdraws the submission
+     *         while it is still queued; once the writer has taken it, cancelling returns
+     *         {@code false} and the future completes with the write's outcome.
+     * @throws IngestCapacityExceededException if the queue is full
+     */
+    public CompletableFuture<Submission> submit(Submission submission) {
+        if (!running) {
+            throw new IllegalStateException("Submission ingest is shutting down");
+        }
+        Pending pending = new Pending(submission);
+        if (!queue.offer(pending)) {
+            throw new IngestCapacityExceededException();
+        }
+        return pending.done;
+    }
+
+    /**
+     * Stops taking submissions and writes what is already queued.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_WAIT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Pending> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.done.completeExceptionally(
+            new IllegalStateException("Submission ingest stopped before the submission was written")));
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                batch.removeIf(pending -> !pending.take());
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            writer.accept(batch.stream().map(pending -> pending.submission).toList());
+            batch.forEach(pending -> pending.done.complete(pending.submission));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(e);
+                return;
+            }
+            // One bad row rolls back the whole batch; write each on its own so the rest still land
+            logger.warn("Batch of {} submissions failed, retrying one at a time", batch.size(), e);
+            for (Pending pending : batch) {
+                pending.submission.setId(null);
+                try {
+                    writer.accept(List.of(pending.submission));
+                    pending.done.complete(pending.submission);
+                } catch (RuntimeException single) {
+                    pending.fail(single);
+                }
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        try {
+            return (ThreadFactory) new InitialContext().lookup(MANAGED_THREAD_FACTORY);
+        } catch (NamingException e) {
+            // Outside a container, e.g. in tests
+            return runnable -> {
+                Thread thread = new Thread(runnable, "submission-ingest");
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    private static final class Pending {
+        final Submission submission;
+        // Whichever comes first, the writer taking the submission or the caller withdrawing it
+        final AtomicBoolean settled = new AtomicBoolean();
+        final CompletableFuture<Submission> done = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return settled.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        Pending(Submission submission) {
+            this.submission = submission;
+        }
+
+        boolean take() {
+            return settled.compareAndSet(false, true);
+        }
+
+        void fail(RuntimeException e) {
+            // Ids handed out to a rolled-back insert are not reused
+            submission.setId(null);
+            done.completeExceptionally(e);
+        }
+    }
+}
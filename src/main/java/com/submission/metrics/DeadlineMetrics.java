@@ -0,0 +1,39 @@
+package com.submission.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * How promptly assignments are closed once their deadline passes. Lag is measured per
+ * assignment from its deadline to the transaction that closed it.
+ */
+@ApplicationScoped
+public class DeadlineMetrics {
+
+    private final LatencyHistogram transitionLag = new LatencyHistogram();
+    private final AtomicLong assignmentsClosed = new AtomicLong();
+    private final AtomicLong submissionsMarkedLate = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastTransition = new AtomicReference<>();
+
+    public void recordLag(LocalDateTime deadline, LocalDateTime closedAt) {
+        transitionLag.record(Duration.between(deadline, closedAt).toNanos());
+    }
+
+    public void recordTransition(LocalDateTime at, int closed, int markedLate) {
+        assignmentsClosed.addAndGet(closed);
+        submissionsMarkedLate.addAndGet(markedLate);
+        lastTransition.set(at);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(assignmentsClosed.get(), submissionsMarkedLate.get(),
+            lastTransition.get(), transitionLag.snapshot());
+    }
+
+    public record Snapshot(long assignmentsClosed, long submissionsMarkedLate,
+                           LocalDateTime lastTransition, LatencyHistogram.Snapshot transitionLag) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.submission.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms per JAX-RS resource method, fed by {@link EndpointTimingFilter}.
+ */
+@ApplicationScoped
+public class EndpointMetricsRegistry {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos) {
+        histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    public List<EndpointLatency> snapshot() {
+        return histograms.entrySet().stream()
+            .map(entry -> new EndpointLatency(entry.getKey(), entry.getValue().snapshot()))
+            .sorted(Comparator.comparing(EndpointLatency::endpoint))
+            .toList();
+    }
+
+    public record EndpointLatency(String endpoint, LatencyHistogram.Snapshot latency) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.submission.metrics;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Times every matched resource method and records it under
+ * {@code "<HTTP method> <Controller>.<method>"}. Streaming bodies are timed up to the point the
+ * entity is handed to the container, not until the last byte is written.
+ */
+@Provider
+public class EndpointTimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String START_PROPERTY = EndpointTimingFilter.class.getName() + ".start";
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Inject
+    private EndpointMetricsRegistry registry;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object start = requestContext.getProperty(START_PROPERTY);
+        if (!(start instanceof Long) || resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+            return;
+        }
+        String endpoint = requestContext.getMethod() + " "
+            + resourceInfo.getResourceClass().getSimpleName() + "."
+            + resourceInfo.getResourceMethod().getName();
+        registry.record(endpoint, System.nanoTime() - (Long) start);
+    }
+}
@@ -0,0 +1,93 @@
+package com.submission.metrics;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read-only view over Hibernate {@link Statistics}: per-query execution counts and timings
+ * (slowest first), second-level cache hits and misses per region, and entity load counts.
+ */
+public record HibernateMetrics(boolean enabled,
+                               long queryExecutionCount,
+                               long queryExecutionMaxTimeMillis,
+                               String slowestQuery,
+                               long secondLevelCacheHitCount,
+                               long secondLevelCacheMissCount,
+                               long prepareStatementCount,
+                               List<QueryMetrics> queries,
+                               List<CacheRegionMetrics> cacheRegions,
+                               List<EntityMetrics> entities) {
+
+    public static HibernateMetrics from(Statistics statistics) {
+        List<QueryMetrics> queries = Arrays.stream(statistics.getQueries())
+            .map(query -> QueryMetrics.from(query, statistics.getQueryStatistics(query)))
+            .sorted(Comparator.comparingLong(QueryMetrics::maxTimeMillis).reversed())
+            .toList();
+        List<CacheRegionMetrics> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .map(region -> CacheRegionMetrics.from(region, statistics.getCacheRegionStatistics(region)))
+            .filter(Objects::nonNull)
+            .sorted(Comparator.comparing(CacheRegionMetrics::region))
+            .toList();
+        List<EntityMetrics> entities = Arrays.stream(statistics.getEntityNames())
+            .map(entity -> EntityMetrics.from(entity, statistics.getEntityStatistics(entity)))
+            .sorted(Comparator.comparing(EntityMetrics::entity))
+            .toList();
+        return new HibernateMetrics(
+            statistics.isStatisticsEnabled(),
+            statistics.getQueryExecutionCount(),
+            statistics.getQueryExecutionMaxTime(),
+            statistics.getQueryExecutionMaxTimeQueryString(),
+            statistics.getSecondLevelCacheHitCount(),
+            statistics.getSecondLevelCacheMissCount(),
+            statistics.getPrepareStatementCount(),
+            queries, regions, entities);
+    }
+
+    public record QueryMetrics(String query, long executionCount, long averageTimeMillis,
+                               long maxTimeMillis, long rowCount, long cacheHitCount, long cacheMissCount) {
+
+        static QueryMetrics from(String query, QueryStatistics statistics) {
+            return new QueryMetrics(query,
+                statistics.getExecutionCount(),
+                statistics.getExecutionAvgTime(),
+                statistics.getExecutionMaxTime(),
+                statistics.getExecutionRowCount(),
+                statistics.getCacheHitCount(),
+                statistics.getCacheMissCount());
+        }
+    }
+
+    public record CacheRegionMetrics(String region, long hitCount, long missCount, long putCount,
+                                     long elementCountInMemory) {
+
+        static CacheRegionMetrics from(String region, CacheRegionStatistics statistics) {
+            if (statistics == null) {
+                return null;
+            }
+            return new CacheRegionMetrics(region,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory());
+        }
+    }
+
+    public record EntityMetrics(String entity, long loadCount, long fetchCount, long insertCount,
+                                long updateCount, long deleteCount) {
+
+        static EntityMetrics from(String entity, EntityStatistics statistics) {
+            return new EntityMetrics(entity,
+                statistics.getLoadCount(),
+                statistics.getFetchCount(),
+                statistics.getInsertCount(),
+                statistics.getUpdateCount(),
+                statistics.getDeleteCount());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.submission.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with four buckets per power of two of microseconds, so any
+ * percentile is reported within 25% of the true value. Recording is a couple of atomic adds and
+ * never allocates.
+ */
+public class LatencyHistogram {
+
+    // Covers up to 2^26 µs (about 67 s); anything slower lands in the last bucket
+    static final int BUCKETS = 104;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(bucketFor(micros));
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long max = maxMicros.get();
+        double mean = count == 0 ? 0 : totalMicros.sum() / (double) count / 1_000;
+        return new Snapshot(count, mean,
+            percentile(copy, count, 0.50, max),
+            percentile(copy, count, 0.90, max),
+            percentile(copy, count, 0.99, max),
+            max / 1_000.0);
+    }
+
+    static int bucketFor(long micros) {
+        if (micros < 4) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) ((micros >>> (exponent - 2)) & 3);
+        return Math.min((exponent - 1) * 4 + sub, BUCKETS - 1);
+    }
+
+    static long upperBoundMicros(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        int sub = bucket % 4;
+        return ((4L + sub + 1) << (exponent - 2)) - 1;
+    }
+
+    private static double percentile(long[] counts, long total, double quantile, long maxMicros) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i), maxMicros) / 1_000.0;
+            }
+        }
+        return maxMicros / 1_000.0;
+    }
+
+    /**
+     * Point-in-time view; all latencies in milliseconds.
+     */
+    public record Snapshot(long count, double meanMillis, double p50Millis, double p90Millis,
+                           double p99Millis, double maxMillis) {
+    }
+}
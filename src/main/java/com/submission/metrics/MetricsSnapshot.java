@@ -0,0 +1,8 @@
+package com.submission.metrics;
+
+import com.submission.metrics.EndpointMetricsRegistry.EndpointLatency;
+import java.util.List;
+
+public record MetricsSnapshot(HibernateMetrics hibernate, List<EndpointLatency> endpoints,
+                              DeadlineMetrics.Snapshot deadlines) {
+}
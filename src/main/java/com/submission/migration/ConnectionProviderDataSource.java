@@ -0,0 +1,100 @@
+package com.submission.migration;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Presents Hibernate's {@link ConnectionProvider} as a {@link DataSource}, so migrations run on
+ * the persistence unit's own connections, whether they come from the container's data source,
+ * Hikari or the built-in pool. Closing a connection hands it back to the provider, once: Flyway
+ * may close a connection twice. After that first close every other call fails, since the
+ * provider may already have lent the connection to someone else.
+ */
+class ConnectionProviderDataSource implements DataSource {
+
+    private final ConnectionProvider provider;
+
+    ConnectionProviderDataSource(ConnectionProvider provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = provider.getConnection();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if (method.getParameterCount() == 0) {
+                    switch (method.getName()) {
+                        case "close":
+                            if (closed.compareAndSet(false, true)) {
+                                provider.closeConnection(connection);
+                            }
+                            return null;
+                        case "isClosed":
+                            return closed.get() || connection.isClosed();
+                        default:
+                            break;
+                    }
+                }
+                if (closed.get() && method.getDeclaringClass() != Object.class) {
+                    throw new SQLException("Connection is closed");
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured on the persistence unit");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + type.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) {
+        return type.isInstance(this);
+    }
+}
@@ -0,0 +1,77 @@
+package com.submission.migration;
+
+import com.submission.model.PooledSequenceGenerator;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Map;
+
+/**
+ * Applies the scripts under {@code db/migration} when a persistence unit that sets
+ * {@value #MIGRATE_PROPERTY} starts, together with those under {@code db/vendor/<vendor>} for
+ * the few changes whose SQL differs between PostgreSQL and H2. Integrators run before
+ * Hibernate's own schema management, so {@code hibernate.hbm2ddl.auto=validate} then checks the
+ * mapping against the migrated schema. {@code ${idAllocationSize}} in a script is replaced with
+ * the configured {@link PooledSequenceGenerator#ALLOCATION_SIZE_PROPERTY}.
+ *
+ * <p>A database that already has tables but no migration history (one created by
+ * {@code hbm2ddl.auto=update}) is baselined at V1, the schema hbm2ddl produced, and only later
+ * versions are applied to it.
+ */
+public class SchemaMigrationIntegrator implements Integrator {
+
+    public static final String MIGRATE_PROPERTY = "com.submission.schema.migrate";
+    static final String LOCATION = "classpath:db/migration";
+    static final String VENDOR_LOCATION = "classpath:db/vendor/";
+    static final String ALLOCATION_SIZE_PLACEHOLDER = "idAllocationSize";
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrationIntegrator.class);
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        Object enabled = sessionFactory.getProperties().get(MIGRATE_PROPERTY);
+        if (enabled == null || !Boolean.parseBoolean(enabled.toString())) {
+            return;
+        }
+        ConnectionProvider connections = sessionFactory.getServiceRegistry()
+            .getService(ConnectionProvider.class);
+        MigrateResult result = Flyway.configure(SchemaMigrationIntegrator.class.getClassLoader())
+            .dataSource(new ConnectionProviderDataSource(connections))
+            .locations(LOCATION, VENDOR_LOCATION + vendor(sessionFactory.getJdbcServices().getDialect()))
+            .placeholders(Map.of(ALLOCATION_SIZE_PLACEHOLDER,
+                String.valueOf(PooledSequenceGenerator.allocationSize(sessionFactory.getProperties()))))
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load()
+            .migrate();
+        if (result.migrationsExecuted > 0) {
+            logger.info("Migrated schema from version {} to {}", result.initialSchemaVersion, result.targetSchemaVersion);
+        }
+    }
+
+    static String vendor(Dialect dialect) {
+        if (dialect instanceof PostgreSQLDialect) {
+            return "postgresql";
+        }
+        if (dialect instanceof H2Dialect) {
+            return "h2";
+        }
+        throw new IllegalStateException("No migrations for " + dialect.getClass().getSimpleName());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -1,12 +1,14 @@
 package com.submission.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an academic assignment in the submission system.
@@ -17,8 +19,13 @@ import java.util.Collections;
  * @version 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "assignments")
 @Table(name = "assignments")
 public class Assignment {
+    /** Set by the deadline scheduler once the deadline has passed; any other value is open. */
+    public static final String STATUS_CLOSED = "CLOSED";
+
     private static final Logger logger = LoggerFactory.getLogger(Assignment.class);
     private static boolean VALIDATE_PAST_DEADLINES = true;
 
@@ -27,7 +34,8 @@ public class Assignment {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "assignments_seq")
+    @GenericGenerator(name = "assignments_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(nullable = false)
@@ -49,11 +57,17 @@ public class Assignment {
     @JoinColumn(name = "teacher_id", nullable = false)
     private Teacher teacher;
 
+    /*
+     * Inverse sides of Submission.assignment and Result.assignment. The owning side is the source
+     * of truth: once loaded, Hibernate swaps these for its own lazy sets, which the owning setters
+     * leave alone until they are initialized. The concurrent sets only matter for transient
+     * assignments being assembled by several threads, and never take a lock on reads.
+     */
     @OneToMany(mappedBy = "assignment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Submission> submissions = Collections.synchronizedSet(new HashSet<>());
+    private Set<Submission> submissions = ConcurrentHashMap.newKeySet();
 
     @OneToMany(mappedBy = "assignment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Result> results = Collections.synchronizedSet(new HashSet<>());
+    private Set<Result> results = ConcurrentHashMap.newKeySet();
 
     @Column(nullable = false)
     private String status;
@@ -1,13 +1,19 @@
 package com.submission.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "past-papers")
 @Table(name = "past_papers")
 public class PastPaper {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "past_papers_seq")
+    @GenericGenerator(name = "past_papers_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,44 @@
+package com.submission.model;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Sequence ids handed out in blocks, so a session inserts many rows for one sequence call and
+ * Hibernate can batch the inserts, which an identity column prevents. The sequence is named
+ * after the generator, and each value read from it is the first id of a block (pooled-lo).
+ *
+ * <p>The block size is {@value #ALLOCATION_SIZE_PROPERTY} (default
+ * {@value #DEFAULT_ALLOCATION_SIZE}). It must equal the sequences' increment, which the
+ * {@code R__id_sequence_increments} migration sets from the same property at startup.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_PROPERTY = "com.submission.id.allocationSize";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Map<String, Object> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize(settings)));
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    public static int allocationSize(Map<String, Object> settings) {
+        Object value = settings.get(ALLOCATION_SIZE_PROPERTY);
+        if (value == null) {
+            return DEFAULT_ALLOCATION_SIZE;
+        }
+        int size = Integer.parseInt(value.toString().trim());
+        if (size < 1) {
+            throw new IllegalArgumentException(ALLOCATION_SIZE_PROPERTY + " must be at least 1");
+        }
+        return size;
+    }
+}
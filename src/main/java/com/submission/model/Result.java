@@ -1,12 +1,21 @@
 package com.submission.model;
 
 import jakarta.persistence.*;
-
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import java.time.LocalDateTime;
+
+/**
+ * A student's grade for an assignment. Like {@link Submission} it keeps object identity: a
+ * persistence context holds one instance per row, so sets of results need no equality that
+ * survives persisting, and the identity hash spreads them evenly however large the set.
+ */
 @Entity
 @Table(name = "results")
 public class Result {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "results_seq")
+    @GenericGenerator(name = "results_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +38,13 @@ public class Result {
     @Column(nullable = false)
     private ResultStatus status = ResultStatus.PENDING;
 
+    // Reviewer working on the appeal and until when; set by claiming it from the appeals queue
+    @Column(name = "appeal_claimed_by")
+    private Long appealClaimedBy;
+
+    @Column(name = "appeal_lease_until")
+    private LocalDateTime appealLeaseUntil;
+
     // Default constructor
     public Result() {}
 
@@ -52,11 +68,14 @@ public class Result {
     }
 
     public void setAssignment(Assignment assignment) {
-        if (this.assignment != null) {
+        // An unloaded inverse collection is rebuilt from the foreign key on first access, so
+        // touching it here would only load every sibling row for nothing; the same goes for an
+        // unloaded assignment
+        if (isLoaded(this.assignment)) {
             this.assignment.getResults().remove(this);
         }
         this.assignment = assignment;
-        if (assignment != null) {
+        if (isLoaded(assignment)) {
             assignment.getResults().add(this);
         }
     }
@@ -101,22 +120,26 @@ public class Result {
         this.status = status;
     }
 
-    // Helper methods
-    public boolean hasAppeal() {
-        return appealText != null && !appealText.trim().isEmpty();
+    public Long getAppealClaimedBy() {
+        return appealClaimedBy;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Result result = (Result) o;
-        return (id != null && id.equals(result.id)) || 
-               (id == null && studentId != null && studentId.equals(result.studentId));
+    public LocalDateTime getAppealLeaseUntil() {
+        return appealLeaseUntil;
     }
 
-    @Override
-    public int hashCode() {
-        return id != null ? id.hashCode() : (studentId != null ? studentId.hashCode() : 0);
+    public void releaseAppeal() {
+        this.appealClaimedBy = null;
+        this.appealLeaseUntil = null;
+    }
+
+    private static boolean isLoaded(Assignment assignment) {
+        return assignment != null && Hibernate.isInitialized(assignment)
+            && Hibernate.isInitialized(assignment.getResults());
+    }
+
+    // Helper methods
+    public boolean hasAppeal() {
+        return appealText != null && !appealText.trim().isEmpty();
     }
-} 
\ No newline at end of file
+}
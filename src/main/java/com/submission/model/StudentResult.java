@@ -0,0 +1,99 @@
+package com.submission.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Read model behind a student's results timeline: one row per {@link Result}, with the
+ * assignment title and deadline copied in so the timeline is a single index range scan on
+ * {@code (student_id, deadline, result_id)} with no join and no sort.
+ *
+ * <p>Written alongside the result it mirrors, in the same transaction; deleting the result
+ * deletes this row through the foreign key.
+ */
+@Entity
+@Table(name = "student_results")
+public class StudentResult {
+    @Id
+    @Column(name = "result_id")
+    private Long resultId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "assignment_id", nullable = false)
+    private Long assignmentId;
+
+    @Column(name = "assignment_title", nullable = false)
+    private String assignmentTitle;
+
+    @Column(nullable = false)
+    private LocalDateTime deadline;
+
+    @Column(length = 5)
+    private String grade;
+
+    @Column(columnDefinition = "TEXT")
+    private String remarks;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResultStatus status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected StudentResult() {}
+
+    /**
+     * Copies a persisted result; its assignment must be loaded or loadable.
+     */
+    public StudentResult(Result result) {
+        Assignment assignment = result.getAssignment();
+        this.resultId = result.getId();
+        this.studentId = result.getStudentId();
+        this.assignmentId = assignment.getId();
+        this.assignmentTitle = assignment.getTitle();
+        this.deadline = assignment.getDeadline();
+        this.grade = result.getGrade();
+        this.remarks = result.getRemarks();
+        this.status = result.getStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getResultId() {
+        return resultId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getAssignmentId() {
+        return assignmentId;
+    }
+
+    public String getAssignmentTitle() {
+        return assignmentTitle;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public String getGrade() {
+        return grade;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public ResultStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
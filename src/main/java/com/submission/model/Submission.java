@@ -1,13 +1,17 @@
 package com.submission.model;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "submissions")
 public class Submission {
+    // SubmissionIngestor relies on these ids coming from a sequence to batch its inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "submissions_seq")
+    @GenericGenerator(name = "submissions_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,11 +56,14 @@ public class Submission {
     }
 
     public void setAssignment(Assignment assignment) {
-        if (this.assignment != null) {
+        // An unloaded inverse collection is rebuilt from the foreign key on first access, so
+        // touching it here would only load every sibling row for nothing; the same goes for an
+        // unloaded assignment
+        if (isLoaded(this.assignment)) {
             this.assignment.getSubmissions().remove(this);
         }
         this.assignment = assignment;
-        if (assignment != null) {
+        if (isLoaded(assignment)) {
             assignment.getSubmissions().add(this);
         }
     }
@@ -94,6 +101,11 @@ public class Submission {
     }
 
     // Helper methods
+    private static boolean isLoaded(Assignment assignment) {
+        return assignment != null && Hibernate.isInitialized(assignment)
+            && Hibernate.isInitialized(assignment.getSubmissions());
+    }
+
     public boolean isLateSubmission() {
         return timestamp.isAfter(assignment.getDeadline());
     }
@@ -0,0 +1,12 @@
+package com.submission.operation;
+
+/**
+ * Thrown when the background operation pool and its queue are full. Callers should answer
+ * with 503 Service Unavailable and let the client retry.
+ */
+public class OperationCapacityExceededException extends RuntimeException {
+
+    public OperationCapacityExceededException() {
+        super("Too many operations in progress, please retry");
+    }
+}
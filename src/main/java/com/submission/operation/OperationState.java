@@ -0,0 +1,8 @@
+package com.submission.operation;
+
+public enum OperationState {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
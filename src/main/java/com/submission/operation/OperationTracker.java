@@ -0,0 +1,178 @@
+package com.submission.operation;
+
+import com.submission.dto.OperationStatus;
+import com.submission.routing.ReplicaRouting;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+/**
+ * Runs slow work off the request thread on a small bounded pool. Threads come from the
+ * container's managed thread factory, so EJB calls and transactions work on them as they do
+ * on request threads. When the pool and its queue are full, submitting throws
+ * {@link OperationCapacityExceededException} instead of queueing without limit.
+ *
+ * <p>Work submitted with {@link #submit} is tracked: its status can be polled by the teacher
+ * who started it until {@link #RETENTION} after it finished. Tracking lives in memory, so it
+ * does not survive a restart and is not shared between nodes.
+ *
+ * <p>Work runs for the submitting request's {@link ReplicaRouting} session, so its writes are
+ * read back from the primary by that session's next requests.
+ */
+@ApplicationScoped
+public class OperationTracker {
+
+    static final Duration RETENTION = Duration.ofMinutes(15);
+    private static final int QUEUE_CAPACITY = 64;
+    private static final String MANAGED_THREAD_FACTORY = "java:comp/DefaultManagedThreadFactory";
+    private static final Logger logger = LoggerFactory.getLogger(OperationTracker.class);
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final Clock clock;
+
+    public OperationTracker() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors()), QUEUE_CAPACITY, Clock.systemUTC());
+    }
+
+    OperationTracker(int threads, int queueCapacity, Clock clock) {
+        this.clock = clock;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Starts tracked work on behalf of {@code ownerId}.
+     *
+     * @return the operation's status, PENDING until a thread picks it up
+     * @throws OperationCapacityExceededException if the pool is saturated
+     */
+    public OperationStatus submit(String type, Long ownerId, Runnable task) {
+        purgeExpired();
+        Operation operation = new Operation(UUID.randomUUID().toString(), type, ownerId, clock.instant());
+        operations.put(operation.id, operation);
+        try {
+            Runnable work = ReplicaRouting.propagate(task);
+            executor.execute(() -> run(operation, work));
+        } catch (RejectedExecutionException e) {
+            operations.remove(operation.id);
+            throw new OperationCapacityExceededException();
+        }
+        return operation.status();
+    }
+
+    /**
+     * Runs untracked work on the pool, for callers that wait on the result asynchronously.
+     *
+     * @throws OperationCapacityExceededException if the pool is saturated
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(ReplicaRouting.propagate(task), executor);
+        } catch (RejectedExecutionException e) {
+            throw new OperationCapacityExceededException();
+        }
+    }
+
+    /**
+     * @return the operation's status if it exists and was started by {@code ownerId}
+     */
+    public Optional<OperationStatus> find(String id, Long ownerId) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Operation operation = operations.get(id);
+        if (operation == null || !operation.ownerId.equals(ownerId)) {
+            return Optional.empty();
+        }
+        return Optional.of(operation.status());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Operation operation, Runnable task) {
+        operation.state = OperationState.RUNNING;
+        try {
+            task.run();
+            operation.finish(OperationState.SUCCEEDED, null, clock.instant());
+        } catch (Throwable e) {
+            logger.warn("Operation {} ({}) failed", operation.id, operation.type, e);
+            operation.finish(OperationState.FAILED, e.getMessage(), clock.instant());
+            // Recorded first, so the operation does not stay RUNNING; the pool still sees the error
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = clock.instant().minus(RETENTION);
+        operations.values().removeIf(operation ->
+            operation.finishedAt != null && operation.finishedAt.isBefore(cutoff));
+    }
+
+    private static ThreadFactory threadFactory() {
+        try {
+            return (ThreadFactory) new InitialContext().lookup(MANAGED_THREAD_FACTORY);
+        } catch (NamingException e) {
+            // Outside a container, e.g. in tests
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "operation-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    private static final class Operation {
+        final String id;
+        final String type;
+        final Long ownerId;
+        final Instant submittedAt;
+        volatile OperationState state = OperationState.PENDING;
+        volatile Instant finishedAt;
+        volatile String error;
+
+        Operation(String id, String type, Long ownerId, Instant submittedAt) {
+            this.id = id;
+            this.type = type;
+            this.ownerId = ownerId;
+            this.submittedAt = submittedAt;
+        }
+
+        void finish(OperationState finalState, String failure, Instant at) {
+            error = failure;
+            finishedAt = at;
+            // Written last: a reader that sees the final state also sees the rest
+            state = finalState;
+        }
+
+        OperationStatus status() {
+            OperationState current = state;
+            return new OperationStatus(id, type, current, submittedAt, finishedAt, error);
+        }
+    }
+}
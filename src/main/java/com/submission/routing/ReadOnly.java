@@ -0,0 +1,18 @@
+package com.submission.routing;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service call that only reads and can tolerate data as old as the replica's allowed
+ * lag. Its queries go to the read replica when one is configured, unless the caller's session
+ * has just written. See {@link ReplicaRoutingConnectionProvider}.
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReadOnly {
+}
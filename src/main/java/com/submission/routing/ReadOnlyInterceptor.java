@@ -0,0 +1,51 @@
+package com.submission.routing;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Runs {@link ReadOnly} calls through {@link ReplicaRouting#readOnly}. While a replica is
+ * configured the call's session also stops putting what it loads into the second-level cache:
+ * a row read from a lagging replica would otherwise be cached as current after the newer
+ * version's invalidation, and served from there long after the replica caught up.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class ReadOnlyInterceptor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @AroundInvoke
+    public Object route(InvocationContext context) throws Exception {
+        if (ReplicaRouting.isReadOnly()) {
+            return context.proceed();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        if (!routesToReplica(session)) {
+            return ReplicaRouting.readOnly(context::proceed);
+        }
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        try {
+            return ReplicaRouting.readOnly(context::proceed);
+        } finally {
+            session.setCacheMode(previous);
+        }
+    }
+
+    private static boolean routesToReplica(Session session) {
+        ConnectionProvider provider = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry().getService(ConnectionProvider.class);
+        return provider instanceof ReplicaRoutingConnectionProvider routing && routing.hasReplica();
+    }
+}
@@ -0,0 +1,157 @@
+package com.submission.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * What {@link ReplicaRoutingConnectionProvider} needs to know about the thread asking for a
+ * connection: whether it is inside a {@link ReadOnly} call, which session it works for, and
+ * whether that session wrote recently enough that the replica may not have the write yet.
+ *
+ * <p>A session is whatever identifies one caller across requests, here the authenticated user
+ * or their bearer token. Its last write is remembered for {@link #WRITE_RETENTION}, longer than
+ * any lag the replica is allowed; threads without a session never read their own writes from
+ * the replica within one call, but nothing is remembered for them afterwards.
+ *
+ * <p>Last writes are remembered in this JVM only, so read-your-writes holds for requests that
+ * reach the node which took the write. With more than one node behind a load balancer, route
+ * each session to one node (sticky on the {@code Authorization} header or session cookie);
+ * a request that lands elsewhere may read from the replica before it has the write.
+ */
+public final class ReplicaRouting {
+
+    static final Duration WRITE_RETENTION = Duration.ofMinutes(5);
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private static final ThreadLocal<State> CURRENT = ThreadLocal.withInitial(State::new);
+    private static final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+    private static volatile Clock clock = Clock.systemUTC();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * Binds the calling thread to {@code session} until {@link #endSession()}, forgetting
+     * whatever an earlier task left on it.
+     */
+    public static void beginSession(String session) {
+        State state = CURRENT.get();
+        state.session = session;
+        state.readOnlyDepth = 0;
+        state.wrote = false;
+    }
+
+    /**
+     * Unbinds the calling thread. A session that wrote is routed to the primary until the
+     * replica has caught up with the write.
+     */
+    public static void endSession() {
+        State state = CURRENT.get();
+        if (state.wrote) {
+            recordWrite(state.session);
+        }
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps {@code work} so it runs for the calling thread's session on whichever thread
+     * runs it.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        String session = CURRENT.get().session;
+        return () -> {
+            State outer = CURRENT.get();
+            State inner = new State();
+            inner.session = session;
+            CURRENT.set(inner);
+            try {
+                return work.get();
+            } finally {
+                if (inner.wrote) {
+                    recordWrite(session);
+                }
+                // Run inline the work is part of the outer call, whose writes it shares
+                outer.wrote |= inner.wrote;
+                CURRENT.set(outer);
+            }
+        };
+    }
+
+    /**
+     * {@link #propagate(Supplier)} for work without a result.
+     */
+    public static Runnable propagate(Runnable work) {
+        Supplier<Void> propagated = propagate(() -> {
+            work.run();
+            return null;
+        });
+        return propagated::get;
+    }
+
+    /**
+     * Runs {@code work} as a {@link ReadOnly} call. Nested calls stay read-only.
+     */
+    public static <T> T readOnly(Callable<T> work) throws Exception {
+        State state = CURRENT.get();
+        state.readOnlyDepth++;
+        try {
+            return work.call();
+        } finally {
+            state.readOnlyDepth--;
+        }
+    }
+
+    static boolean isReadOnly() {
+        return CURRENT.get().readOnlyDepth > 0;
+    }
+
+    /**
+     * Whether this thread wrote during its current call, or its session wrote less than
+     * {@code lag} ago.
+     */
+    static boolean wroteWithin(Duration lag) {
+        State state = CURRENT.get();
+        if (state.wrote) {
+            return true;
+        }
+        Instant lastWrite = state.session == null ? null : lastWrites.get(state.session);
+        return lastWrite != null && lastWrite.plus(lag).isAfter(clock.instant());
+    }
+
+    static void markWrite() {
+        State state = CURRENT.get();
+        state.wrote = true;
+        recordWrite(state.session);
+    }
+
+    static void useClock(Clock newClock) {
+        clock = newClock;
+    }
+
+    static void forgetWrites() {
+        lastWrites.clear();
+    }
+
+    private static void recordWrite(String session) {
+        if (session == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (lastWrites.size() > SWEEP_THRESHOLD) {
+            Instant cutoff = now.minus(WRITE_RETENTION);
+            lastWrites.values().removeIf(lastWrite -> lastWrite.isBefore(cutoff));
+        }
+        lastWrites.put(session, now);
+    }
+
+    private static final class State {
+        String session;
+        int readOnlyDepth;
+        boolean wrote;
+    }
+}
@@ -0,0 +1,270 @@
+package com.submission.routing;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.ConnectionProviderInitiator;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Startable;
+import org.hibernate.service.spi.Stoppable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands {@link ReadOnly} calls connections to a read replica and everything else connections
+ * to the primary. Both come from an ordinary provider built from the persistence unit's own
+ * settings: {@value #DELEGATE_PROPERTY} names its class (Hibernate's default choice if unset),
+ * and the replica's provider sees every {@value #REPLICA_PREFIX}-prefixed property with the
+ * prefix removed in place of the unit's, e.g.
+ * {@code com.submission.routing.replica.hibernate.connection.datasource}. Without any such
+ * property every connection is the primary's.
+ *
+ * <p>A read-only call still reads from the primary when
+ *
+ * <ul>
+ *   <li>its thread has written in this call, or its session wrote less than
+ *       {@value #MAX_LAG_PROPERTY} ago (default {@value #DEFAULT_MAX_LAG_MS}), since the
+ *       replica may not have the write yet;</li>
+ *   <li>the replica is further behind than that, or its lag is unknown. Lag is what
+ *       {@value #LAG_QUERY_PROPERTY} returns, in milliseconds, checked at most every
+ *       {@value #LAG_CHECK_INTERVAL_PROPERTY} (default {@value #DEFAULT_LAG_CHECK_INTERVAL_MS}).
+ *       PostgreSQL standbys are checked by default; elsewhere an unset query means the replica
+ *       is taken to be current;</li>
+ *   <li>the replica refuses the connection.</li>
+ * </ul>
+ *
+ * The route is chosen when the session takes a connection: per statement under JTA, once per
+ * session otherwise. The replica's data source must not be enlisted in JTA transactions.
+ */
+public class ReplicaRoutingConnectionProvider
+        implements ConnectionProvider, Configurable, ServiceRegistryAwareService, Stoppable {
+
+    public static final String DELEGATE_PROPERTY = "com.submission.routing.delegate";
+    public static final String REPLICA_PREFIX = "com.submission.routing.replica.";
+    public static final String MAX_LAG_PROPERTY = "com.submission.routing.maxLagMs";
+    public static final String LAG_QUERY_PROPERTY = "com.submission.routing.lagQuery";
+    public static final String LAG_CHECK_INTERVAL_PROPERTY = "com.submission.routing.lagCheckIntervalMs";
+    static final long DEFAULT_MAX_LAG_MS = 5000;
+    static final long DEFAULT_LAG_CHECK_INTERVAL_MS = 1000;
+
+    // Zero while the standby has replayed everything it received, so an idle primary is no lag
+    static final String POSTGRESQL_LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+        + "then 0 else extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000 end";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingConnectionProvider.class);
+
+    private ServiceRegistryImplementor serviceRegistry;
+    private ConnectionProvider primary;
+    private ConnectionProvider replica;
+    private final Set<Connection> replicaConnections = ConcurrentHashMap.newKeySet();
+
+    private Duration maxLag;
+    private String lagQuery;
+    private long lagCheckIntervalNanos;
+    private final AtomicBoolean checkingLag = new AtomicBoolean();
+    private volatile LagCheck lastLagCheck;
+
+    @Override
+    public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+        this.serviceRegistry = serviceRegistry;
+    }
+
+    @Override
+    public void configure(Map<String, Object> settings) {
+        Map<String, Object> replicaSettings = new HashMap<>();
+        settings.forEach((key, value) -> {
+            if (key.startsWith(REPLICA_PREFIX)) {
+                replicaSettings.put(key.substring(REPLICA_PREFIX.length()), value);
+            }
+        });
+        primary = start(delegateSettings(settings, Map.of()));
+        if (!replicaSettings.isEmpty()) {
+            replica = start(delegateSettings(settings, replicaSettings));
+        }
+
+        maxLag = Duration.ofMillis(longSetting(settings, MAX_LAG_PROPERTY, DEFAULT_MAX_LAG_MS));
+        lagCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+            longSetting(settings, LAG_CHECK_INTERVAL_PROPERTY, DEFAULT_LAG_CHECK_INTERVAL_MS));
+        Object query = settings.get(LAG_QUERY_PROPERTY);
+        Object dialect = settings.get(AvailableSettings.DIALECT);
+        if (query != null && !query.toString().isBlank()) {
+            lagQuery = query.toString();
+        } else if (dialect != null && dialect.toString().contains("PostgreSQL")) {
+            lagQuery = POSTGRESQL_LAG_QUERY;
+        } else if (replica != null) {
+            logger.warn("No {} set; the read replica is taken to be current", LAG_QUERY_PROPERTY);
+        }
+    }
+
+    public boolean hasReplica() {
+        return replica != null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replica != null && ReplicaRouting.isReadOnly() && !ReplicaRouting.wroteWithin(maxLag)
+                && replicaIsCurrent()) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaConnections.add(connection);
+                return connection;
+            } catch (SQLException e) {
+                logger.warn("Read replica refused a connection; reading from the primary", e);
+                lastLagCheck = new LagCheck(false, System.nanoTime());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        if (replicaConnections.remove(connection)) {
+            replica.closeConnection(connection);
+        } else {
+            primary.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return primary.supportsAggressiveRelease();
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isAssignableFrom(getClass()) || primary.isUnwrappableAs(unwrapType);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(getClass())) {
+            return unwrapType.cast(this);
+        }
+        if (primary.isUnwrappableAs(unwrapType)) {
+            return primary.unwrap(unwrapType);
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        for (ConnectionProvider provider : new ConnectionProvider[] {replica, primary}) {
+            if (provider instanceof Stoppable stoppable) {
+                stoppable.stop();
+            }
+        }
+    }
+
+    private boolean replicaIsCurrent() {
+        if (lagQuery == null) {
+            return true;
+        }
+        LagCheck check = lastLagCheck;
+        long now = System.nanoTime();
+        // One thread measures; the others go by the last measurement meanwhile
+        if ((check == null || now - check.checkedAt() >= lagCheckIntervalNanos)
+                && checkingLag.compareAndSet(false, true)) {
+            try {
+                check = new LagCheck(measureLag(), now);
+                if (lastLagCheck != null && lastLagCheck.current() != check.current()) {
+                    logger.info(check.current() ? "Read replica caught up; reading from it again"
+                        : "Read replica is behind; reading from the primary");
+                }
+                lastLagCheck = check;
+            } finally {
+                checkingLag.set(false);
+            }
+        }
+        return check != null && check.current();
+    }
+
+    private boolean measureLag() {
+        Connection connection = null;
+        try {
+            connection = replica.getConnection();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery(lagQuery)) {
+                if (!rows.next()) {
+                    return false;
+                }
+                double lagMillis = rows.getDouble(1);
+                return !rows.wasNull() && lagMillis <= maxLag.toMillis();
+            } finally {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not measure read replica lag", e);
+            return false;
+        } finally {
+            if (connection != null) {
+                try {
+                    replica.closeConnection(connection);
+                } catch (SQLException e) {
+                    logger.warn("Could not return a read replica connection", e);
+                }
+            }
+        }
+    }
+
+    private ConnectionProvider start(Map<String, Object> settings) {
+        ConnectionProvider provider = ConnectionProviderInitiator.INSTANCE.initiateService(settings, serviceRegistry);
+        // The registry does this for the provider it creates itself
+        if (provider instanceof ServiceRegistryAwareService aware) {
+            aware.injectServices(serviceRegistry);
+        }
+        if (provider instanceof Configurable configurable) {
+            configurable.configure(settings);
+        }
+        if (provider instanceof Startable startable) {
+            startable.start();
+        }
+        return provider;
+    }
+
+    private static Map<String, Object> delegateSettings(Map<String, Object> settings, Map<String, Object> overrides) {
+        Map<String, Object> delegate = new HashMap<>();
+        settings.forEach((key, value) -> {
+            if (!key.startsWith(REPLICA_PREFIX)) {
+                delegate.put(key, value);
+            }
+        });
+        Object delegateClass = settings.get(DELEGATE_PROPERTY);
+        if (delegateClass != null) {
+            delegate.put(AvailableSettings.CONNECTION_PROVIDER, delegateClass);
+        } else {
+            delegate.remove(AvailableSettings.CONNECTION_PROVIDER);
+        }
+        delegate.putAll(overrides);
+        return delegate;
+    }
+
+    private static long longSetting(Map<String, Object> settings, String name, long defaultValue) {
+        Object value = settings.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        long parsed = Long.parseLong(value.toString().trim());
+        if (parsed < 0) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return parsed;
+    }
+
+    private record LagCheck(boolean current, long checkedAt) {
+    }
+}
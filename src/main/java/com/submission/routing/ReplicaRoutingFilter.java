@@ -0,0 +1,56 @@
+package com.submission.routing;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+
+/**
+ * Binds each request to the caller's session for {@link ReplicaRouting}: the authenticated
+ * user, or the bearer token issued at login. The token is only kept as its SHA-256, so the
+ * sessions remembered in memory cannot be replayed as credentials. Work handed to another
+ * thread carries the session along through {@link ReplicaRouting#propagate}.
+ */
+@Provider
+public class ReplicaRoutingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        ReplicaRouting.beginSession(session(requestContext));
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        ReplicaRouting.endSession();
+    }
+
+    private static String session(ContainerRequestContext requestContext) {
+        Principal principal = requestContext.getSecurityContext() == null ? null
+            : requestContext.getSecurityContext().getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String header = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        String token = header.substring(7).trim();
+        return token.isEmpty() ? null : "token:" + sha256(token);
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.submission.routing;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Notes every insert, update, delete and merge with {@link ReplicaRouting}, so the rest of the
+ * call and the session's next reads go to the primary. Hibernate inspects a statement before
+ * taking the connection it runs on, which is what keeps a flush inside a {@link ReadOnly} call
+ * off the replica.
+ */
+public class WriteTrackingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        if (isWrite(sql)) {
+            ReplicaRouting.markWrite();
+        }
+        return sql;
+    }
+
+    static boolean isWrite(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        return startsWithKeyword(sql, start, "insert") || startsWithKeyword(sql, start, "update")
+            || startsWithKeyword(sql, start, "delete") || startsWithKeyword(sql, start, "merge");
+    }
+
+    private static boolean startsWithKeyword(String sql, int start, String keyword) {
+        return sql.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+}
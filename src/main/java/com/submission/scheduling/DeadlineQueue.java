@@ -0,0 +1,51 @@
+package com.submission.scheduling;
+
+import com.submission.dto.DeadlineEntry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Min-heap of upcoming deadlines. It only decides when the scheduler wakes up: an entry whose
+ * deadline has since moved just causes a wake-up that finds nothing to close. Not thread-safe;
+ * {@link DeadlineScheduler} serializes access.
+ */
+class DeadlineQueue {
+
+    private final PriorityQueue<DeadlineEntry> heap = new PriorityQueue<>(
+        Comparator.comparing(DeadlineEntry::deadline).thenComparing(DeadlineEntry::assignmentId));
+    // The periodic rescan re-reads deadlines that are already queued
+    private final Set<DeadlineEntry> queued = new HashSet<>();
+
+    boolean add(DeadlineEntry entry) {
+        if (!queued.add(entry)) {
+            return false;
+        }
+        heap.add(entry);
+        return true;
+    }
+
+    Optional<LocalDateTime> nextDeadline() {
+        DeadlineEntry head = heap.peek();
+        return head == null ? Optional.empty() : Optional.of(head.deadline());
+    }
+
+    List<DeadlineEntry> pollDue(LocalDateTime now) {
+        List<DeadlineEntry> due = new ArrayList<>();
+        while (!heap.isEmpty() && !heap.peek().deadline().isAfter(now)) {
+            DeadlineEntry entry = heap.poll();
+            queued.remove(entry);
+            due.add(entry);
+        }
+        return due;
+    }
+
+    int size() {
+        return heap.size();
+    }
+}
@@ -0,0 +1,132 @@
+package com.submission.scheduling;
+
+import com.submission.dao.AssignmentDAO;
+import com.submission.dto.DeadlineEntry;
+import com.submission.metrics.DeadlineMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import jakarta.ejb.NoSuchObjectLocalException;
+import jakarta.ejb.Schedule;
+import jakarta.ejb.Singleton;
+import jakarta.ejb.Startup;
+import jakarta.ejb.Timeout;
+import jakarta.ejb.Timer;
+import jakarta.ejb.TimerConfig;
+import jakarta.ejb.TimerService;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Closes assignments when their deadline passes. Deadlines falling within the next
+ * {@link #HORIZON} are kept in a {@link DeadlineQueue} and a single timer is armed for the
+ * earliest one; when it fires, every expired assignment is closed and its late submissions are
+ * marked with one set-based UPDATE each. A periodic rescan picks up deadlines that enter the
+ * horizon and any that were never tracked.
+ *
+ * <p>Singleton methods are write-locked by the container, which is what keeps the queue and the
+ * timer handle consistent.
+ */
+@Singleton
+@Startup
+public class DeadlineScheduler implements DeadlineTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineScheduler.class);
+    static final Duration HORIZON = Duration.ofMinutes(15);
+
+    private final AssignmentDAO assignmentDAO;
+    private final DeadlineMetrics metrics;
+    private final DeadlineQueue queue = new DeadlineQueue();
+
+    @Resource
+    private TimerService timerService;
+
+    private Timer wakeup;
+
+    @Inject
+    public DeadlineScheduler(AssignmentDAO assignmentDAO, DeadlineMetrics metrics) {
+        this.assignmentDAO = assignmentDAO;
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    void start() {
+        rescan();
+    }
+
+    // Runs well inside the horizon so a deadline is always queued before it is due
+    @Schedule(minute = "*/5", hour = "*", persistent = false)
+    public void rescan() {
+        LocalDateTime now = LocalDateTime.now();
+        assignmentDAO.findOpenDeadlinesUntil(now.plus(HORIZON)).forEach(queue::add);
+        arm(now);
+    }
+
+    @Override
+    public void track(Long assignmentId, LocalDateTime deadline) {
+        LocalDateTime now = LocalDateTime.now();
+        if (assignmentId != null && deadline != null && deadline.isBefore(now.plus(HORIZON))) {
+            queue.add(new DeadlineEntry(assignmentId, deadline));
+            arm(now);
+        }
+    }
+
+    @Timeout
+    public void onWakeup(Timer timer) {
+        LocalDateTime now = LocalDateTime.now();
+        closeExpired(now);
+        arm(now);
+    }
+
+    /**
+     * Closes everything due at {@code now}. The queue only says when to look; which assignments
+     * are expired is decided by the database.
+     *
+     * @return number of assignments closed
+     */
+    int closeExpired(LocalDateTime now) {
+        List<DeadlineEntry> due = queue.pollDue(now);
+        List<DeadlineEntry> expired = assignmentDAO.findOpenDeadlinesUntil(now);
+        if (expired.isEmpty()) {
+            if (!due.isEmpty()) {
+                logger.debug("{} queued deadlines had moved or were already closed", due.size());
+            }
+            return 0;
+        }
+        int closed = assignmentDAO.closeExpiredAssignments(now);
+        int late = assignmentDAO.markLateSubmissions(
+            expired.stream().map(DeadlineEntry::assignmentId).toList());
+        expired.forEach(entry -> metrics.recordLag(entry.deadline(), now));
+        metrics.recordTransition(now, closed, late);
+        logger.info("Closed {} assignments past their deadline, {} submissions marked late", closed, late);
+        return closed;
+    }
+
+    private void arm(LocalDateTime now) {
+        Optional<LocalDateTime> next = queue.nextDeadline();
+        Date target = next
+            .map(deadline -> Date.from(deadline.atZone(ZoneId.systemDefault()).toInstant()))
+            .orElse(null);
+        if (wakeup != null) {
+            try {
+                if (target != null && !wakeup.getNextTimeout().after(target)) {
+                    return;
+                }
+                wakeup.cancel();
+            } catch (NoSuchObjectLocalException e) {
+                // Already fired
+            }
+            wakeup = null;
+        }
+        if (target != null) {
+            long delay = Math.max(0, Duration.between(now, next.get()).toMillis());
+            wakeup = timerService.createSingleActionTimer(delay, new TimerConfig(null, false));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.submission.scheduling;
+
+import java.time.LocalDateTime;
+
+/**
+ * Told about new or moved deadlines so they can be closed on time rather than at the next
+ * periodic scan.
+ */
+@FunctionalInterface
+public interface DeadlineTracker {
+
+    DeadlineTracker NONE = (assignmentId, deadline) -> { };
+
+    void track(Long assignmentId, LocalDateTime deadline);
+}
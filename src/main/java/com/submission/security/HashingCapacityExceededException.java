@@ -0,0 +1,12 @@
+package com.submission.security;
+
+/**
+ * Thrown when the password hashing pool is saturated. Callers should answer with
+ * 503 Service Unavailable and let the client retry.
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+
+    public HashingCapacityExceededException() {
+        super("Authentication is temporarily overloaded, please retry");
+    }
+}
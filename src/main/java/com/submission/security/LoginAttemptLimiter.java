@@ -0,0 +1,86 @@
+package com.submission.security;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed-window login attempt counters keyed by email and by client address. Checked before the
+ * account is looked up, so a burst of guesses is turned away without touching the database or
+ * spending a bcrypt round.
+ */
+@ApplicationScoped
+public class LoginAttemptLimiter {
+
+    static final int MAX_ATTEMPTS_PER_EMAIL = 5;
+    static final Duration EMAIL_WINDOW = Duration.ofMinutes(15);
+    static final int MAX_ATTEMPTS_PER_ADDRESS = 30;
+    static final Duration ADDRESS_WINDOW = Duration.ofMinutes(1);
+    // Expired windows are swept once the map grows past this many keys
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public LoginAttemptLimiter() {
+        this(Clock.systemUTC());
+    }
+
+    LoginAttemptLimiter(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Counts an attempt against both the email and the client address.
+     *
+     * @param email email the client is trying to log in as, may be null
+     * @param clientAddress remote address of the caller, may be null
+     * @return seconds the caller has to wait, or 0 if the attempt may proceed
+     */
+    public long tryAcquire(String email, String clientAddress) {
+        if (windows.size() > SWEEP_THRESHOLD) {
+            sweep();
+        }
+        long now = clock.millis();
+        long retryAfter = 0;
+        if (email != null) {
+            retryAfter = count("email:" + email.trim().toLowerCase(), MAX_ATTEMPTS_PER_EMAIL, EMAIL_WINDOW, now);
+        }
+        if (clientAddress != null) {
+            retryAfter = Math.max(retryAfter,
+                count("addr:" + clientAddress, MAX_ATTEMPTS_PER_ADDRESS, ADDRESS_WINDOW, now));
+        }
+        return retryAfter;
+    }
+
+    /**
+     * Clears the email counter after a successful login. The address counter is left alone so a
+     * single client cannot cycle through accounts it controls to keep guessing.
+     */
+    public void recordSuccess(String email) {
+        if (email != null) {
+            windows.remove("email:" + email.trim().toLowerCase());
+        }
+    }
+
+    private long count(String key, int limit, Duration length, long now) {
+        Window window = windows.compute(key, (k, current) ->
+            current == null || current.expiresAt <= now
+                ? new Window(now + length.toMillis(), 1)
+                : new Window(current.expiresAt, current.attempts + 1));
+        if (window.attempts <= limit) {
+            return 0;
+        }
+        return Math.max(1, (window.expiresAt - now + 999) / 1000);
+    }
+
+    private void sweep() {
+        long now = clock.millis();
+        windows.values().removeIf(window -> window.expiresAt <= now);
+    }
+
+    private record Window(long expiresAt, int attempts) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.submission.security;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived bearer tokens issued after a successful password check. Resolving a token is a
+ * map lookup, so authenticated API calls never repeat the bcrypt verification.
+ */
+@ApplicationScoped
+public class SessionTokenStore {
+
+    static final Duration TOKEN_TTL = Duration.ofMinutes(30);
+    private static final int TOKEN_BYTES = 32;
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final Clock clock;
+
+    public SessionTokenStore() {
+        this(Clock.systemUTC());
+    }
+
+    SessionTokenStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    public IssuedToken issue(Long teacherId) {
+        if (sessions.size() > SWEEP_THRESHOLD) {
+            Instant now = clock.instant();
+            sessions.values().removeIf(session -> !session.expiresAt.isAfter(now));
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant expiresAt = clock.instant().plus(TOKEN_TTL);
+        sessions.put(token, new Session(teacherId, expiresAt));
+        return new IssuedToken(token, expiresAt);
+    }
+
+    /**
+     * @return the teacher the token was issued to, or empty if it is unknown or expired
+     */
+    public Optional<Long> resolve(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (!session.expiresAt.isAfter(clock.instant())) {
+            sessions.remove(token, session);
+            return Optional.empty();
+        }
+        return Optional.of(session.teacherId);
+    }
+
+    public void revoke(String token) {
+        if (token != null) {
+            sessions.remove(token);
+        }
+    }
+
+    /**
+     * Drops every token of a teacher, e.g. after a password change.
+     */
+    public void revokeAll(Long teacherId) {
+        sessions.values().removeIf(session -> session.teacherId.equals(teacherId));
+    }
+
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    private record Session(Long teacherId, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.submission.service;
+
+/**
+ * An appeal decision came from a reviewer who does not hold a live claim on the appeal: it was
+ * never claimed, the claim expired, or another reviewer holds it. Callers should answer with
+ * 409 Conflict; the reviewer claims the appeal again before deciding it.
+ */
+public class AppealNotClaimedException extends RuntimeException {
+
+    public AppealNotClaimedException() {
+        super("Claim this appeal before deciding it; it is unclaimed, your claim expired or another reviewer holds it");
+    }
+}
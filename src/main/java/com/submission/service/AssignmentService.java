@@ -1,7 +1,12 @@
 package com.submission.service;
 
+import com.submission.dto.AssignmentDetail;
+import com.submission.dto.AssignmentRequest;
+import com.submission.dto.AssignmentSummary;
+import com.submission.dto.Page;
 import com.submission.model.Assignment;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +23,16 @@ public interface AssignmentService {
     Assignment createAssignment(String title, String description, String filePath, 
                               LocalDateTime deadline, Long teacherId);
 
+    /**
+     * Create several assignments for one teacher, e.g. a term's worth when setting up a course.
+     * Every request is validated before anything is written, so either all are created or none.
+     * @param teacherId ID of the teacher creating the assignments
+     * @param requests Title, description, file path and deadline of each assignment
+     * @return The created assignments, in request order
+     * @throws IllegalArgumentException if any request is invalid, naming the first one that is
+     */
+    List<Assignment> createAssignments(Long teacherId, List<AssignmentRequest> requests);
+
     /**
      * Find an assignment by ID
      * @param id Assignment ID
@@ -25,6 +40,13 @@ public interface AssignmentService {
      */
     Optional<Assignment> findAssignmentById(Long id);
 
+    /**
+     * Find an assignment by ID as a read-only projection, without loading the entity
+     * @param id Assignment ID
+     * @return Optional containing the assignment's details if found
+     */
+    Optional<AssignmentDetail> findAssignmentDetail(Long id);
+
     /**
      * Get all assignments for a teacher
      * @param teacherId Teacher's ID
@@ -32,6 +54,16 @@ public interface AssignmentService {
      */
     List<Assignment> getTeacherAssignments(Long teacherId);
 
+    /**
+     * Get one page of a teacher's assignments ordered by deadline
+     * @param teacherId Teacher's ID
+     * @param cursor Continuation token from the previous page, or null for the first page
+     * @param pageSize Requested page size, or null for the default; capped at the maximum page size
+     * @return Page of assignment summaries with the token for the next page
+     * @throws IllegalArgumentException if the cursor or page size is invalid
+     */
+    Page<AssignmentSummary> getTeacherAssignmentPage(Long teacherId, String cursor, Integer pageSize);
+
     /**
      * Get active assignments (deadline not passed)
      * @return List of active assignments
@@ -61,6 +93,16 @@ public interface AssignmentService {
      */
     void deleteAssignment(Long id, Long teacherId);
 
+    /**
+     * Delete several assignments and all related data in one transaction
+     * @param ids Assignment IDs
+     * @param teacherId Teacher's ID; every assignment must belong to this teacher
+     * @return Number of assignments deleted
+     * @throws IllegalArgumentException if any assignment is missing or belongs to another
+     *         teacher, in which case nothing is deleted
+     */
+    int deleteAssignments(Collection<Long> ids, Long teacherId);
+
     /**
      * Get assignments due between two dates
      * @param start Start date
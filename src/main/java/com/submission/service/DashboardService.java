@@ -0,0 +1,13 @@
+package com.submission.service;
+
+import com.submission.dto.AssignmentStats;
+import java.util.List;
+
+public interface DashboardService {
+    /**
+     * Get submission, graded and late counts for every assignment of a teacher
+     * @param teacherId ID of the teacher
+     * @return One entry per assignment ordered by deadline, including assignments without submissions
+     */
+    List<AssignmentStats> getAssignmentStats(Long teacherId);
+}
@@ -0,0 +1,27 @@
+package com.submission.service;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface DownloadService {
+    /**
+     * Get the file attached to an assignment
+     * @param assignmentId Assignment ID
+     * @return The file if the assignment exists and its file is present in storage
+     */
+    Optional<Path> findAssignmentFile(Long assignmentId);
+
+    /**
+     * Get the file of a note
+     * @param noteId Note ID
+     * @return The file if the note exists and its file is present in storage
+     */
+    Optional<Path> findNoteFile(Long noteId);
+
+    /**
+     * Get the file of a past paper
+     * @param pastPaperId Past paper ID
+     * @return The file if the past paper exists and its file is present in storage
+     */
+    Optional<Path> findPastPaperFile(Long pastPaperId);
+}
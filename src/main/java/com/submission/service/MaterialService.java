@@ -0,0 +1,40 @@
+package com.submission.service;
+
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+public interface MaterialService {
+    /**
+     * Upload a note; a file identical to one already stored is not stored again
+     * @param teacherId ID of the uploading teacher
+     * @param title Note title
+     * @param subject Subject the note is for
+     * @param academicYear Academic year, e.g. "2026"
+     * @param fileName Original file name, which decides the file type
+     * @param content File contents
+     * @return The created note
+     * @throws IllegalArgumentException if a field is missing, the file is not allowed or the teacher does not exist
+     * @throws IOException if the file could not be stored
+     */
+    Note uploadNote(Long teacherId, String title, String subject, String academicYear,
+                    String fileName, ReadableByteChannel content) throws IOException;
+
+    /**
+     * Upload a past paper; a file identical to one already stored is not stored again
+     * @param teacherId ID of the uploading teacher
+     * @param title Paper title
+     * @param description Optional description
+     * @param examYear Year the exam was sat
+     * @param examType Kind of exam
+     * @param fileName Original file name, which decides the file type
+     * @param content File contents
+     * @return The created past paper
+     * @throws IllegalArgumentException if a field is missing, the file is not allowed or the teacher does not exist
+     * @throws IOException if the file could not be stored
+     */
+    PastPaper uploadPastPaper(Long teacherId, String title, String description, Integer examYear,
+                              ExamType examType, String fileName, ReadableByteChannel content) throws IOException;
+}
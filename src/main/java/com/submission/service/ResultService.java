@@ -1,8 +1,16 @@
 package com.submission.service;
 
+import com.submission.dto.AppealClaim;
+import com.submission.dto.GradeOutcome;
+import com.submission.dto.GradeRequest;
+import com.submission.dto.Page;
+import com.submission.dto.ResultExportRow;
+import com.submission.dto.StudentResultSummary;
 import com.submission.model.Result;
+import com.submission.model.ResultStatus;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ResultService {
     /**
@@ -15,6 +23,16 @@ public interface ResultService {
      */
     Result gradeSubmission(Long submissionId, Long teacherId, String grade, String remarks);
 
+    /**
+     * Grade many submissions in one transaction. Items that fail validation or ownership checks
+     * are reported as rejected; the remaining grades are written in JDBC batches.
+     * @param grades Grade requests, each carrying its submission ID
+     * @param teacherId ID of the teacher grading the submissions
+     * @return One outcome per request, in request order
+     * @throws IllegalArgumentException if the batch is empty or larger than the allowed maximum
+     */
+    List<GradeOutcome> gradeSubmissions(List<GradeRequest> grades, Long teacherId);
+
     /**
      * Get all results for an assignment
      * @param assignmentId ID of the assignment
@@ -23,6 +41,22 @@ public interface ResultService {
      */
     List<Result> getResultsByAssignment(Long assignmentId, Long teacherId);
 
+    /**
+     * Check that an assignment exists and belongs to a teacher
+     * @param assignmentId ID of the assignment
+     * @param teacherId ID of the teacher
+     * @throws IllegalArgumentException if the assignment is missing or owned by another teacher
+     */
+    void verifyAssignmentOwnership(Long assignmentId, Long teacherId);
+
+    /**
+     * Stream all results for an assignment to a sink, one row at a time, inside a single transaction
+     * @param assignmentId ID of the assignment
+     * @param teacherId ID of the teacher requesting the export
+     * @param sink Receives each row as it is read from the database
+     */
+    void exportResultsByAssignment(Long assignmentId, Long teacherId, Consumer<ResultExportRow> sink);
+
     /**
      * Get a specific result
      * @param submissionId ID of the submission
@@ -47,4 +81,34 @@ public interface ResultService {
      * @param teacherId ID of the teacher deleting the grade
      */
     void deleteGrade(Long submissionId, Long teacherId);
+
+    /**
+     * Claim a batch of open appeals on the teacher's assignments. Each appeal is held until it is
+     * decided or the lease expires, and concurrent claims (another session, another tab) do not
+     * receive it in the meantime.
+     * @param teacherId ID of the reviewing teacher
+     * @param batchSize Maximum number of appeals to claim, or null for the default
+     * @return The claimed appeals, oldest first; empty when the queue is drained
+     */
+    List<AppealClaim> claimAppeals(Long teacherId, Integer batchSize);
+
+    /**
+     * Record the progress of an appeal against a grade, releasing the teacher's claim on it
+     * @param submissionId ID of the submission
+     * @param teacherId ID of the teacher handling the appeal
+     * @param status APPEALED or APPEAL_REVIEWED
+     * @param remarks The new remarks
+     * @return The updated result
+     * @throws AppealNotClaimedException if the teacher does not hold a live claim on the appeal
+     */
+    Result updateAppealStatus(Long submissionId, Long teacherId, ResultStatus status, String remarks);
+
+    /**
+     * Get one page of a student's results, newest deadline first
+     * @param studentId ID of the student
+     * @param cursor Continuation token from the previous page, or null for the first page
+     * @param pageSize Maximum number of results, or null for the default
+     * @return The page and the token for the next one
+     */
+    Page<StudentResultSummary> getStudentResults(Long studentId, String cursor, Integer pageSize);
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.submission.service;
+
+import com.submission.dto.Page;
+import com.submission.dto.StudentResultSummary;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+/**
+ * Timeline pages per student. Grading a student's result drops all of that student's pages, and
+ * deleting assignments drops every page, since any student may have had a result on them.
+ * Pages are otherwise kept for {@link #TTL}, which also bounds how long an edited assignment
+ * title or deadline can show its old value.
+ *
+ * <p>Invalidation removes the student's whole bucket, so a reader that loaded its page before
+ * the invalidation stores it in a bucket nobody reads again. Inside a JTA transaction the
+ * bucket is dropped once more after completion, covering readers that ran between the write
+ * and its commit.
+ */
+@ApplicationScoped
+public class StudentResultsCache {
+
+    static final Duration TTL = Duration.ofSeconds(60);
+    private static final int SWEEP_THRESHOLD = 10_000;
+    private static final String REGISTRY = "java:comp/TransactionSynchronizationRegistry";
+
+    private final Map<Long, Map<String, Entry>> buckets = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final TransactionSynchronizationRegistry registry;
+
+    public StudentResultsCache() {
+        this(Clock.systemUTC(), lookupRegistry());
+    }
+
+    StudentResultsCache(Clock clock, TransactionSynchronizationRegistry registry) {
+        this.clock = clock;
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the cached page for this student, cursor and size, loading and caching it if
+     * absent or expired.
+     */
+    public Page<StudentResultSummary> get(Long studentId, String cursor, int pageSize,
+                                          Supplier<Page<StudentResultSummary>> loader) {
+        Instant now = clock.instant();
+        String key = (cursor == null ? "" : cursor) + "#" + pageSize;
+        Map<String, Entry> bucket = buckets.get(studentId);
+        if (bucket != null) {
+            Entry entry = bucket.get(key);
+            if (entry != null && entry.expiresAt.isAfter(now)) {
+                return entry.page;
+            }
+        } else {
+            if (buckets.size() > SWEEP_THRESHOLD) {
+                sweep(now);
+            }
+            bucket = buckets.computeIfAbsent(studentId, id -> new ConcurrentHashMap<>());
+        }
+        Page<StudentResultSummary> page = loader.get();
+        bucket.put(key, new Entry(page, now.plus(TTL)));
+        return page;
+    }
+
+    public void invalidate(Long studentId) {
+        dropNowAndAfterCommit(() -> buckets.remove(studentId));
+    }
+
+    public void invalidateAll() {
+        dropNowAndAfterCommit(buckets::clear);
+    }
+
+    private void dropNowAndAfterCommit(Runnable drop) {
+        drop.run();
+        if (registry != null && registry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            registry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    drop.run();
+                }
+            });
+        }
+    }
+
+    private void sweep(Instant now) {
+        buckets.values().removeIf(bucket -> {
+            bucket.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+            return bucket.isEmpty();
+        });
+    }
+
+    private static TransactionSynchronizationRegistry lookupRegistry() {
+        try {
+            return (TransactionSynchronizationRegistry) new InitialContext().lookup(REGISTRY);
+        } catch (NamingException e) {
+            return null;
+        }
+    }
+
+    private record Entry(Page<StudentResultSummary> page, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.submission.service;
+
+import com.submission.model.Submission;
+
+public interface SubmissionService {
+    /**
+     * Record a student's submission. Returns only once the submission is committed; concurrent
+     * submissions are written together in batches.
+     * @param assignmentId ID of the assignment
+     * @param studentId ID of the submitting student
+     * @param filePath Where the submitted file is stored
+     * @return The persisted submission, LATE if the deadline has passed
+     * @throws IllegalArgumentException if the assignment is missing or the student already submitted
+     * @throws com.submission.ingest.IngestCapacityExceededException if too many submissions are
+     *         waiting to be written
+     */
+    Submission submit(Long assignmentId, Long studentId, String filePath);
+}
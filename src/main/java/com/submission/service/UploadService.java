@@ -0,0 +1,49 @@
+package com.submission.service;
+
+import com.submission.dto.UploadRequest;
+import com.submission.dto.UploadStatus;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+public interface UploadService {
+    /**
+     * Start a resumable upload for a student's submission
+     * @param studentId ID of the uploading student, who owns the upload
+     * @param request Assignment, file name and total length
+     * @return Status with the upload ID and an offset of zero
+     * @throws IllegalArgumentException if the file is not allowed or the student already submitted
+     */
+    UploadStatus beginUpload(Long studentId, UploadRequest request);
+
+    /**
+     * Get how many bytes of an upload have been stored
+     * @param uploadId Upload ID
+     * @param studentId ID of the student asking
+     * @return Current status
+     * @throws IllegalArgumentException if the upload does not exist or is another student's
+     */
+    UploadStatus getUploadStatus(String uploadId, Long studentId);
+
+    /**
+     * Append a chunk; the submission is recorded when the last byte arrives
+     * @param uploadId Upload ID
+     * @param studentId ID of the student sending the chunk
+     * @param offset Offset the chunk starts at, which must equal the stored length
+     * @param source Chunk contents
+     * @return Status after the chunk, carrying the submission ID once complete
+     * @throws com.submission.storage.UploadConflictException if the offset is stale
+     * @throws com.submission.ingest.IngestCapacityExceededException if the submission could not be
+     *         recorded yet; the upload is kept and completes on a retry at the final offset
+     * @throws IOException if the chunk could not be read or stored; received bytes are kept
+     */
+    UploadStatus appendChunk(String uploadId, Long studentId, long offset, ReadableByteChannel source)
+        throws IOException;
+
+    /**
+     * Discard an unfinished upload
+     * @param uploadId Upload ID
+     * @param studentId ID of the student cancelling
+     * @throws IllegalArgumentException if the upload does not exist or is another student's
+     */
+    void cancelUpload(String uploadId, Long studentId);
+}
@@ -2,14 +2,23 @@ package com.submission.service.impl;
 
 import com.submission.dao.AssignmentDAO;
 import com.submission.dao.TeacherDAO;
+import com.submission.dto.AssignmentDetail;
+import com.submission.dto.AssignmentRequest;
+import com.submission.dto.AssignmentSummary;
+import com.submission.dto.KeysetCursor;
+import com.submission.dto.Page;
 import com.submission.model.Assignment;
 import com.submission.model.Teacher;
+import com.submission.routing.ReadOnly;
+import com.submission.scheduling.DeadlineTracker;
 import com.submission.service.AssignmentService;
+import com.submission.service.StudentResultsCache;
+import com.submission.storage.FileUploadPolicy;
 import jakarta.ejb.Stateless;
 import jakarta.inject.Inject;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,23 +26,84 @@ import java.util.Set;
 @Stateless
 public class AssignmentServiceImpl implements AssignmentService {
 
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
-    private static final Set<String> ALLOWED_EXTENSIONS = new HashSet<>(
-        Arrays.asList(".pdf", ".doc", ".docx", ".zip", ".pptx")
-    );
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
     private final AssignmentDAO assignmentDAO;
     private final TeacherDAO teacherDAO;
+    private final DeadlineTracker deadlineTracker;
+    private final StudentResultsCache studentResultsCache;
 
-    @Inject
     public AssignmentServiceImpl(AssignmentDAO assignmentDAO, TeacherDAO teacherDAO) {
+        this(assignmentDAO, teacherDAO, DeadlineTracker.NONE);
+    }
+
+    public AssignmentServiceImpl(AssignmentDAO assignmentDAO, TeacherDAO teacherDAO,
+                                 DeadlineTracker deadlineTracker) {
+        this(assignmentDAO, teacherDAO, deadlineTracker, new StudentResultsCache());
+    }
+
+    @Inject
+    public AssignmentServiceImpl(AssignmentDAO assignmentDAO, TeacherDAO teacherDAO,
+                                 DeadlineTracker deadlineTracker, StudentResultsCache studentResultsCache) {
         this.assignmentDAO = assignmentDAO;
         this.teacherDAO = teacherDAO;
+        this.deadlineTracker = deadlineTracker;
+        this.studentResultsCache = studentResultsCache;
     }
 
     @Override
     public Assignment createAssignment(String title, String description, String filePath,
                                      LocalDateTime deadline, Long teacherId) {
+        validateAssignment(title, filePath, deadline, LocalDateTime.now());
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+
+        Teacher teacher = teacherDAO.findById(teacherId)
+            .orElseThrow(() -> new IllegalArgumentException("Teacher not found"));
+
+        Assignment assignment = new Assignment(title, description, filePath, deadline, teacher, "ACTIVE");
+        Assignment saved = assignmentDAO.save(assignment);
+        deadlineTracker.track(saved.getId(), saved.getDeadline());
+        return saved;
+    }
+
+    @Override
+    public List<Assignment> createAssignments(Long teacherId, List<AssignmentRequest> requests) {
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one assignment is required");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < requests.size(); i++) {
+            AssignmentRequest request = requests.get(i);
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("Assignment is required");
+                }
+                validateAssignment(request.getTitle(), request.getFilePath(), request.getDeadline(), now);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Assignment " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+
+        Teacher teacher = teacherDAO.findById(teacherId)
+            .orElseThrow(() -> new IllegalArgumentException("Teacher not found"));
+
+        List<Assignment> assignments = requests.stream()
+            .map(request -> new Assignment(request.getTitle(), request.getDescription(), request.getFilePath(),
+                request.getDeadline(), teacher, "ACTIVE"))
+            .toList();
+        assignmentDAO.saveAll(assignments);
+        assignments.forEach(saved -> deadlineTracker.track(saved.getId(), saved.getDeadline()));
+        return assignments;
+    }
+
+    private static void validateAssignment(String title, String filePath, LocalDateTime deadline,
+                                           LocalDateTime now) {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Title is required");
         }
@@ -43,19 +113,9 @@ public class AssignmentServiceImpl implements AssignmentService {
         if (deadline == null) {
             throw new IllegalArgumentException("Deadline is required");
         }
-        if (teacherId == null) {
-            throw new IllegalArgumentException("Teacher ID is required");
-        }
-
-        Teacher teacher = teacherDAO.findById(teacherId)
-            .orElseThrow(() -> new IllegalArgumentException("Teacher not found"));
-
-        if (deadline.isBefore(LocalDateTime.now())) {
+        if (deadline.isBefore(now)) {
             throw new IllegalArgumentException("Deadline cannot be in the past");
         }
-
-        Assignment assignment = new Assignment(title, description, filePath, deadline, teacher, "ACTIVE");
-        return assignmentDAO.save(assignment);
     }
 
     @Override
@@ -64,10 +124,50 @@ public class AssignmentServiceImpl implements AssignmentService {
     }
 
     @Override
+    public Optional<AssignmentDetail> findAssignmentDetail(Long id) {
+        return assignmentDAO.findDetailById(id);
+    }
+
+    @Override
+    @ReadOnly
     public List<Assignment> getTeacherAssignments(Long teacherId) {
         return assignmentDAO.findByTeacherId(teacherId);
     }
 
+    @Override
+    @ReadOnly
+    public Page<AssignmentSummary> getTeacherAssignmentPage(Long teacherId, String cursor, Integer pageSize) {
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+        int limit = resolvePageSize(pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<AssignmentSummary> rows = assignmentDAO.findSummariesByTeacherIdAfter(
+            teacherId,
+            after != null ? after.getDeadline() : null,
+            after != null ? after.getId() : null,
+            limit + 1);
+
+        if (rows.size() <= limit) {
+            return new Page<>(rows, null);
+        }
+        List<AssignmentSummary> items = rows.subList(0, limit);
+        AssignmentSummary last = items.get(limit - 1);
+        return new Page<>(items, new KeysetCursor(last.deadline(), last.id()).encode());
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
     @Override
     public List<Assignment> getActiveAssignments() {
         return assignmentDAO.findActiveAssignments(LocalDateTime.now());
@@ -95,25 +195,50 @@ public class AssignmentServiceImpl implements AssignmentService {
         }
         if (deadline != null) {
             assignment.setDeadline(deadline);
+            // Extending a closed assignment's deadline reopens it
+            if (Assignment.STATUS_CLOSED.equals(assignment.getStatus())) {
+                assignment.setStatus("ACTIVE");
+            }
         }
 
-        return assignmentDAO.update(assignment);
+        Assignment updated = assignmentDAO.update(assignment);
+        if (deadline != null) {
+            deadlineTracker.track(updated.getId(), updated.getDeadline());
+        }
+        return updated;
     }
 
     @Override
     public void deleteAssignment(Long id, Long teacherId) {
-        Assignment assignment = findAssignmentById(id)
+        AssignmentDetail assignment = findAssignmentDetail(id)
             .orElseThrow(() -> new IllegalArgumentException("Assignment not found"));
 
-        if (!assignment.getTeacher().getId().equals(teacherId)) {
+        if (!assignment.teacherId().equals(teacherId)) {
             throw new IllegalArgumentException("Not authorized to delete this assignment");
         }
+        assignmentDAO.deleteAssignmentsAndRelatedData(List.of(id));
+        studentResultsCache.invalidateAll();
+    }
 
-        if (hasSubmissions(id)) {
-            assignmentDAO.deleteAssignmentAndRelatedData(id);
-        } else {
-            assignmentDAO.delete(assignment);
+    @Override
+    public int deleteAssignments(Collection<Long> ids, Long teacherId) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one assignment ID is required");
         }
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.contains(null)) {
+            throw new IllegalArgumentException("Assignment ID is required");
+        }
+        requested.removeAll(assignmentDAO.findIdsOwnedBy(teacherId, requested));
+        if (!requested.isEmpty()) {
+            throw new IllegalArgumentException("Not authorized to delete assignments " + requested);
+        }
+        int deleted = assignmentDAO.deleteAssignmentsAndRelatedData(ids);
+        studentResultsCache.invalidateAll();
+        return deleted;
     }
 
     @Override
@@ -143,15 +268,6 @@ public class AssignmentServiceImpl implements AssignmentService {
 
     @Override
     public void validateAssignmentFile(String fileName, long fileSize) {
-        if (fileSize > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException(
-                "File size exceeds maximum limit of " + (MAX_FILE_SIZE / 1024 / 1024) + "MB");
-        }
-
-        String extension = fileName.substring(fileName.lastIndexOf(".")).toLowerCase();
-        if (!ALLOWED_EXTENSIONS.contains(extension)) {
-            throw new IllegalArgumentException(
-                "File type not allowed. Allowed types: " + String.join(", ", ALLOWED_EXTENSIONS));
-        }
+        FileUploadPolicy.validate(fileName, fileSize);
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.submission.service.impl;
+
+import com.submission.dao.AssignmentDAO;
+import com.submission.dto.AssignmentStats;
+import com.submission.routing.ReadOnly;
+import com.submission.service.DashboardService;
+import jakarta.ejb.Stateless;
+import jakarta.inject.Inject;
+import java.util.List;
+
+@Stateless
+public class DashboardServiceImpl implements DashboardService {
+
+    private final AssignmentDAO assignmentDAO;
+
+    @Inject
+    public DashboardServiceImpl(AssignmentDAO assignmentDAO) {
+        this.assignmentDAO = assignmentDAO;
+    }
+
+    @Override
+    @ReadOnly
+    public List<AssignmentStats> getAssignmentStats(Long teacherId) {
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+        return assignmentDAO.findStatsByTeacherId(teacherId);
+    }
+}
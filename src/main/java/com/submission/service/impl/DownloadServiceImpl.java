@@ -0,0 +1,46 @@
+package com.submission.service.impl;
+
+import com.submission.dao.StoredFileDAO;
+import com.submission.service.DownloadService;
+import com.submission.storage.StorageLocation;
+import jakarta.ejb.Stateless;
+import jakarta.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Stateless
+public class DownloadServiceImpl implements DownloadService {
+
+    private final StoredFileDAO storedFileDAO;
+    private final Path storageRoot;
+
+    @Inject
+    public DownloadServiceImpl(StoredFileDAO storedFileDAO) {
+        this(storedFileDAO, StorageLocation.defaultRoot());
+    }
+
+    public DownloadServiceImpl(StoredFileDAO storedFileDAO, Path storageRoot) {
+        this.storedFileDAO = storedFileDAO;
+        this.storageRoot = storageRoot;
+    }
+
+    @Override
+    public Optional<Path> findAssignmentFile(Long assignmentId) {
+        return storedFileDAO.findAssignmentFilePath(assignmentId).flatMap(this::resolve);
+    }
+
+    @Override
+    public Optional<Path> findNoteFile(Long noteId) {
+        return storedFileDAO.findNoteFilePath(noteId).flatMap(this::resolve);
+    }
+
+    @Override
+    public Optional<Path> findPastPaperFile(Long pastPaperId) {
+        return storedFileDAO.findPastPaperFilePath(pastPaperId).flatMap(this::resolve);
+    }
+
+    private Optional<Path> resolve(String storedPath) {
+        return StorageLocation.resolve(storageRoot, storedPath).filter(Files::isRegularFile);
+    }
+}
@@ -0,0 +1,85 @@
+package com.submission.service.impl;
+
+import com.submission.dao.StoredFileDAO;
+import com.submission.dao.TeacherDAO;
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.service.MaterialService;
+import com.submission.storage.ContentAddressedStore;
+import com.submission.storage.FileUploadPolicy;
+import jakarta.ejb.Stateless;
+import jakarta.ejb.TransactionAttribute;
+import jakarta.ejb.TransactionAttributeType;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Note and past paper files go through {@link ContentAddressedStore}, so the same file uploaded
+ * for several academic years is on disk once. The bytes stream in outside any transaction, as
+ * slowly as the client sends them, and the row is then written in the DAO's own; if that fails,
+ * the blob is unreferenced and {@link com.submission.storage.BlobSweeper} deletes it.
+ */
+@Stateless
+public class MaterialServiceImpl implements MaterialService {
+
+    private final ContentAddressedStore store;
+    private final TeacherDAO teacherDAO;
+    private final StoredFileDAO storedFileDAO;
+
+    @Inject
+    public MaterialServiceImpl(ContentAddressedStore store, TeacherDAO teacherDAO, StoredFileDAO storedFileDAO) {
+        this.store = store;
+        this.teacherDAO = teacherDAO;
+        this.storedFileDAO = storedFileDAO;
+    }
+
+    @Override
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public Note uploadNote(Long teacherId, String title, String subject, String academicYear,
+                           String fileName, ReadableByteChannel content) throws IOException {
+        requireText(title, "Title");
+        requireText(subject, "Subject");
+        requireText(academicYear, "Academic year");
+        String filePath = storeFile(teacherId, fileName, content);
+        return storedFileDAO.saveNote(teacherId, new Note(title, filePath, null, subject, academicYear));
+    }
+
+    @Override
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public PastPaper uploadPastPaper(Long teacherId, String title, String description, Integer examYear,
+                                     ExamType examType, String fileName, ReadableByteChannel content) throws IOException {
+        requireText(title, "Title");
+        if (examYear == null) {
+            throw new IllegalArgumentException("Exam year is required");
+        }
+        if (examType == null) {
+            throw new IllegalArgumentException("Exam type is required");
+        }
+        String filePath = storeFile(teacherId, fileName, content);
+        return storedFileDAO.savePastPaper(teacherId,
+            new PastPaper(title, description, filePath, examYear, examType, null));
+    }
+
+    private String storeFile(Long teacherId, String fileName, ReadableByteChannel content) throws IOException {
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+        if (content == null) {
+            throw new IllegalArgumentException("File is required");
+        }
+        // Checked before any bytes are read; the size is enforced while they are
+        FileUploadPolicy.validateFileName(fileName);
+        if (!teacherDAO.exists(teacherId)) {
+            throw new IllegalArgumentException("Teacher not found");
+        }
+        return store.store(content, fileName);
+    }
+
+    private static void requireText(String value, String field) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.submission.service.impl;
+
+import com.submission.dao.AssignmentDAO;
+import com.submission.dao.ResultDAO;
+import com.submission.dao.StudentResultDAO;
+import com.submission.dto.AppealClaim;
+import com.submission.dto.GradeOutcome;
+import com.submission.dto.GradeRequest;
+import com.submission.dto.GradingTarget;
+import com.submission.dto.KeysetCursor;
+import com.submission.dto.Page;
+import com.submission.dto.ResultExportRow;
+import com.submission.dto.StudentResultSummary;
+import com.submission.model.Assignment;
+import com.submission.model.Result;
+import com.submission.model.ResultStatus;
+import com.submission.model.Submission;
+import com.submission.model.SubmissionStatus;
+import com.submission.routing.ReadOnly;
+import com.submission.service.AppealNotClaimedException;
+import com.submission.service.ResultService;
+import com.submission.service.StudentResultsCache;
+import jakarta.ejb.Stateless;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Grading operations. Every submission-level call resolves the submission, its assignment and
+ * any existing result with a single query ({@link ResultDAO#findGradingTarget}), so the number of
+ * statements per grade does not depend on how many submissions or results an assignment has.
+ *
+ * <p>Every grade write also writes the student's row in the results projection read by
+ * {@link #getStudentResults}, in the same transaction, and drops that student's cached pages.
+ */
+@Stateless
+public class ResultServiceImpl implements ResultService {
+
+    static final int MAX_BULK_GRADES = 500;
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int DEFAULT_APPEAL_BATCH = 10;
+    static final int MAX_APPEAL_BATCH = 50;
+    static final Duration APPEAL_LEASE = Duration.ofMinutes(15);
+    private static final int MAX_GRADE_LENGTH = 5;
+
+    private final ResultDAO resultDAO;
+    private final AssignmentDAO assignmentDAO;
+    private final StudentResultDAO studentResultDAO;
+    private final StudentResultsCache studentResultsCache;
+
+    @Inject
+    public ResultServiceImpl(ResultDAO resultDAO, AssignmentDAO assignmentDAO,
+                             StudentResultDAO studentResultDAO, StudentResultsCache studentResultsCache) {
+        this.resultDAO = resultDAO;
+        this.assignmentDAO = assignmentDAO;
+        this.studentResultDAO = studentResultDAO;
+        this.studentResultsCache = studentResultsCache;
+    }
+
+    @Override
+    public Result gradeSubmission(Long submissionId, Long teacherId, String grade, String remarks) {
+        validateGrade(grade);
+        GradingTarget target = findOwnedTarget(submissionId, teacherId);
+        if (target.result() != null) {
+            throw new IllegalArgumentException("Submission has already been graded");
+        }
+        return applyGrade(target, grade, remarks);
+    }
+
+    @Override
+    public List<GradeOutcome> gradeSubmissions(List<GradeRequest> grades, Long teacherId) {
+        if (grades == null || grades.isEmpty()) {
+            throw new IllegalArgumentException("At least one grade is required");
+        }
+        if (grades.size() > MAX_BULK_GRADES) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_GRADES + " grades can be submitted at once");
+        }
+
+        Set<Long> submissionIds = grades.stream()
+            .map(GradeRequest::getSubmissionId)
+            .filter(id -> id != null)
+            .collect(Collectors.toSet());
+        Map<Long, GradingTarget> targets = resultDAO.findGradingTargets(submissionIds).stream()
+            .collect(Collectors.toMap(target -> target.submission().getId(), Function.identity()));
+
+        // Results are mutated in memory and written by the flush at commit, where Hibernate
+        // groups the statements into JDBC batches
+        List<GradeOutcome> outcomes = new ArrayList<>(grades.size());
+        Set<Long> seen = new HashSet<>();
+        for (GradeRequest request : grades) {
+            Long submissionId = request.getSubmissionId();
+            if (submissionId == null) {
+                outcomes.add(GradeOutcome.rejected(null, "Submission ID is required"));
+                continue;
+            }
+            if (!seen.add(submissionId)) {
+                outcomes.add(GradeOutcome.rejected(submissionId, "Duplicate submission in batch"));
+                continue;
+            }
+            GradingTarget target = targets.get(submissionId);
+            if (target == null) {
+                outcomes.add(GradeOutcome.rejected(submissionId, "Submission not found"));
+                continue;
+            }
+            if (!isOwnedBy(target, teacherId)) {
+                outcomes.add(GradeOutcome.rejected(submissionId, "Not authorized to grade this submission"));
+                continue;
+            }
+            try {
+                validateGrade(request.getGrade());
+            } catch (IllegalArgumentException e) {
+                outcomes.add(GradeOutcome.rejected(submissionId, e.getMessage()));
+                continue;
+            }
+            Result result = applyGrade(target, request.getGrade(), request.getRemarks());
+            outcomes.add(GradeOutcome.graded(submissionId, result.getId()));
+        }
+        return outcomes;
+    }
+
+    @Override
+    @ReadOnly
+    public List<Result> getResultsByAssignment(Long assignmentId, Long teacherId) {
+        List<Result> results = resultDAO.findByAssignmentIdAndTeacherId(assignmentId, teacherId);
+        if (results.isEmpty()) {
+            // Distinguish "no results yet" from a missing or foreign assignment
+            verifyAssignmentOwnership(assignmentId, teacherId);
+        }
+        return results;
+    }
+
+    @Override
+    public void verifyAssignmentOwnership(Long assignmentId, Long teacherId) {
+        Assignment assignment = assignmentDAO.findById(assignmentId)
+            .orElseThrow(() -> new IllegalArgumentException("Assignment not found"));
+        if (!assignment.getTeacher().getId().equals(teacherId)) {
+            throw new IllegalArgumentException("Not authorized to access this assignment");
+        }
+    }
+
+    @Override
+    @ReadOnly
+    public void exportResultsByAssignment(Long assignmentId, Long teacherId, Consumer<ResultExportRow> sink) {
+        verifyAssignmentOwnership(assignmentId, teacherId);
+        try (Stream<ResultExportRow> rows = resultDAO.streamExportRowsByAssignmentId(assignmentId)) {
+            rows.forEach(sink);
+        }
+    }
+
+    @Override
+    @ReadOnly
+    public Optional<Result> getResult(Long submissionId, Long teacherId) {
+        return resultDAO.findGradingTarget(submissionId)
+            .filter(target -> isOwnedBy(target, teacherId))
+            .map(GradingTarget::result);
+    }
+
+    @Override
+    public Result updateGrade(Long submissionId, Long teacherId, String grade, String remarks) {
+        validateGrade(grade);
+        GradingTarget target = findOwnedTarget(submissionId, teacherId);
+        if (target.result() == null) {
+            throw new IllegalArgumentException("Submission has not been graded yet");
+        }
+        return applyGrade(target, grade, remarks);
+    }
+
+    @Override
+    public void deleteGrade(Long submissionId, Long teacherId) {
+        GradingTarget target = findOwnedTarget(submissionId, teacherId);
+        if (target.result() == null) {
+            throw new IllegalArgumentException("Submission has not been graded yet");
+        }
+        // The projection row goes with it through the foreign key
+        resultDAO.delete(target.result());
+        target.submission().setStatus(SubmissionStatus.UNDER_REVIEW);
+        studentResultsCache.invalidate(target.result().getStudentId());
+    }
+
+    @Override
+    public List<AppealClaim> claimAppeals(Long teacherId, Integer batchSize) {
+        if (teacherId == null) {
+            throw new IllegalArgumentException("Teacher ID is required");
+        }
+        if (batchSize != null && batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        int limit = batchSize == null ? DEFAULT_APPEAL_BATCH : Math.min(batchSize, MAX_APPEAL_BATCH);
+        return resultDAO.claimAppeals(teacherId, LocalDateTime.now(), APPEAL_LEASE, limit);
+    }
+
+    @Override
+    public Result updateAppealStatus(Long submissionId, Long teacherId, ResultStatus status, String remarks) {
+        if (status != ResultStatus.APPEALED && status != ResultStatus.APPEAL_REVIEWED) {
+            throw new IllegalArgumentException("Status must be APPEALED or APPEAL_REVIEWED");
+        }
+        GradingTarget target = findOwnedTarget(submissionId, teacherId);
+        Result result = target.result();
+        if (result == null) {
+            throw new IllegalArgumentException("Submission has not been graded yet");
+        }
+        if (!resultDAO.updateAppealStatus(result, teacherId, LocalDateTime.now(), status, remarks)) {
+            throw new AppealNotClaimedException();
+        }
+        studentResultsCache.invalidate(result.getStudentId());
+        return result;
+    }
+
+    @Override
+    public Page<StudentResultSummary> getStudentResults(Long studentId, String cursor, Integer pageSize) {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID is required");
+        }
+        int limit = resolvePageSize(pageSize);
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        return studentResultsCache.get(studentId, cursor, limit, () -> {
+            // One extra row tells whether another page exists without a COUNT query
+            List<StudentResultSummary> rows = studentResultDAO.findByStudentIdBefore(
+                studentId,
+                before != null ? before.getDeadline() : null,
+                before != null ? before.getId() : null,
+                limit + 1);
+            if (rows.size() <= limit) {
+                return new Page<>(rows, null);
+            }
+            List<StudentResultSummary> items = rows.subList(0, limit);
+            StudentResultSummary last = items.get(limit - 1);
+            return new Page<>(List.copyOf(items), new KeysetCursor(last.deadline(), last.resultId()).encode());
+        });
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    private GradingTarget findOwnedTarget(Long submissionId, Long teacherId) {
+        if (submissionId == null) {
+            throw new IllegalArgumentException("Submission ID is required");
+        }
+        GradingTarget target = resultDAO.findGradingTarget(submissionId)
+            .orElseThrow(() -> new IllegalArgumentException("Submission not found"));
+        if (!isOwnedBy(target, teacherId)) {
+            throw new IllegalArgumentException("Not authorized to grade this submission");
+        }
+        return target;
+    }
+
+    private boolean isOwnedBy(GradingTarget target, Long teacherId) {
+        // The teacher reference is a proxy; reading its id does not load the teacher
+        return target.submission().getAssignment().getTeacher().getId().equals(teacherId);
+    }
+
+    private Result applyGrade(GradingTarget target, String grade, String remarks) {
+        Submission submission = target.submission();
+        Result result = target.result();
+        if (result == null) {
+            result = new Result(submission.getAssignment(), submission.getStudentId());
+            result.setGrade(grade);
+            result.setRemarks(remarks);
+            result.setStatus(ResultStatus.GRADED);
+            resultDAO.save(result);
+            studentResultDAO.insert(result);
+        } else {
+            result.setGrade(grade);
+            result.setRemarks(remarks);
+            result.setStatus(ResultStatus.GRADED);
+            studentResultDAO.sync(result.getId(), grade, remarks, ResultStatus.GRADED);
+        }
+        submission.setStatus(SubmissionStatus.GRADED);
+        studentResultsCache.invalidate(result.getStudentId());
+        return result;
+    }
+
+    private void validateGrade(String grade) {
+        if (grade == null || grade.trim().isEmpty()) {
+            throw new IllegalArgumentException("Grade is required");
+        }
+        if (grade.length() > MAX_GRADE_LENGTH) {
+            throw new IllegalArgumentException("Grade must be at most " + MAX_GRADE_LENGTH + " characters");
+        }
+    }
+}
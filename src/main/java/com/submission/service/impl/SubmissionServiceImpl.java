@@ -0,0 +1,108 @@
+package com.submission.service.impl;
+
+import com.submission.dao.AssignmentDAO;
+import com.submission.dao.SubmissionDAO;
+import com.submission.dto.AssignmentDetail;
+import com.submission.ingest.IngestCapacityExceededException;
+import com.submission.ingest.SubmissionIngestor;
+import com.submission.model.Submission;
+import com.submission.model.SubmissionStatus;
+import com.submission.service.SubmissionService;
+import jakarta.ejb.Stateless;
+import jakarta.ejb.TransactionAttribute;
+import jakarta.ejb.TransactionAttributeType;
+import jakarta.inject.Inject;
+import org.hibernate.exception.ConstraintViolationException;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Stateless
+public class SubmissionServiceImpl implements SubmissionService {
+
+    static final long ACK_TIMEOUT_SECONDS = 30;
+    private static final String ONE_PER_STUDENT = "uq_submissions_assignment_student";
+
+    private final AssignmentDAO assignmentDAO;
+    private final SubmissionDAO submissionDAO;
+    private final SubmissionIngestor ingestor;
+
+    @Inject
+    public SubmissionServiceImpl(AssignmentDAO assignmentDAO, SubmissionDAO submissionDAO,
+                                 SubmissionIngestor ingestor) {
+        this.assignmentDAO = assignmentDAO;
+        this.submissionDAO = submissionDAO;
+        this.ingestor = ingestor;
+    }
+
+    // The write happens in the ingestor's own transaction; holding one here while waiting for
+    // it would only pin a connection
+    @Override
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public Submission submit(Long assignmentId, Long studentId, String filePath) {
+        if (assignmentId == null) {
+            throw new IllegalArgumentException("Assignment ID is required");
+        }
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID is required");
+        }
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new IllegalArgumentException("File path is required");
+        }
+        AssignmentDetail assignment = assignmentDAO.findDetailById(assignmentId)
+            .orElseThrow(() -> new IllegalArgumentException("Assignment not found"));
+        // Fails fast in the common case; the unique constraint decides a race between two requests
+        if (submissionDAO.existsByAssignmentIdAndStudentId(assignmentId, studentId)) {
+            throw alreadyExists();
+        }
+
+        // Written by another thread in another persistence context, so the submission only
+        // carries a reference to the assignment rather than this context's entity
+        Submission submission = new Submission(assignmentDAO.getReference(assignmentId), studentId, filePath);
+        if (submission.getTimestamp().isAfter(assignment.deadline())) {
+            submission.setStatus(SubmissionStatus.LATE);
+        }
+        CompletableFuture<Submission> written = ingestor.submit(submission);
+        try {
+            try {
+                return written.get(ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                // Still queued behind a backlog: withdrawn, so the client retries as it would
+                // after a rejection and is not refused for a row written after it gave up
+                if (written.cancel(false)) {
+                    throw new IngestCapacityExceededException();
+                }
+                // Already being written; the answer is that transaction's outcome
+                return written.get();
+            }
+        } catch (ExecutionException e) {
+            if (isDuplicate(e.getCause())) {
+                throw alreadyExists();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to record submission", e.getCause());
+        } catch (InterruptedException e) {
+            written.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while recording submission", e);
+        }
+    }
+
+    private static boolean isDuplicate(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(ONE_PER_STUDENT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IllegalArgumentException alreadyExists() {
+        return new IllegalArgumentException("Submission already exists for this assignment");
+    }
+}
@@ -2,10 +2,10 @@ package com.submission.service.impl;
 
 import com.submission.dao.TeacherDAO;
 import com.submission.model.Teacher;
+import com.submission.security.PasswordHasher;
 import com.submission.service.TeacherService;
 import jakarta.ejb.Stateless;
 import jakarta.inject.Inject;
-import org.mindrot.jbcrypt.BCrypt;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,16 +13,18 @@ import java.util.Optional;
 public class TeacherServiceImpl implements TeacherService {
     
     private final TeacherDAO teacherDAO;
+    private final PasswordHasher passwordHasher;
 
     @Inject
-    public TeacherServiceImpl(TeacherDAO teacherDAO) {
+    public TeacherServiceImpl(TeacherDAO teacherDAO, PasswordHasher passwordHasher) {
         this.teacherDAO = teacherDAO;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
     public Optional<Teacher> authenticateTeacher(String email, String password) {
         return teacherDAO.findByEmail(email)
-            .filter(teacher -> BCrypt.checkpw(password, teacher.getPasswordHash()));
+            .filter(teacher -> passwordHasher.verify(password, teacher.getPasswordHash()));
     }
 
     @Override
@@ -36,7 +38,7 @@ public class TeacherServiceImpl implements TeacherService {
             throw new IllegalArgumentException("Email already registered");
         }
 
-        String hashedPassword = BCrypt.hashpw(password, BCrypt.gensalt());
+        String hashedPassword = passwordHasher.hash(password);
         Teacher teacher = new Teacher(firstName, lastName, email, hashedPassword);
         return teacherDAO.save(teacher);
     }
@@ -113,11 +115,11 @@ public class TeacherServiceImpl implements TeacherService {
         Teacher teacher = findTeacherById(teacherId)
             .orElseThrow(() -> new IllegalArgumentException("Teacher not found"));
 
-        if (!BCrypt.checkpw(oldPassword, teacher.getPasswordHash())) {
+        if (!passwordHasher.verify(oldPassword, teacher.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid old password");
         }
 
-        String newHashedPassword = BCrypt.hashpw(newPassword, BCrypt.gensalt());
+        String newHashedPassword = passwordHasher.hash(newPassword);
         teacher.setPasswordHash(newHashedPassword);
         teacherDAO.update(teacher);
     }
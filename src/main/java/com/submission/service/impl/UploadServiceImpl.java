@@ -0,0 +1,106 @@
+package com.submission.service.impl;
+
+import com.submission.dao.AssignmentDAO;
+import com.submission.dao.SubmissionDAO;
+import com.submission.dto.UploadRequest;
+import com.submission.dto.UploadStatus;
+import com.submission.model.Submission;
+import com.submission.service.SubmissionService;
+import com.submission.service.UploadService;
+import com.submission.storage.ChunkedUploadStore;
+import com.submission.storage.UploadSession;
+import jakarta.ejb.Stateless;
+import jakarta.ejb.TransactionAttribute;
+import jakarta.ejb.TransactionAttributeType;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+@Stateless
+public class UploadServiceImpl implements UploadService {
+
+    private final ChunkedUploadStore uploadStore;
+    private final AssignmentDAO assignmentDAO;
+    private final SubmissionDAO submissionDAO;
+    private final SubmissionService submissionService;
+
+    @Inject
+    public UploadServiceImpl(ChunkedUploadStore uploadStore, AssignmentDAO assignmentDAO,
+                             SubmissionDAO submissionDAO, SubmissionService submissionService) {
+        this.uploadStore = uploadStore;
+        this.assignmentDAO = assignmentDAO;
+        this.submissionDAO = submissionDAO;
+        this.submissionService = submissionService;
+    }
+
+    @Override
+    public UploadStatus beginUpload(Long studentId, UploadRequest request) {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Student ID is required");
+        }
+        if (request == null || request.getAssignmentId() == null) {
+            throw new IllegalArgumentException("Assignment ID is required");
+        }
+        if (request.getLength() == null) {
+            throw new IllegalArgumentException("File length is required");
+        }
+        if (!assignmentDAO.exists(request.getAssignmentId())) {
+            throw new IllegalArgumentException("Assignment not found");
+        }
+        requireNoSubmission(request.getAssignmentId(), studentId);
+
+        UploadSession session = uploadStore.begin(request.getAssignmentId(), studentId,
+            request.getFileName(), request.getLength());
+        return UploadStatus.inProgress(session.getUploadId(), 0, session.getLength());
+    }
+
+    @Override
+    public UploadStatus getUploadStatus(String uploadId, Long studentId) {
+        UploadSession session = owned(uploadId, studentId);
+        return UploadStatus.inProgress(uploadId, session.getOffset(), session.getLength());
+    }
+
+    // A chunk streams in as slowly as the client sends it, so no transaction may time out around
+    // it; the submission row is written in the ingestor's own transaction once the last byte is in
+    @Override
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public UploadStatus appendChunk(String uploadId, Long studentId, long offset, ReadableByteChannel source)
+            throws IOException {
+        UploadSession session = owned(uploadId, studentId);
+        long received = uploadStore.append(uploadId, offset, source);
+        if (received < session.getLength()) {
+            return UploadStatus.inProgress(uploadId, received, session.getLength());
+        }
+
+        // Only a fully received file becomes a submission. The row is committed before the move,
+        // so a rejected submission leaves the upload in place for the client to retry, and is
+        // removed again if the move fails
+        Submission submission = submissionService.submit(session.getAssignmentId(), session.getStudentId(),
+            uploadStore.targetPath(session).toString());
+        try {
+            uploadStore.complete(uploadId);
+        } catch (IOException | RuntimeException e) {
+            submissionDAO.deleteById(submission.getId());
+            throw e;
+        }
+        return UploadStatus.completed(uploadId, session.getLength(), submission.getId());
+    }
+
+    @Override
+    public void cancelUpload(String uploadId, Long studentId) {
+        uploadStore.abort(owned(uploadId, studentId).getUploadId());
+    }
+
+    // Someone else's upload is reported as missing, so upload ids cannot be probed
+    private UploadSession owned(String uploadId, Long studentId) {
+        return uploadStore.find(uploadId)
+            .filter(session -> session.getStudentId().equals(studentId))
+            .orElseThrow(() -> new IllegalArgumentException("Upload not found"));
+    }
+
+    private void requireNoSubmission(Long assignmentId, Long studentId) {
+        if (submissionDAO.existsByAssignmentIdAndStudentId(assignmentId, studentId)) {
+            throw new IllegalArgumentException("Submission already exists for this assignment");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.submission.storage;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers {@link BlobReleaseListener}; discovered through
+ * {@code META-INF/services/org.hibernate.integrator.spi.Integrator}. The listener releases blobs
+ * under the storage root the persistence unit names (see {@link StorageLocation#root}).
+ */
+public class BlobReleaseIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        ContentAddressedStore store = new ContentAddressedStore(StorageLocation.root(sessionFactory.getProperties()));
+        BlobReleaseListener listener = new BlobReleaseListener(sessionFactory, store);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
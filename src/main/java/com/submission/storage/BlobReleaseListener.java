@@ -0,0 +1,100 @@
+package com.submission.storage;
+
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Objects;
+
+/**
+ * Releases content-addressed blobs once the last {@link Note} or {@link PastPaper} pointing at
+ * them is deleted (for instance through orphan removal after {@code Teacher.removeNote}) or
+ * re-pointed at another file. Runs only after the transaction commits, and counts the rows
+ * still referencing the blob instead of keeping a counter that could drift from the tables.
+ * A blob still within {@link ContentAddressedStore#RELEASE_GRACE} is kept here and left to
+ * {@link BlobSweeper}.
+ */
+public class BlobReleaseListener implements PostCommitDeleteEventListener, PostCommitUpdateEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobReleaseListener.class);
+    private static final String FILE_PATH = "filePath";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final ContentAddressedStore store;
+
+    public BlobReleaseListener(SessionFactoryImplementor sessionFactory, ContentAddressedStore store) {
+        this.sessionFactory = sessionFactory;
+        this.store = store;
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Note.class || type == PastPaper.class;
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Note note) {
+            release(note.getFilePath());
+        } else if (event.getEntity() instanceof PastPaper pastPaper) {
+            release(pastPaper.getFilePath());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister()) || event.getOldState() == null) {
+            return;
+        }
+        int index = event.getPersister().getPropertyIndex(FILE_PATH);
+        Object previous = event.getOldState()[index];
+        if (previous instanceof String path && !Objects.equals(path, event.getState()[index])) {
+            release(path);
+        }
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back: the row and its blob are both still there
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    private void release(String storedPath) {
+        if (!store.isBlob(storedPath)) {
+            return;
+        }
+        try {
+            if (store.releaseIfUnreferenced(storedPath, () -> countReferences(storedPath))) {
+                logger.debug("Released unreferenced blob {}", storedPath);
+            }
+        } catch (RuntimeException e) {
+            // The delete has committed; a blob left behind only costs disk space
+            logger.warn("Failed to release blob {}", storedPath, e);
+        }
+    }
+
+    private long countReferences(String storedPath) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            long notes = session.createSelectionQuery(
+                    "SELECT COUNT(n) FROM Note n WHERE n.filePath = :path", Long.class)
+                .setParameter("path", storedPath)
+                .getSingleResult();
+            long pastPapers = session.createSelectionQuery(
+                    "SELECT COUNT(p) FROM PastPaper p WHERE p.filePath = :path", Long.class)
+                .setParameter("path", storedPath)
+                .getSingleResult();
+            return notes + pastPapers;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.submission.storage;
+
+import com.submission.dao.StoredFileDAO;
+import jakarta.ejb.Schedule;
+import jakarta.ejb.Singleton;
+import jakarta.ejb.TransactionAttribute;
+import jakarta.ejb.TransactionAttributeType;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Set;
+
+/**
+ * Periodically deletes blobs that no note or past paper references and that are older than
+ * {@link ContentAddressedStore#RELEASE_GRACE}. {@link BlobReleaseListener} only looks at a blob
+ * when a row stops pointing at it, so without this a blob whose last row went within the grace
+ * period, or whose row never committed, would stay on disk for good.
+ */
+@Singleton
+public class BlobSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobSweeper.class);
+
+    private final ContentAddressedStore store;
+    private final StoredFileDAO storedFileDAO;
+
+    @Inject
+    public BlobSweeper(ContentAddressedStore store, StoredFileDAO storedFileDAO) {
+        this.store = store;
+        this.storedFileDAO = storedFileDAO;
+    }
+
+    // Walking the store can take a while; each count runs in the DAO's own transaction
+    @Schedule(minute = "*/30", hour = "*", persistent = false)
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public void sweep() {
+        int released = sweepUnreferenced();
+        if (released > 0) {
+            logger.info("Deleted {} unreferenced blobs", released);
+        }
+    }
+
+    /**
+     * @return number of blobs deleted
+     */
+    int sweepUnreferenced() {
+        // One query for the common case; a blob missing from it is counted again under its lock,
+        // since a row may have committed since
+        Set<String> referenced = storedFileDAO.findMaterialFilePaths();
+        return store.sweep(path -> referenced.contains(path) ? 1 : storedFileDAO.countMaterialReferences(path));
+    }
+}
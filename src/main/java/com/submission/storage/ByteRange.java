@@ -0,0 +1,61 @@
+package com.submission.storage;
+
+/**
+ * A single satisfiable {@code bytes=} range of a file, with an inclusive end as in
+ * {@code Content-Range}.
+ */
+public record ByteRange(long start, long end) {
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public String contentRange(long fileLength) {
+        return "bytes " + start + "-" + end + "/" + fileLength;
+    }
+
+    /**
+     * Parses a {@code Range} header for a file of the given length.
+     *
+     * @return the range, or null when the whole file should be sent instead: no header, a unit
+     *         other than bytes, several ranges, or a malformed value
+     * @throws UnsatisfiableRangeException if the range lies entirely outside the file
+     */
+    public static ByteRange parse(String header, long fileLength) {
+        if (header == null || !header.regionMatches(true, 0, "bytes=", 0, 6)) {
+            return null;
+        }
+        String spec = header.substring(6).trim();
+        // Multipart/byteranges costs more than it saves for files this size
+        if (spec.indexOf(',') >= 0) {
+            return null;
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                // Suffix range: the final N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || fileLength == 0) {
+                    throw new UnsatisfiableRangeException(fileLength);
+                }
+                return new ByteRange(Math.max(0, fileLength - suffix), fileLength - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= fileLength) {
+                throw new UnsatisfiableRangeException(fileLength);
+            }
+            return new ByteRange(start, Math.min(end, fileLength - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.submission.storage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Disk-backed store for resumable uploads. Chunks are appended with
+ * {@link FileChannel#transferFrom} so request bodies go from the socket to the file without
+ * being collected in heap, and each upload's metadata is kept in a small sidecar file so an
+ * interrupted upload can be resumed even after a restart.
+ *
+ * <pre>
+ * {root}/incoming/{uploadId}.part      bytes received so far
+ * {root}/incoming/{uploadId}.upload    assignment, student, file name, declared length
+ * {root}/submissions/{assignmentId}/   completed files
+ * </pre>
+ */
+@ApplicationScoped
+public class ChunkedUploadStore {
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    private final Path incomingDir;
+    private final Path submissionsDir;
+
+    public ChunkedUploadStore() {
+        this(StorageLocation.defaultRoot());
+    }
+
+    public ChunkedUploadStore(Path root) {
+        this.incomingDir = root.resolve("incoming");
+        this.submissionsDir = root.resolve("submissions");
+        try {
+            Files.createDirectories(incomingDir);
+            Files.createDirectories(submissionsDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create upload storage under " + root, e);
+        }
+    }
+
+    /**
+     * Registers a new upload after checking its name and declared length against
+     * {@link FileUploadPolicy}, so an oversized or disallowed file is refused before any bytes
+     * are sent.
+     */
+    public UploadSession begin(Long assignmentId, Long studentId, String fileName, long length) {
+        FileUploadPolicy.validate(fileName, length);
+        if (length == 0) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        String uploadId = UUID.randomUUID().toString();
+        UploadSession session = new UploadSession(uploadId, assignmentId, studentId,
+            fileName, length, partFile(uploadId));
+
+        Properties metadata = new Properties();
+        metadata.setProperty("assignmentId", assignmentId.toString());
+        metadata.setProperty("studentId", studentId.toString());
+        metadata.setProperty("fileName", fileName);
+        metadata.setProperty("length", Long.toString(length));
+        try {
+            Files.createFile(session.getPartFile());
+            try (Writer writer = Files.newBufferedWriter(metadataFile(uploadId), StandardCharsets.UTF_8)) {
+                metadata.store(writer, null);
+            }
+        } catch (IOException e) {
+            deleteQuietly(uploadId);
+            throw new UncheckedIOException("Cannot start upload", e);
+        }
+        sessions.put(uploadId, session);
+        return session;
+    }
+
+    public Optional<UploadSession> find(String uploadId) {
+        if (!isWellFormed(uploadId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(sessions.computeIfAbsent(uploadId, this::load));
+    }
+
+    /**
+     * Appends everything the source yields at {@code offset}, which must equal the number of
+     * bytes already stored. If the source fails part way, the bytes that did arrive are kept
+     * and the client resumes from the new offset. A source that runs past the declared length
+     * is rejected and its chunk discarded.
+     *
+     * @return the offset after the chunk
+     * @throws UploadConflictException if the offset is stale or another chunk is in flight
+     */
+    public long append(String uploadId, long offset, ReadableByteChannel source) throws IOException {
+        UploadSession session = require(uploadId);
+        if (!session.writeLock.tryLock()) {
+            throw new UploadConflictException("Another chunk is still being written", session.getOffset());
+        }
+        try (FileChannel file = FileChannel.open(session.getPartFile(), StandardOpenOption.WRITE)) {
+            long start = file.size();
+            if (offset != start) {
+                throw new UploadConflictException("Upload offset does not match", start);
+            }
+            long end = session.getLength();
+            long position = start;
+            while (position < end) {
+                long transferred = file.transferFrom(source, position, end - position);
+                if (transferred == 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            if (position == end && source.read(ByteBuffer.allocate(1)) > 0) {
+                file.truncate(start);
+                throw new IllegalArgumentException("Upload exceeds declared length of " + end + " bytes");
+            }
+            return position;
+        } finally {
+            session.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Where a completed upload will be stored; callers record this before calling
+     * {@link #complete}.
+     */
+    public Path targetPath(UploadSession session) {
+        String extension = FileUploadPolicy.validateFileName(session.getFileName());
+        return submissionsDir
+            .resolve(session.getAssignmentId().toString())
+            .resolve(session.getStudentId() + "-" + session.getUploadId() + extension);
+    }
+
+    /**
+     * Moves a fully received upload to its {@link #targetPath} and forgets the session.
+     */
+    public Path complete(String uploadId) throws IOException {
+        UploadSession session = require(uploadId);
+        session.writeLock.lock();
+        try {
+            if (!session.isComplete()) {
+                throw new IllegalArgumentException("Upload is not complete");
+            }
+            Path target = targetPath(session);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(session.getPartFile(), target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(session.getPartFile(), target);
+            }
+            Files.deleteIfExists(metadataFile(uploadId));
+            sessions.remove(uploadId);
+            return target;
+        } finally {
+            session.writeLock.unlock();
+        }
+    }
+
+    public void abort(String uploadId) {
+        require(uploadId);
+        sessions.remove(uploadId);
+        deleteQuietly(uploadId);
+    }
+
+    private UploadSession require(String uploadId) {
+        return find(uploadId).orElseThrow(() -> new IllegalArgumentException("Upload not found"));
+    }
+
+    private UploadSession load(String uploadId) {
+        Path metadataFile = metadataFile(uploadId);
+        Path partFile = partFile(uploadId);
+        if (!Files.exists(metadataFile) || !Files.exists(partFile)) {
+            return null;
+        }
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(metadataFile, StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read upload " + uploadId, e);
+        }
+        return new UploadSession(uploadId,
+            Long.valueOf(metadata.getProperty("assignmentId")),
+            Long.valueOf(metadata.getProperty("studentId")),
+            metadata.getProperty("fileName"),
+            Long.parseLong(metadata.getProperty("length")),
+            partFile);
+    }
+
+    private void deleteQuietly(String uploadId) {
+        try {
+            Files.deleteIfExists(partFile(uploadId));
+            Files.deleteIfExists(metadataFile(uploadId));
+        } catch (IOException ignored) {
+            // Leftovers are harmless; without a sidecar they can never be resumed
+        }
+    }
+
+    // Upload ids end up in file names, so anything that is not one of our UUIDs is refused
+    private static boolean isWellFormed(String uploadId) {
+        if (uploadId == null) {
+            return false;
+        }
+        try {
+            return UUID.fromString(uploadId).toString().equals(uploadId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Path partFile(String uploadId) {
+        return incomingDir.resolve(uploadId + ".part");
+    }
+
+    private Path metadataFile(String uploadId) {
+        return incomingDir.resolve(uploadId + ".upload");
+    }
+}
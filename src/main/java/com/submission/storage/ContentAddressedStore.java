@@ -0,0 +1,256 @@
+package com.submission.storage;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stores note and past paper files once per distinct content. A file is named after the
+ * SHA-256 of its bytes and sharded by the first two bytes of the hash, so re-uploading the
+ * same PDF in another academic year adds a row but no bytes:
+ *
+ * <pre>
+ * {root}/blobs/3f/a2/3fa2...e1.pdf
+ * </pre>
+ *
+ * The entities referencing a blob are its reference count; see {@link BlobReleaseListener} and
+ * {@link BlobSweeper}. A blob is never rewritten once in place, so its hash also serves as its
+ * ETag. The grace period before a release is tracked by an empty {@code .lease} file beside the
+ * blob, whose modification time is the last store, so the blob's own stays as it was.
+ */
+@ApplicationScoped
+public class ContentAddressedStore {
+
+    static final Duration RELEASE_GRACE = Duration.ofMinutes(10);
+    private static final String BLOB_DIR = "blobs";
+    private static final Pattern BLOB_PATH =
+        Pattern.compile("blobs/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.[a-z0-9]+");
+    private static final Pattern BLOB_NAME = Pattern.compile("([0-9a-f]{64})\\.[a-z0-9]+");
+    private static final String LEASE_SUFFIX = ".lease";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Shared by every instance so storing and releasing the same hash never interleave
+    private static final Object[] LOCKS = new Object[64];
+    static {
+        for (int i = 0; i < LOCKS.length; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
+
+    private final Path root;
+    private final Path blobDir;
+    private final Clock clock;
+
+    public ContentAddressedStore() {
+        this(StorageLocation.defaultRoot());
+    }
+
+    public ContentAddressedStore(Path root) {
+        this(root, Clock.systemUTC());
+    }
+
+    ContentAddressedStore(Path root, Clock clock) {
+        this.root = root.toAbsolutePath().normalize();
+        this.blobDir = this.root.resolve(BLOB_DIR);
+        this.clock = clock;
+        try {
+            Files.createDirectories(blobDir.resolve("tmp"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create blob storage under " + root, e);
+        }
+    }
+
+    /**
+     * Stores the source's bytes, hashing them on the way to disk and enforcing
+     * {@link FileUploadPolicy#MAX_FILE_SIZE} as they arrive.
+     *
+     * @return the path to record on the entity, relative to the storage root
+     */
+    public String store(ReadableByteChannel source, String fileName) throws IOException {
+        String extension = FileUploadPolicy.validateFileName(fileName);
+        MessageDigest digest = sha256();
+        Path temp = blobDir.resolve("tmp").resolve(UUID.randomUUID() + ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                long size = 0;
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    FileUploadPolicy.validateSize(size);
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String storedPath = BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4)
+                + "/" + hash + extension;
+            Path blob = root.resolve(storedPath);
+            synchronized (lockFor(storedPath)) {
+                if (!Files.exists(blob)) {
+                    Files.createDirectories(blob.getParent());
+                    moveIntoPlace(temp, blob);
+                }
+                // Also renews an existing blob's lease, so a release does not delete it before our row commits
+                renewLease(blob);
+            }
+            return storedPath;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public boolean isBlob(String storedPath) {
+        return storedPath != null && BLOB_PATH.matcher(storedPath).matches();
+    }
+
+    /**
+     * @return the SHA-256 a blob is named after, or empty if the file is not a blob
+     */
+    public static Optional<String> contentHash(Path file) {
+        Path name = file.getFileName();
+        Path shard = file.getParent();
+        if (name == null || shard == null || shard.getParent() == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = BLOB_NAME.matcher(name.toString());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String hash = matcher.group(1);
+        boolean sharded = shard.getFileName().toString().equals(hash.substring(2, 4))
+            && shard.getParent().getFileName().toString().equals(hash.substring(0, 2));
+        return sharded ? Optional.of(hash) : Optional.empty();
+    }
+
+    /**
+     * Deletes a blob once nothing references it. Blobs stored or re-stored within
+     * {@link #RELEASE_GRACE} are kept, because the row that will reference them may not have
+     * committed yet.
+     *
+     * @param references counts the rows still pointing at the blob; called under the blob's lock
+     * @return true if the blob was deleted
+     */
+    public boolean releaseIfUnreferenced(String storedPath, LongSupplier references) {
+        if (!isBlob(storedPath)) {
+            return false;
+        }
+        Path blob = root.resolve(storedPath);
+        synchronized (lockFor(storedPath)) {
+            try {
+                if (!Files.exists(blob)) {
+                    return false;
+                }
+                if (leasedAt(blob).plus(RELEASE_GRACE).isAfter(clock.instant())
+                        || references.getAsLong() > 0) {
+                    return false;
+                }
+                boolean deleted = Files.deleteIfExists(blob);
+                Files.deleteIfExists(lease(blob));
+                return deleted;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot release blob " + storedPath, e);
+            }
+        }
+    }
+
+    /**
+     * Releases every blob that {@link #releaseIfUnreferenced} would. This catches blobs whose
+     * last reference went while they were still within {@link #RELEASE_GRACE}, and blobs whose
+     * row never committed.
+     *
+     * @param references counts the rows still pointing at a stored path; called under its lock
+     * @return number of blobs deleted
+     */
+    public int sweep(ToLongFunction<String> references) {
+        List<String> storedPaths;
+        try (Stream<Path> files = Files.walk(blobDir)) {
+            storedPaths = files
+                .filter(Files::isRegularFile)
+                .map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+                .filter(this::isBlob)
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list blobs under " + blobDir, e);
+        }
+        int released = 0;
+        for (String storedPath : storedPaths) {
+            if (releaseIfUnreferenced(storedPath, () -> references.applyAsLong(storedPath))) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private void renewLease(Path blob) throws IOException {
+        Path lease = lease(blob);
+        try {
+            Files.createFile(lease);
+        } catch (FileAlreadyExistsException ignored) {
+            // Renewed below
+        }
+        Files.setLastModifiedTime(lease, FileTime.from(clock.instant()));
+    }
+
+    // A blob without a lease, stored before leases existed, counts from when it was written
+    private static Instant leasedAt(Path blob) throws IOException {
+        Path lease = lease(blob);
+        return Files.getLastModifiedTime(Files.exists(lease) ? lease : blob).toInstant();
+    }
+
+    private static Path lease(Path blob) {
+        return blob.resolveSibling(blob.getFileName() + LEASE_SUFFIX);
+    }
+
+    private static void moveIntoPlace(Path temp, Path blob) throws IOException {
+        try {
+            Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, blob);
+            } catch (FileAlreadyExistsException ignored) {
+                // Same content by definition
+            }
+        }
+    }
+
+    private static Object lockFor(String storedPath) {
+        return LOCKS[Math.floorMod(storedPath.hashCode(), LOCKS.length)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
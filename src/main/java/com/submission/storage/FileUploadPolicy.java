@@ -0,0 +1,52 @@
+package com.submission.storage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Size and type limits shared by assignment files and student uploads. The checks are split so
+ * an upload can be rejected on its name and declared length before any bytes are accepted.
+ */
+public final class FileUploadPolicy {
+
+    public static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    public static final Set<String> ALLOWED_EXTENSIONS = new HashSet<>(
+        Arrays.asList(".pdf", ".doc", ".docx", ".zip", ".pptx")
+    );
+
+    private FileUploadPolicy() {
+    }
+
+    public static void validate(String fileName, long fileSize) {
+        validateSize(fileSize);
+        validateFileName(fileName);
+    }
+
+    public static void validateSize(long fileSize) {
+        if (fileSize < 0) {
+            throw new IllegalArgumentException("File size must not be negative");
+        }
+        if (fileSize > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException(
+                "File size exceeds maximum limit of " + (MAX_FILE_SIZE / 1024 / 1024) + "MB");
+        }
+    }
+
+    /**
+     * @return the lower-cased extension including the dot
+     */
+    public static String validateFileName(String fileName) {
+        if (fileName == null || fileName.trim().isEmpty()) {
+            throw new IllegalArgumentException("File name is required");
+        }
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot < 0 ? "" : fileName.substring(dot).toLowerCase(Locale.ROOT);
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException(
+                "File type not allowed. Allowed types: " + String.join(", ", ALLOWED_EXTENSIONS));
+        }
+        return extension;
+    }
+}
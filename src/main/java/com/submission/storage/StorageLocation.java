@@ -0,0 +1,54 @@
+package com.submission.storage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Where stored files live on disk. File paths recorded on entities are resolved against the
+ * root, and anything that would land outside it is refused.
+ */
+public final class StorageLocation {
+
+    static final String STORAGE_ROOT_PROPERTY = "submission.storage.root";
+
+    private StorageLocation() {
+    }
+
+    /**
+     * The root named by the {@value #STORAGE_ROOT_PROPERTY} system property. There is no default:
+     * files under a temporary directory would be lost on reboot while their rows stay.
+     *
+     * @throws IllegalStateException if the property is not set
+     */
+    public static Path defaultRoot() {
+        String root = System.getProperty(STORAGE_ROOT_PROPERTY);
+        if (root == null || root.isBlank()) {
+            throw new IllegalStateException(STORAGE_ROOT_PROPERTY + " is not set");
+        }
+        return Paths.get(root);
+    }
+
+    /**
+     * The root named by {@value #STORAGE_ROOT_PROPERTY} in {@code settings}, for code that is
+     * configured through the persistence unit rather than system properties. The persistence
+     * unit then fails to start if neither names one.
+     */
+    public static Path root(Map<String, Object> settings) {
+        Object root = settings.get(STORAGE_ROOT_PROPERTY);
+        return root != null ? Paths.get(root.toString()) : defaultRoot();
+    }
+
+    /**
+     * @return the file for a stored path, or empty if the path is blank or escapes the root
+     */
+    public static Optional<Path> resolve(Path root, String storedPath) {
+        if (storedPath == null || storedPath.isBlank()) {
+            return Optional.empty();
+        }
+        Path base = root.toAbsolutePath().normalize();
+        Path file = base.resolve(storedPath).normalize();
+        return file.startsWith(base) ? Optional.of(file) : Optional.empty();
+    }
+}
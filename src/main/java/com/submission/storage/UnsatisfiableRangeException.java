@@ -0,0 +1,19 @@
+package com.submission.storage;
+
+/**
+ * A {@code Range} header that asks only for bytes past the end of the file; answered with 416
+ * and the actual length.
+ */
+public class UnsatisfiableRangeException extends RuntimeException {
+
+    private final long fileLength;
+
+    public UnsatisfiableRangeException(long fileLength) {
+        super("Requested range not satisfiable");
+        this.fileLength = fileLength;
+    }
+
+    public long getFileLength() {
+        return fileLength;
+    }
+}
@@ -0,0 +1,20 @@
+package com.submission.storage;
+
+/**
+ * A chunk could not be applied at the offset the client sent, either because the offset is
+ * stale or because another chunk for the same upload is still being written. The client
+ * should resume from {@link #getCurrentOffset()}.
+ */
+public class UploadConflictException extends RuntimeException {
+
+    private final long currentOffset;
+
+    public UploadConflictException(String message, long currentOffset) {
+        super(message);
+        this.currentOffset = currentOffset;
+    }
+
+    public long getCurrentOffset() {
+        return currentOffset;
+    }
+}
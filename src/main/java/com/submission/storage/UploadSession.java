@@ -0,0 +1,69 @@
+package com.submission.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An upload that has been started but not yet completed. The bytes received so far live in
+ * {@link #getPartFile()}; its length is the resume offset, so nothing about progress is kept
+ * in memory that could disagree with the disk.
+ */
+public class UploadSession {
+
+    private final String uploadId;
+    private final Long assignmentId;
+    private final Long studentId;
+    private final String fileName;
+    private final long length;
+    private final Path partFile;
+    final ReentrantLock writeLock = new ReentrantLock();
+
+    UploadSession(String uploadId, Long assignmentId, Long studentId, String fileName,
+                  long length, Path partFile) {
+        this.uploadId = uploadId;
+        this.assignmentId = assignmentId;
+        this.studentId = studentId;
+        this.fileName = fileName;
+        this.length = length;
+        this.partFile = partFile;
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public Long getAssignmentId() {
+        return assignmentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public Path getPartFile() {
+        return partFile;
+    }
+
+    public long getOffset() {
+        try {
+            return Files.size(partFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isComplete() {
+        return getOffset() == length;
+    }
+}
@@ -0,0 +1,9 @@
+-- Keeps every id sequence's increment equal to com.submission.id.allocationSize, the block size
+-- PooledSequenceGenerator hands out. Flyway reapplies this whenever the value changes.
+
+alter sequence users_seq increment by ${idAllocationSize};
+alter sequence assignments_seq increment by ${idAllocationSize};
+alter sequence submissions_seq increment by ${idAllocationSize};
+alter sequence results_seq increment by ${idAllocationSize};
+alter sequence notes_seq increment by ${idAllocationSize};
+alter sequence past_papers_seq increment by ${idAllocationSize};
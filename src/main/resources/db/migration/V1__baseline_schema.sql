@@ -0,0 +1,76 @@
+-- Schema as previously generated by hbm2ddl. Databases created before migrations existed are
+-- baselined at this version and start from V2.
+
+create table users (
+    id bigint generated by default as identity,
+    role varchar(31) not null,
+    email varchar(255) not null unique,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    password_hash varchar(255) not null,
+    primary key (id)
+);
+
+create table assignments (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    description text,
+    file_path varchar(255),
+    deadline timestamp(6) not null,
+    createdAt timestamp(6) not null,
+    teacher_id bigint not null,
+    status varchar(255) not null,
+    primary key (id),
+    constraint fk_assignments_teacher foreign key (teacher_id) references users
+);
+
+create table submissions (
+    id bigint generated by default as identity,
+    assignment_id bigint not null,
+    student_id bigint not null,
+    file_path varchar(255) not null,
+    timestamp timestamp(6) not null,
+    status varchar(255) not null
+        check (status in ('DRAFT', 'SUBMITTED', 'LATE', 'UNDER_REVIEW', 'GRADED', 'RETURNED')),
+    primary key (id),
+    constraint fk_submissions_assignment foreign key (assignment_id) references assignments
+);
+
+create table results (
+    id bigint generated by default as identity,
+    assignment_id bigint not null,
+    student_id bigint not null,
+    grade varchar(5),
+    remarks text,
+    appeal_text text,
+    status varchar(255) not null
+        check (status in ('PENDING', 'GRADED', 'APPEALED', 'APPEAL_REVIEWED')),
+    primary key (id),
+    constraint fk_results_assignment foreign key (assignment_id) references assignments
+);
+
+create table notes (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    file_path varchar(255) not null,
+    uploaded_by bigint not null,
+    uploadedAt timestamp(6) not null,
+    subject varchar(255) not null,
+    academic_year varchar(255) not null,
+    primary key (id),
+    constraint fk_notes_uploaded_by foreign key (uploaded_by) references users
+);
+
+create table past_papers (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    description text,
+    file_path varchar(255) not null,
+    exam_year integer not null,
+    exam_type varchar(255) not null
+        check (exam_type in ('MIDTERM', 'FINAL', 'QUIZ', 'ASSIGNMENT', 'PRACTICE')),
+    teacher_id bigint not null,
+    uploaded_at timestamp(6) not null,
+    primary key (id),
+    constraint fk_past_papers_teacher foreign key (teacher_id) references users
+);
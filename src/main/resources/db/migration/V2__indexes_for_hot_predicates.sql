@@ -0,0 +1,23 @@
+-- Indexes for the predicates the DAOs filter and sort on. Foreign keys get no index of their
+-- own in PostgreSQL, so without these every finder below was a sequential scan.
+
+-- findByTeacherId, keyset paging ORDER BY (deadline, id), dashboard stats
+create index idx_assignments_teacher_deadline on assignments (teacher_id, deadline, id);
+
+-- Deadline range queries and the deadline scheduler
+create index idx_assignments_deadline on assignments (deadline);
+
+-- Submissions per assignment, and the one-submission-per-student check
+create index idx_submissions_assignment_student on submissions (assignment_id, student_id);
+
+-- One result per student per assignment; also serves results by assignment
+alter table results add constraint uq_results_assignment_student unique (assignment_id, student_id);
+
+create index idx_results_status on results (status);
+create index idx_results_student on results (student_id);
+
+-- Teacher.notes / Teacher.pastPapers, and blob reference counting by file path
+create index idx_notes_uploaded_by on notes (uploaded_by);
+create index idx_notes_file_path on notes (file_path);
+create index idx_past_papers_teacher on past_papers (teacher_id);
+create index idx_past_papers_file_path on past_papers (file_path);
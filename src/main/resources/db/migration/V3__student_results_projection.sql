@@ -0,0 +1,30 @@
+-- Per-student results timeline, maintained by the grading service alongside results. Rows go
+-- away with their result.
+
+create table student_results (
+    result_id bigint not null,
+    student_id bigint not null,
+    assignment_id bigint not null,
+    assignment_title varchar(255) not null,
+    deadline timestamp(6) not null,
+    grade varchar(5),
+    remarks text,
+    status varchar(255) not null
+        check (status in ('PENDING', 'GRADED', 'APPEALED', 'APPEAL_REVIEWED')),
+    updated_at timestamp(6) not null,
+    primary key (result_id),
+    constraint fk_student_results_result foreign key (result_id) references results on delete cascade
+);
+
+-- The timeline: one student's rows by deadline, newest first via a backward scan
+create index idx_student_results_timeline on student_results (student_id, deadline, result_id);
+
+-- Keeping titles and deadlines in step when an assignment is edited
+create index idx_student_results_assignment on student_results (assignment_id);
+
+insert into student_results (result_id, student_id, assignment_id, assignment_title, deadline,
+                             grade, remarks, status, updated_at)
+select r.id, r.student_id, r.assignment_id, a.title, a.deadline, r.grade, r.remarks, r.status,
+       current_timestamp
+from results r
+join assignments a on a.id = r.assignment_id;
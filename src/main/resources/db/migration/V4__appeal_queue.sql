@@ -0,0 +1,10 @@
+-- Appeals are claimed by one reviewer at a time for a limited lease; an expired lease puts the
+-- appeal back in the queue.
+
+alter table results add column appeal_claimed_by bigint;
+alter table results add column appeal_lease_until timestamp(6);
+
+-- The queue scan: open appeals whose lease is unset or expired. Leads with status, so it also
+-- serves every lookup idx_results_status did.
+create index idx_results_appeal_queue on results (status, appeal_lease_until, id);
+drop index idx_results_status;
@@ -0,0 +1,6 @@
+-- One submission per student per assignment. SubmissionServiceImpl checks before inserting, but
+-- two requests can both pass the check; the constraint lets only one of them commit. Its index
+-- serves the lookups the plain index from V2 did.
+
+alter table submissions add constraint uq_submissions_assignment_student unique (assignment_id, student_id);
+drop index idx_submissions_assignment_student;
@@ -0,0 +1,258 @@
+package com.submission.controller;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.TimeoutHandler;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestDispatcherTest {
+
+    @Test
+    void testInlineRunsOnRequestThread() {
+        RequestDispatcher dispatcher = new RequestDispatcher(null, 1);
+        RecordingResponse async = new RecordingResponse();
+        Thread requestThread = Thread.currentThread();
+
+        dispatcher.dispatch(async, HttpMethod.GET, () -> {
+            assertSame(requestThread, Thread.currentThread());
+            return Response.ok().build();
+        });
+
+        assertEquals(200, ((Response) async.result.join()).getStatus());
+    }
+
+    @Test
+    void testExecutorFreesRequestThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RequestDispatcher dispatcher = new RequestDispatcher(executor, 1);
+            RecordingResponse async = new RecordingResponse();
+            CountDownLatch release = new CountDownLatch(1);
+
+            dispatcher.dispatch(async, HttpMethod.GET, () -> {
+                await(release);
+                return Response.ok().build();
+            });
+            // The work is still blocked, but the request thread already got control back
+            assertFalse(async.result.isDone());
+            assertEquals(RequestDispatcher.TIMEOUT_SECONDS, async.timeoutSeconds);
+
+            release.countDown();
+            assertEquals(200, ((Response) async.result.get(5, TimeUnit.SECONDS)).getStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOnlyReadsTimeOut() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            RequestDispatcher dispatcher = new RequestDispatcher(executor, 2);
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingResponse read = new RecordingResponse();
+            dispatcher.dispatch(read, HttpMethod.GET, () -> {
+                await(release);
+                return Response.ok().build();
+            });
+            RecordingResponse write = new RecordingResponse();
+            dispatcher.dispatch(write, HttpMethod.POST, () -> {
+                await(release);
+                return Response.ok().build();
+            });
+
+            // The read is answered without an invitation to retry; the write is left to finish
+            assertNotNull(read.timeoutHandler);
+            read.timeoutHandler.handleTimeout(read);
+            Response timedOut = (Response) read.result.get(5, TimeUnit.SECONDS);
+            assertEquals(504, timedOut.getStatus());
+            assertNull(timedOut.getHeaderString("Retry-After"));
+            assertEquals(0, write.timeoutSeconds);
+            assertNull(write.timeoutHandler);
+
+            release.countDown();
+            assertEquals(200, ((Response) write.result.get(5, TimeUnit.SECONDS)).getStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRejectsBeyondMaxInFlight() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            RequestDispatcher dispatcher = new RequestDispatcher(executor, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingResponse first = new RecordingResponse();
+            dispatcher.dispatch(first, HttpMethod.GET, () -> {
+                await(release);
+                return Response.ok().build();
+            });
+
+            RecordingResponse second = new RecordingResponse();
+            dispatcher.dispatch(second, HttpMethod.GET, () -> Response.ok().build());
+            Response busy = (Response) second.result.get(5, TimeUnit.SECONDS);
+            assertEquals(503, busy.getStatus());
+            assertEquals("1", busy.getHeaderString("Retry-After"));
+
+            release.countDown();
+            first.result.get(5, TimeUnit.SECONDS);
+            RecordingResponse third = new RecordingResponse();
+            dispatcher.dispatch(third, HttpMethod.GET, () -> Response.ok().build());
+            assertEquals(200, ((Response) third.result.get(5, TimeUnit.SECONDS)).getStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailureIsResumedAsException() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RequestDispatcher dispatcher = new RequestDispatcher(executor, 1);
+            RecordingResponse async = new RecordingResponse();
+
+            dispatcher.dispatch(async, HttpMethod.GET, () -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertInstanceOf(IllegalStateException.class, async.result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testThreadFactoryStartsAThreadPerRequest() throws Exception {
+        Thread requestThread = Thread.currentThread();
+        RequestDispatcher dispatcher = new RequestDispatcher(
+            RequestDispatcher.threadPerTask(task -> new Thread(task, "managed")), 2);
+        RecordingResponse async = new RecordingResponse();
+
+        dispatcher.dispatch(async, HttpMethod.GET, () -> {
+            assertNotSame(requestThread, Thread.currentThread());
+            return Response.ok().entity(Thread.currentThread().getName()).build();
+        });
+
+        assertEquals("managed", ((Response) async.result.get(5, TimeUnit.SECONDS)).getEntity());
+    }
+
+    @Test
+    void testStoppedThreadFactoryIsBusy() throws Exception {
+        // A managed thread factory returns no thread while the application stops
+        AtomicBoolean stopping = new AtomicBoolean(true);
+        RequestDispatcher dispatcher = new RequestDispatcher(
+            RequestDispatcher.threadPerTask(task -> stopping.get() ? null : new Thread(task)), 1);
+        RecordingResponse rejected = new RecordingResponse();
+        dispatcher.dispatch(rejected, HttpMethod.GET, () -> Response.ok().build());
+        assertEquals(503, ((Response) rejected.result.get(5, TimeUnit.SECONDS)).getStatus());
+
+        // The rejected request gave its slot back
+        stopping.set(false);
+        RecordingResponse async = new RecordingResponse();
+        dispatcher.dispatch(async, HttpMethod.GET, () -> Response.ok().build());
+        assertEquals(200, ((Response) async.result.get(5, TimeUnit.SECONDS)).getStatus());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Records what a resource resumes with; the first resume wins, as with a real
+     * {@link AsyncResponse}.
+     */
+    private static class RecordingResponse implements AsyncResponse {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        long timeoutSeconds;
+        TimeoutHandler timeoutHandler;
+
+        @Override
+        public boolean resume(Object response) {
+            return result.complete(response);
+        }
+
+        @Override
+        public boolean resume(Throwable response) {
+            return result.complete(response);
+        }
+
+        @Override
+        public boolean cancel() {
+            return result.cancel(false);
+        }
+
+        @Override
+        public boolean cancel(int retryAfter) {
+            return cancel();
+        }
+
+        @Override
+        public boolean cancel(Date retryAfter) {
+            return cancel();
+        }
+
+        @Override
+        public boolean isSuspended() {
+            return !result.isDone();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public boolean setTimeout(long time, TimeUnit unit) {
+            timeoutSeconds = unit.toSeconds(time);
+            return true;
+        }
+
+        @Override
+        public void setTimeoutHandler(TimeoutHandler handler) {
+            timeoutHandler = handler;
+        }
+
+        @Override
+        public Collection<Class<?>> register(Class<?> callback) {
+            return List.of();
+        }
+
+        @Override
+        public Map<Class<?>, Collection<Class<?>>> register(Class<?> callback, Class<?>... callbacks) {
+            return Map.of();
+        }
+
+        @Override
+        public Collection<Class<?>> register(Object callback) {
+            return List.of();
+        }
+
+        @Override
+        public Map<Class<?>, Collection<Class<?>>> register(Object callback, Object... callbacks) {
+            return Map.of();
+        }
+    }
+}
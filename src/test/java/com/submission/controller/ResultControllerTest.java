@@ -0,0 +1,63 @@
+package com.submission.controller;
+
+import com.submission.dto.ApiResponse;
+import com.submission.service.ResultService;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultControllerTest {
+
+    @Test
+    void testExportErrorsAreJsonDespiteTheExportMediaTypes() throws Exception {
+        ResultController controller = new ResultController();
+        controller.securityContext = teacher(7L);
+        setResultService(controller, (ResultService) Proxy.newProxyInstance(
+            ResultService.class.getClassLoader(), new Class<?>[] {ResultService.class},
+            (proxy, method, args) -> {
+                throw new IllegalArgumentException("Not authorized to view results for this assignment");
+            }));
+
+        Response response = controller.exportResultsByAssignment(1L, "csv");
+
+        assertEquals(400, response.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, response.getMediaType());
+        assertInstanceOf(ApiResponse.class, response.getEntity());
+    }
+
+    private static void setResultService(ResultController controller, ResultService service) throws Exception {
+        Field field = ResultController.class.getDeclaredField("resultService");
+        field.setAccessible(true);
+        field.set(controller, service);
+    }
+
+    private static SecurityContext teacher(Long id) {
+        Principal principal = () -> String.valueOf(id);
+        return new SecurityContext() {
+            @Override
+            public Principal getUserPrincipal() {
+                return principal;
+            }
+
+            @Override
+            public boolean isUserInRole(String role) {
+                return "TEACHER".equals(role);
+            }
+
+            @Override
+            public boolean isSecure() {
+                return true;
+            }
+
+            @Override
+            public String getAuthenticationScheme() {
+                return SecurityContext.BASIC_AUTH;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.submission.controller;
+
+import com.submission.dto.ApiResponse;
+import com.submission.dto.LoginRequest;
+import com.submission.security.HashingCapacityExceededException;
+import com.submission.security.LoginAttemptLimiter;
+import com.submission.service.TeacherService;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TeacherControllerTest {
+
+    @Test
+    void testSaturatedHashingPoolAnswersServiceUnavailable() throws Exception {
+        TeacherController controller = new TeacherController();
+        controller.requestDispatcher = new RequestDispatcher(null, 1);
+        set(controller, "loginAttemptLimiter", new LoginAttemptLimiter());
+        set(controller, "teacherService", proxy(TeacherService.class, new AtomicReference<>(), () -> {
+            throw new HashingCapacityExceededException();
+        }));
+        AtomicReference<Object> resumed = new AtomicReference<>();
+        AsyncResponse async = proxy(AsyncResponse.class, resumed, () -> null);
+
+        controller.login(new LoginRequest("busy@example.com", "password123"), async);
+
+        Response response = (Response) resumed.get();
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeaderString("Retry-After"));
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, response.getMediaType());
+        assertFalse(((ApiResponse<?>) response.getEntity()).isSuccess());
+    }
+
+    // Calls answer from answer, except that resume(Object) keeps its argument in resumed
+    private static <T> T proxy(Class<T> type, AtomicReference<Object> resumed, Supplier<Object> answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                if (method.getName().equals("resume") && args != null && args.length == 1) {
+                    resumed.set(args[0]);
+                    return true;
+                }
+                if (method.getReturnType() == boolean.class) {
+                    return true;
+                }
+                return answer.get();
+            }));
+    }
+
+    private static void set(TeacherController controller, String name, Object value) throws Exception {
+        Field field = TeacherController.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(controller, value);
+    }
+}
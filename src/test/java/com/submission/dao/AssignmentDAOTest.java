@@ -1,9 +1,16 @@
 package com.submission.dao;
 
+import com.submission.dto.AssignmentDetail;
+import com.submission.dto.AssignmentStats;
+import com.submission.dto.AssignmentSummary;
 import com.submission.model.Assignment;
+import com.submission.model.Submission;
+import com.submission.model.SubmissionStatus;
 import com.submission.model.Teacher;
 import com.submission.test.BaseTest;
 import com.submission.dao.impl.AssignmentDAOImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
@@ -81,6 +88,89 @@ public class AssignmentDAOTest extends BaseTest {
         assertEquals("Test Assignment", assignments.get(0).getTitle());
     }
 
+    @Test
+    void testFindStatsByTeacherId() {
+        Assignment busy = new Assignment("Busy", "Description", "path/to/busy",
+            now.plusDays(1), teacher, "ACTIVE");
+        persistAndFlush(busy);
+        Assignment quiet = new Assignment("Quiet", "Description", "path/to/quiet",
+            now.plusDays(2), teacher, "ACTIVE");
+        persistAndFlush(quiet);
+
+        persistAndFlush(new Submission(busy, 1L, "path/to/one"));
+        Submission graded = new Submission(busy, 2L, "path/to/two");
+        graded.setStatus(SubmissionStatus.GRADED);
+        persistAndFlush(graded);
+        Submission late = new Submission(busy, 3L, "path/to/three");
+        late.setTimestamp(busy.getDeadline().plusHours(1));
+        late.setStatus(SubmissionStatus.GRADED);
+        persistAndFlush(late);
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<AssignmentStats> stats = assignmentDAO.findStatsByTeacherId(teacher.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(2, stats.size());
+        AssignmentStats busyStats = stats.get(0);
+        assertEquals(busy.getId(), busyStats.assignmentId());
+        assertEquals(3L, busyStats.submissionCount());
+        assertEquals(2L, busyStats.gradedCount());
+        assertEquals(1L, busyStats.lateCount());
+        AssignmentStats quietStats = stats.get(1);
+        assertEquals("Quiet", quietStats.title());
+        assertEquals(0L, quietStats.submissionCount());
+        assertEquals(0L, quietStats.gradedCount());
+        assertEquals(0L, quietStats.lateCount());
+    }
+
+    @Test
+    void testFindDetailByIdLoadsNoEntities() {
+        Assignment assignment = new Assignment("Essay", "Long description", "path/to/essay",
+            now.plusDays(1), teacher, "ACTIVE");
+        persistAndFlush(assignment);
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        AssignmentDetail detail = assignmentDAO.findDetailById(assignment.getId()).orElseThrow();
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertEquals("Essay", detail.title());
+        assertEquals("Long description", detail.description());
+        assertEquals(teacher.getId(), detail.teacherId());
+        assertTrue(assignmentDAO.findDetailById(-1L).isEmpty());
+    }
+
+    @Test
+    void testFindSummariesByTeacherIdAfter() {
+        // Persist one at a time: flushing the teacher cascades to every assignment already
+        // attached to it, which would hand out ids in set iteration order
+        persistAndFlush(new Assignment("First", "Description", "path/to/first",
+            now.plusDays(1), teacher, "ACTIVE"));
+        persistAndFlush(new Assignment("Second", "Description", "path/to/second",
+            now.plusDays(2), teacher, "ACTIVE"));
+        persistAndFlush(new Assignment("Third", "Description", "path/to/third",
+            now.plusDays(2), teacher, "ACTIVE"));
+
+        em.clear();
+
+        List<AssignmentSummary> firstPage = assignmentDAO.findSummariesByTeacherIdAfter(teacher.getId(), null, null, 2);
+        assertEquals(2, firstPage.size());
+        assertEquals("First", firstPage.get(0).title());
+        assertEquals("Second", firstPage.get(1).title());
+        assertEquals(teacher.getId(), firstPage.get(0).teacherId());
+
+        // Same deadline as the last row: the id breaks the tie
+        AssignmentSummary last = firstPage.get(1);
+        List<AssignmentSummary> secondPage = assignmentDAO.findSummariesByTeacherIdAfter(
+            teacher.getId(), last.deadline(), last.id(), 2);
+        assertEquals(1, secondPage.size());
+        assertEquals("Third", secondPage.get(0).title());
+    }
+
     @Test
     void testFindByDeadlineRange() {
         // Create assignments with future deadlines first
@@ -0,0 +1,202 @@
+package com.submission.dao;
+
+import com.submission.dao.impl.ResultDAOImpl;
+import com.submission.dto.AppealClaim;
+import com.submission.dto.GradingTarget;
+import com.submission.dto.ResultExportRow;
+import com.submission.model.Assignment;
+import com.submission.model.Result;
+import com.submission.model.ResultStatus;
+import com.submission.model.Submission;
+import com.submission.model.Teacher;
+import com.submission.test.BaseTest;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultDAOTest extends BaseTest {
+    private ResultDAO resultDAO;
+    private Teacher teacher;
+    private Assignment assignment;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+        assignment = new Assignment("Assignment", "Description", "path/to/file",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(assignment);
+        resultDAO = new ResultDAOImpl(em);
+    }
+
+    @Test
+    void testFindByAssignmentId() {
+        persistAndFlush(new Result(assignment, 1L));
+        persistAndFlush(new Result(assignment, 2L));
+
+        List<Result> results = resultDAO.findByAssignmentId(assignment.getId());
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    void testNewResultLeavesAnAssignmentReferenceUnloaded() {
+        em.clear();
+        Assignment reference = em.getReference(Assignment.class, assignment.getId());
+
+        Result result = new Result(reference, 3L);
+
+        assertSame(reference, result.getAssignment());
+        assertFalse(Hibernate.isInitialized(reference));
+    }
+
+    @Test
+    void testStreamExportRowsByAssignmentId() {
+        Result second = new Result(assignment, 20L);
+        second.setGrade("B");
+        second.setRemarks("Good, but \"late\"");
+        second.setStatus(ResultStatus.GRADED);
+        persistAndFlush(second);
+        persistAndFlush(new Result(assignment, 10L));
+        em.clear();
+
+        beginTransaction();
+        List<ResultExportRow> rows;
+        try (Stream<ResultExportRow> stream = resultDAO.streamExportRowsByAssignmentId(assignment.getId())) {
+            rows = stream.collect(Collectors.toList());
+        }
+        // Projections are not entities, so streaming leaves the persistence context empty
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+        commitTransaction();
+
+        assertEquals(2, rows.size());
+        assertEquals(10L, rows.get(0).studentId());
+        assertEquals(20L, rows.get(1).studentId());
+        assertEquals("B", rows.get(1).grade());
+        assertEquals(ResultStatus.GRADED, rows.get(1).status());
+        assertEquals("Good, but \"late\"", rows.get(1).remarks());
+    }
+
+    @Test
+    void testStreamExportRowsForUnknownAssignmentIsEmpty() {
+        beginTransaction();
+        try (Stream<ResultExportRow> stream = resultDAO.streamExportRowsByAssignmentId(-1L)) {
+            assertEquals(0, stream.count());
+        }
+        commitTransaction();
+    }
+
+    @Test
+    void testFindGradingTargets() {
+        Submission graded = new Submission(assignment, 1L, "path/to/one");
+        persistAndFlush(graded);
+        Submission ungraded = new Submission(assignment, 2L, "path/to/two");
+        persistAndFlush(ungraded);
+        Result existing = new Result(assignment, 1L);
+        existing.setGrade("A");
+        persistAndFlush(existing);
+        em.clear();
+
+        List<GradingTarget> targets = resultDAO.findGradingTargets(
+            List.of(graded.getId(), ungraded.getId(), -1L));
+        assertEquals(2, targets.size());
+
+        Map<Long, GradingTarget> bySubmission = targets.stream()
+            .collect(Collectors.toMap(t -> t.submission().getId(), Function.identity()));
+        GradingTarget first = bySubmission.get(graded.getId());
+        assertTrue(Hibernate.isInitialized(first.submission().getAssignment()));
+        assertEquals(assignment.getId(), first.submission().getAssignment().getId());
+        assertEquals(existing.getId(), first.result().getId());
+        assertEquals("A", first.result().getGrade());
+        assertNull(bySubmission.get(ungraded.getId()).result());
+    }
+
+    @Test
+    void testFindGradingTargetsWithNoIds() {
+        assertTrue(resultDAO.findGradingTargets(List.of()).isEmpty());
+    }
+
+    @Test
+    void testClaimAppealsHandsEachAppealToOneReviewer() {
+        Result first = appeal(1L);
+        Result second = appeal(2L);
+        Result third = appeal(3L);
+        Result notAppealed = new Result(assignment, 4L);
+        notAppealed.setStatus(ResultStatus.GRADED);
+        persistAndFlush(notAppealed);
+        Submission submission = new Submission(assignment, 1L, "path/to/one");
+        persistAndFlush(submission);
+        em.clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        Duration lease = Duration.ofMinutes(15);
+        List<AppealClaim> claimed = claim(teacher.getId(), now, lease, 2);
+        assertEquals(List.of(first.getId(), second.getId()), claimed.stream().map(AppealClaim::resultId).toList());
+        assertEquals(submission.getId(), claimed.get(0).submissionId());
+        assertEquals("Please re-mark", claimed.get(0).appealText());
+        assertEquals("Assignment", claimed.get(0).assignmentTitle());
+
+        // Leased appeals are skipped until the lease runs out
+        assertEquals(List.of(third.getId()),
+            claim(teacher.getId(), now, lease, 2).stream().map(AppealClaim::resultId).toList());
+        assertTrue(claim(teacher.getId(), now, lease, 2).isEmpty());
+
+        Teacher other = new Teacher("Jane", "Roe", generateUniqueEmail("other"), "hashedPassword");
+        persistAndFlush(other);
+        assertTrue(claim(other.getId(), now.plus(lease).plusMinutes(1), lease, 10).isEmpty());
+
+        // Only the reviewer holding a live claim decides, and another's claim is left alone
+        assertFalse(decide(first, other.getId(), now));
+        assertFalse(decide(first, teacher.getId(), now.plus(lease).plusMinutes(1)));
+        Result stillClaimed = em.find(Result.class, first.getId());
+        assertEquals(ResultStatus.APPEALED, stillClaimed.getStatus());
+        assertEquals(teacher.getId(), stillClaimed.getAppealClaimedBy());
+
+        // Deciding an appeal takes it out of the queue for good
+        assertTrue(decide(first, teacher.getId(), now));
+        Result decided = em.find(Result.class, first.getId());
+        assertEquals(ResultStatus.APPEAL_REVIEWED, decided.getStatus());
+        assertNull(decided.getAppealClaimedBy());
+        assertNull(decided.getAppealLeaseUntil());
+
+        List<AppealClaim> reclaimed = claim(teacher.getId(), now.plus(lease).plusMinutes(1), lease, 10);
+        assertEquals(List.of(second.getId(), third.getId()),
+            reclaimed.stream().map(AppealClaim::resultId).toList());
+    }
+
+    private Result appeal(Long studentId) {
+        Result result = new Result(assignment, studentId);
+        result.setGrade("C");
+        result.setAppealText("Please re-mark");
+        result.setStatus(ResultStatus.APPEALED);
+        persistAndFlush(result);
+        return result;
+    }
+
+    private boolean decide(Result result, Long reviewerId, LocalDateTime now) {
+        beginTransaction();
+        boolean decided = resultDAO.updateAppealStatus(em.find(Result.class, result.getId()), reviewerId, now,
+            ResultStatus.APPEAL_REVIEWED, "Upheld");
+        commitTransaction();
+        em.clear();
+        return decided;
+    }
+
+    private List<AppealClaim> claim(Long teacherId, LocalDateTime now, Duration lease, int limit) {
+        beginTransaction();
+        List<AppealClaim> claims = resultDAO.claimAppeals(teacherId, now, lease, limit);
+        commitTransaction();
+        em.clear();
+        return claims;
+    }
+}
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.submission.dao;
 
+import com.submission.model.Assignment;
 import com.submission.model.Teacher;
 import com.submission.test.BaseTest;
 import com.submission.dao.impl.TeacherDAOImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -111,4 +116,62 @@ public class TeacherDAOTest extends BaseTest {
             persistAndFlush(teacher2);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTeacherIsServedFromSecondLevelCache() {
+        Teacher teacher = new Teacher("Cache", "Hit", generateUniqueEmail("cache"), "hashedPassword");
+        persistAndFlush(teacher);
+        em.clear();
+        emf.getCache().evictAll();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        teacherDAO.findById(teacher.getId());
+
+        // READ_WRITE entries are only visible to sessions opened after they were cached
+        EntityManager later = emf.createEntityManager();
+        try {
+            assertTrue(new TeacherDAOImpl(later).findById(teacher.getId()).isPresent());
+        } finally {
+            later.close();
+        }
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testBulkPasswordUpdateInvalidatesCachedTeacher() {
+        Teacher teacher = new Teacher("Cache", "Stale", generateUniqueEmail("stale"), "oldHash");
+        persistAndFlush(teacher);
+        em.clear();
+        teacherDAO.findById(teacher.getId());
+        em.clear();
+        assertTrue(emf.getCache().contains(Teacher.class, teacher.getId()));
+
+        beginTransaction();
+        teacherDAO.updatePassword(teacher.getId(), "newHash");
+        commitTransaction();
+        em.clear();
+
+        // The bulk UPDATE bypasses the entity, so the region must have been evicted
+        assertFalse(emf.getCache().contains(Teacher.class, teacher.getId()));
+        assertEquals("newHash", teacherDAO.findById(teacher.getId()).get().getPasswordHash());
+    }
+
+    @Test
+    void testCachedAssignmentsCollectionSeesNewAssignment() {
+        Teacher teacher = new Teacher("Cache", "Collection", generateUniqueEmail("collection"), "hashedPassword");
+        persistAndFlush(teacher);
+        em.clear();
+        assertEquals(0, teacherDAO.findById(teacher.getId()).get().getAssignments().size());
+        em.clear();
+
+        Teacher managed = teacherDAO.findById(teacher.getId()).get();
+        persistAndFlush(new Assignment("New", "Description", "path/to/file",
+            LocalDateTime.now().plusDays(1), managed));
+        em.clear();
+
+        assertEquals(1, teacherDAO.findById(teacher.getId()).get().getAssignments().size());
+    }
+}
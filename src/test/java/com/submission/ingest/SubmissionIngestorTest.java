@@ -0,0 +1,167 @@
+package com.submission.ingest;
+
+import com.submission.model.Submission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubmissionIngestorTest {
+
+    private SubmissionIngestor ingestor;
+
+    @AfterEach
+    void tearDown() {
+        if (ingestor != null) {
+            ingestor.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmissionsQueuedDuringAWriteShareTheNextBatch() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        ingestor = new SubmissionIngestor(batch -> {
+            batchSizes.add(batch.size());
+            if (batchSizes.size() == 1) {
+                firstWriteStarted.countDown();
+                await(releaseFirstWrite);
+            }
+            assignIds(batch);
+        }, 100);
+
+        CompletableFuture<Submission> first = ingestor.submit(new Submission());
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Submission>> queued = IntStream.range(0, 10)
+            .mapToObj(i -> ingestor.submit(new Submission()))
+            .toList();
+        assertFalse(queued.get(0).isDone(), "Not acknowledged before its batch is written");
+
+        releaseFirstWrite.countDown();
+        assertNotNull(first.get(5, TimeUnit.SECONDS).getId());
+        for (CompletableFuture<Submission> future : queued) {
+            assertNotNull(future.get(5, TimeUnit.SECONDS).getId());
+        }
+        assertEquals(List.of(1, 10), batchSizes);
+    }
+
+    @Test
+    void testFullQueueRejectsSubmissions() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ingestor = new SubmissionIngestor(batch -> {
+            writing.countDown();
+            await(release);
+            assignIds(batch);
+        }, 2);
+
+        ingestor.submit(new Submission());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        ingestor.submit(new Submission());
+        ingestor.submit(new Submission());
+        assertThrows(IngestCapacityExceededException.class, () -> ingestor.submit(new Submission()));
+        release.countDown();
+    }
+
+    @Test
+    void testFailedBatchIsRetriedOneByOne() throws Exception {
+        Submission bad = new Submission();
+        bad.setFilePath("bad");
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ingestor = new SubmissionIngestor(new Consumer<>() {
+            private boolean first = true;
+
+            @Override
+            public void accept(List<Submission> batch) {
+                if (first) {
+                    first = false;
+                    writing.countDown();
+                    await(release);
+                }
+                if (batch.contains(bad)) {
+                    throw new IllegalStateException("constraint violated");
+                }
+                assignIds(batch);
+            }
+        }, 100);
+
+        CompletableFuture<Submission> blocker = ingestor.submit(new Submission());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Submission> good = ingestor.submit(new Submission());
+        CompletableFuture<Submission> failing = ingestor.submit(bad);
+        release.countDown();
+
+        assertNotNull(blocker.get(5, TimeUnit.SECONDS).getId());
+        assertNotNull(good.get(5, TimeUnit.SECONDS).getId());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertEquals("constraint violated", e.getCause().getMessage());
+        assertNull(bad.getId());
+    }
+
+    @Test
+    void testWithdrawnSubmissionIsNotWritten() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Submission> written = new CopyOnWriteArrayList<>();
+        ingestor = new SubmissionIngestor(batch -> {
+            writing.countDown();
+            await(release);
+            assignIds(batch);
+            written.addAll(batch);
+        }, 100);
+
+        CompletableFuture<Submission> beingWritten = ingestor.submit(new Submission());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        Submission withdrawn = new Submission();
+        CompletableFuture<Submission> queued = ingestor.submit(withdrawn);
+        CompletableFuture<Submission> kept = ingestor.submit(new Submission());
+
+        assertFalse(beingWritten.cancel(false), "The writer already took it");
+        assertTrue(queued.cancel(false));
+        release.countDown();
+
+        assertNotNull(beingWritten.get(5, TimeUnit.SECONDS).getId());
+        assertNotNull(kept.get(5, TimeUnit.SECONDS).getId());
+        assertTrue(queued.isCancelled());
+        assertFalse(written.contains(withdrawn));
+        assertEquals(2, written.size());
+    }
+
+    @Test
+    void testShutdownWritesWhatIsQueued() throws Exception {
+        List<Submission> written = new CopyOnWriteArrayList<>();
+        ingestor = new SubmissionIngestor(batch -> {
+            assignIds(batch);
+            written.addAll(batch);
+        }, 100);
+        CompletableFuture<Submission> future = ingestor.submit(new Submission());
+
+        ingestor.shutdown();
+        assertTrue(future.isDone());
+        assertEquals(1, written.size());
+        assertThrows(IllegalStateException.class, () -> ingestor.submit(new Submission()));
+    }
+
+    private static long nextId = 1;
+
+    private static synchronized void assignIds(List<Submission> batch) {
+        batch.forEach(submission -> submission.setId(nextId++));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.submission.metrics;
+
+import com.submission.dao.impl.AssignmentDAOImpl;
+import com.submission.model.Teacher;
+import com.submission.test.BaseTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HibernateMetricsTest extends BaseTest {
+
+    @Test
+    void testReportsQueriesAndEntityLoads() {
+        Teacher teacher = new Teacher("John", "Doe", generateUniqueEmail("metrics"), "hashedPassword");
+        persistAndFlush(teacher);
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        new AssignmentDAOImpl(em).findByTeacherId(teacher.getId());
+        new AssignmentDAOImpl(em).findByTeacherId(teacher.getId());
+        em.find(Teacher.class, teacher.getId());
+
+        HibernateMetrics metrics = HibernateMetrics.from(statistics);
+        assertTrue(metrics.enabled());
+        assertEquals(2, metrics.queryExecutionCount());
+        HibernateMetrics.QueryMetrics query = metrics.queries().stream()
+            .filter(q -> q.query().contains("FROM Assignment"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(2, query.executionCount());
+        HibernateMetrics.EntityMetrics teachers = metrics.entities().stream()
+            .filter(e -> e.entity().equals(Teacher.class.getName()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1, teachers.loadCount());
+    }
+}
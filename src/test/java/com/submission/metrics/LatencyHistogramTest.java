@@ -0,0 +1,62 @@
+package com.submission.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundsAreContiguous() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int bucket = LatencyHistogram.bucketFor(micros);
+            assertTrue(micros <= LatencyHistogram.upperBoundMicros(bucket), "micros " + micros);
+            if (bucket > 0) {
+                assertTrue(micros > LatencyHistogram.upperBoundMicros(bucket - 1), "micros " + micros);
+            }
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketFor(Long.MAX_VALUE / 1_000));
+    }
+
+    @Test
+    void testPercentilesWithinBucketResolution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(50.5, snapshot.meanMillis(), 0.001);
+        assertEquals(50, snapshot.p50Millis(), 50 * 0.25);
+        assertEquals(90, snapshot.p90Millis(), 90 * 0.25);
+        assertEquals(99, snapshot.p99Millis(), 99 * 0.25);
+        assertEquals(100, snapshot.maxMillis(), 0.001);
+        assertTrue(snapshot.p99Millis() <= snapshot.maxMillis());
+    }
+
+    @Test
+    void testEmptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.p99Millis());
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(1_000_000);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(80_000, histogram.snapshot().count());
+    }
+}
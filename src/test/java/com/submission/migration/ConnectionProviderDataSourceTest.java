@@ -0,0 +1,62 @@
+package com.submission.migration;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionProviderDataSourceTest {
+
+    @Test
+    void testClosingTwiceReturnsTheConnectionOnce() throws SQLException {
+        AtomicInteger returned = new AtomicInteger();
+        Connection pooled = DriverManager.getConnection("jdbc:h2:mem:provider-data-source", "sa", "");
+        try {
+            Connection connection = new ConnectionProviderDataSource(provider(pooled, returned)).getConnection();
+            assertFalse(connection.isClosed());
+            connection.createStatement().close();
+
+            connection.close();
+            connection.close();
+
+            assertEquals(1, returned.get());
+            assertTrue(connection.isClosed());
+            assertFalse(pooled.isClosed(), "Still the provider's to lend again");
+            assertThrows(SQLException.class, connection::createStatement);
+        } finally {
+            pooled.close();
+        }
+    }
+
+    private static ConnectionProvider provider(Connection connection, AtomicInteger returned) {
+        return new ConnectionProvider() {
+            @Override
+            public Connection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public void closeConnection(Connection conn) {
+                returned.incrementAndGet();
+            }
+
+            @Override
+            public boolean supportsAggressiveRelease() {
+                return false;
+            }
+
+            @Override
+            public boolean isUnwrappableAs(Class<?> unwrapType) {
+                return false;
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> unwrapType) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
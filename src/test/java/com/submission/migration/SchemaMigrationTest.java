@@ -0,0 +1,159 @@
+package com.submission.migration;
+
+import com.submission.model.Assignment;
+import com.submission.model.PooledSequenceGenerator;
+import com.submission.model.Result;
+import com.submission.model.Submission;
+import com.submission.model.Teacher;
+import com.submission.test.BaseTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaMigrationTest extends BaseTest {
+
+    @Test
+    void testMigrationsAreRecorded() {
+        @SuppressWarnings("unchecked")
+        List<String> versions = em.createNativeQuery(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL AND \"success\" ORDER BY \"installed_rank\"")
+            .getResultList();
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7", "8"), versions);
+    }
+
+    @Test
+    void testHotPredicatesUseIndexes() {
+        // H2 also indexes every foreign key on its own, which PostgreSQL does not, so the
+        // teacher query is the paged one that only the composite index can serve in order
+        assertUsesIndex("SELECT id FROM assignments WHERE teacher_id = 1 ORDER BY deadline, id FETCH FIRST 20 ROWS ONLY",
+            "IDX_ASSIGNMENTS_TEACHER_DEADLINE");
+        assertUsesIndex("SELECT id FROM assignments WHERE deadline <= LOCALTIMESTAMP",
+            "IDX_ASSIGNMENTS_DEADLINE");
+        assertUsesIndex("SELECT * FROM submissions WHERE assignment_id = 1 AND student_id = 2",
+            "UQ_SUBMISSIONS_ASSIGNMENT_STUDENT");
+        assertUsesIndex("SELECT * FROM results WHERE assignment_id = 1 AND student_id = 2",
+            "UQ_RESULTS_ASSIGNMENT_STUDENT");
+        assertUsesIndex("SELECT * FROM results WHERE status = 'APPEALED'",
+            "IDX_RESULTS_APPEAL_QUEUE");
+        assertUsesIndex("SELECT id FROM results WHERE status = 'APPEALED' AND appeal_lease_until < LOCALTIMESTAMP",
+            "IDX_RESULTS_APPEAL_QUEUE");
+    }
+
+    @Test
+    void testOneResultPerStudentPerAssignment() {
+        Teacher teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+        Assignment assignment = new Assignment("Essay", "Description", null, LocalDateTime.now().plusDays(1), teacher);
+        persistAndFlush(assignment);
+        persistAndFlush(new Result(assignment, 1L));
+
+        assertThrows(PersistenceException.class, () -> persistAndFlush(new Result(assignment, 1L)));
+    }
+
+    @Test
+    void testOneSubmissionPerStudentPerAssignment() {
+        Teacher teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+        Assignment assignment = new Assignment("Essay", "Description", null, LocalDateTime.now().plusDays(1), teacher);
+        persistAndFlush(assignment);
+        persistAndFlush(new Submission(assignment, 1L, "path/to/first"));
+
+        assertThrows(PersistenceException.class, () -> persistAndFlush(new Submission(assignment, 1L, "path/to/second")));
+    }
+
+    @Test
+    void testIdSequencesStepByAllocationSize() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> sequences = em.createNativeQuery(
+                "SELECT SEQUENCE_NAME, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES ORDER BY SEQUENCE_NAME")
+            .getResultList();
+        assertEquals(List.of("ASSIGNMENTS_SEQ", "NOTES_SEQ", "PAST_PAPERS_SEQ", "RESULTS_SEQ", "SUBMISSIONS_SEQ", "USERS_SEQ"),
+            sequences.stream().map(row -> row[0]).toList());
+        sequences.forEach(row -> assertEquals(50L, ((Number) row[1]).longValue(), () -> row[0] + " increment"));
+    }
+
+    @Test
+    void testRowsInsertedOutsideHibernateTakeIdsFromTheSequence() {
+        Teacher first = new Teacher("Before", "Insert", generateUniqueEmail("before"), "hash");
+        persistAndFlush(first);
+        String email = generateUniqueEmail("outside");
+        beginTransaction();
+        em.createNativeQuery("INSERT INTO users (role, email, first_name, last_name, password_hash) " +
+                "VALUES ('TEACHER', ?1, 'Outside', 'Hibernate', 'hash')")
+            .setParameter(1, email)
+            .executeUpdate();
+        commitTransaction();
+        long outsideId = ((Number) em.createNativeQuery("SELECT id FROM users WHERE email = ?1")
+            .setParameter(1, email)
+            .getSingleResult()).longValue();
+
+        // Past the block Hibernate was handing out, which it goes on to use up and then leave
+        assertTrue(outsideId > first.getId());
+        for (int i = 0; i < 60; i++) {
+            Teacher teacher = new Teacher("After", "Insert", generateUniqueEmail("after"), "hash");
+            persistAndFlush(teacher);
+            assertNotEquals(outsideId, teacher.getId());
+        }
+    }
+
+    @Test
+    void testIdsContinueAfterIdentityColumnIds() throws SQLException {
+        String url = "jdbc:h2:mem:legacy-ids;DB_CLOSE_DELAY=-1";
+        // The schema as it was before the sequences, holding rows with identity ids
+        Flyway.configure()
+            .dataSource(url, "sa", "")
+            .locations(SchemaMigrationIntegrator.LOCATION)
+            .repeatableSqlMigrationPrefix("-")
+            .target("4")
+            .load()
+            .migrate();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO users (role, email, first_name, last_name, password_hash) " +
+                "VALUES ('TEACHER', 'old@example.com', 'Old', 'Teacher', 'hash')");
+            statement.executeUpdate("INSERT INTO users (id, role, email, first_name, last_name, password_hash) " +
+                "VALUES (70, 'TEACHER', 'older@example.com', 'Older', 'Teacher', 'hash')");
+        }
+
+        // Without the second-level cache, whose regions are shared with the test database's factory
+        EntityManagerFactory legacy = Persistence.createEntityManagerFactory("TestPU", Map.of(
+            "jakarta.persistence.jdbc.url", url,
+            "hibernate.cache.use_second_level_cache", "false",
+            PooledSequenceGenerator.ALLOCATION_SIZE_PROPERTY, "20"));
+        EntityManager legacyEm = legacy.createEntityManager();
+        try {
+            legacyEm.getTransaction().begin();
+            Teacher first = new Teacher("New", "Teacher", "new@example.com", "hash");
+            Teacher second = new Teacher("Newer", "Teacher", "newer@example.com", "hash");
+            legacyEm.persist(first);
+            legacyEm.persist(second);
+            legacyEm.getTransaction().commit();
+
+            assertEquals(71L, first.getId());
+            assertEquals(72L, second.getId());
+            Number increment = (Number) legacyEm.createNativeQuery(
+                    "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'USERS_SEQ'")
+                .getSingleResult();
+            assertEquals(20L, increment.longValue());
+        } finally {
+            legacyEm.close();
+            legacy.close();
+        }
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = (String) em.createNativeQuery("EXPLAIN " + sql).getSingleResult();
+        assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+}
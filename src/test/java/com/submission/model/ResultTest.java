@@ -3,6 +3,8 @@ package com.submission.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ResultTest {
@@ -74,6 +76,16 @@ public class ResultTest {
         assertTrue(newAssignment.getResults().contains(result));
     }
 
+    @Test
+    void testResultStaysInItsSetWhenPersistingAssignsTheId() {
+        Set<Result> results = new HashSet<>(Set.of(result));
+
+        result.setId(42L);
+
+        assertTrue(results.contains(result));
+        assertNotEquals(result, new Result(assignment, 1L), "Another result for the same student");
+    }
+
     @Test
     void testEmptyAppealText() {
         result.setAppealText("");
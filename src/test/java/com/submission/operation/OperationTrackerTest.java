@@ -0,0 +1,125 @@
+package com.submission.operation;
+
+import com.submission.dto.OperationStatus;
+import com.submission.test.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OperationTrackerTest {
+    private MutableClock clock;
+    private OperationTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        tracker = new OperationTracker(1, 1, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.shutdown();
+    }
+
+    @Test
+    void testTracksOperationToCompletion() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        OperationStatus submitted = tracker.submit("assignment.delete", 1L, () -> await(release));
+        assertEquals("assignment.delete", submitted.type());
+        assertNull(submitted.finishedAt());
+
+        release.countDown();
+        OperationStatus finished = awaitFinished(submitted.id(), 1L);
+        assertEquals(OperationState.SUCCEEDED, finished.state());
+        assertEquals(clock.instant(), finished.finishedAt());
+        assertNull(finished.error());
+    }
+
+    @Test
+    void testFailureIsRecorded() throws Exception {
+        OperationStatus submitted = tracker.submit("assignment.delete", 1L, () -> {
+            throw new IllegalArgumentException("Assignment not found");
+        });
+
+        OperationStatus finished = awaitFinished(submitted.id(), 1L);
+        assertEquals(OperationState.FAILED, finished.state());
+        assertEquals("Assignment not found", finished.error());
+    }
+
+    @Test
+    void testErrorIsRecordedAsFailure() throws Exception {
+        OperationStatus submitted = tracker.submit("assignment.delete", 1L, () -> {
+            throw new StackOverflowError("Too deep");
+        });
+
+        OperationStatus finished = awaitFinished(submitted.id(), 1L);
+        assertEquals(OperationState.FAILED, finished.state());
+        assertEquals("Too deep", finished.error());
+    }
+
+    @Test
+    void testOnlyOwnerSeesOperation() {
+        OperationStatus submitted = tracker.submit("assignment.delete", 1L, () -> { });
+
+        assertTrue(tracker.find(submitted.id(), 1L).isPresent());
+        assertTrue(tracker.find(submitted.id(), 2L).isEmpty());
+        assertTrue(tracker.find("unknown", 1L).isEmpty());
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        tracker.submit("slow", 1L, () -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // One running, one queued, the third has nowhere to go
+        OperationStatus queued = tracker.submit("queued", 1L, () -> { });
+        assertThrows(OperationCapacityExceededException.class, () -> tracker.submit("rejected", 1L, () -> { }));
+        assertThrows(OperationCapacityExceededException.class, () -> tracker.supply(() -> "rejected"));
+
+        release.countDown();
+        // Until the queued operation is taken off the queue there is still no room
+        awaitFinished(queued.id(), 1L);
+        assertEquals("done", tracker.supply(() -> "done").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFinishedOperationsExpire() throws Exception {
+        OperationStatus submitted = tracker.submit("assignment.delete", 1L, () -> { });
+        awaitFinished(submitted.id(), 1L);
+
+        clock.advance(OperationTracker.RETENTION.plus(Duration.ofSeconds(1)));
+        tracker.submit("next", 1L, () -> { });
+
+        assertTrue(tracker.find(submitted.id(), 1L).isEmpty());
+    }
+
+    private OperationStatus awaitFinished(String id, Long ownerId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            OperationStatus status = tracker.find(id, ownerId).orElseThrow();
+            if (status.finishedAt() != null) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("Operation " + id + " did not finish");
+        return null;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
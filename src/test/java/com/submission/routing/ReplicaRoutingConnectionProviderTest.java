@@ -0,0 +1,173 @@
+package com.submission.routing;
+
+import com.submission.model.Teacher;
+import com.submission.test.MutableClock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two H2 databases stand in for the primary and its replica. Only the replica holds the
+ * teacher {@value #REPLICA_ONLY_EMAIL}, so finding it shows which one a read went to.
+ */
+public class ReplicaRoutingConnectionProviderTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_ONLY_EMAIL = "replica@example.com";
+    private static final long MAX_LAG_MS = 1000;
+
+    private static EntityManagerFactory emf;
+    private MutableClock clock;
+
+    @BeforeAll
+    static void setUpDatabases() throws SQLException {
+        // Without the second-level cache, whose regions are shared with the test database's factory
+        EntityManagerFactory replicaSetup = Persistence.createEntityManagerFactory("TestPU", Map.of(
+            "jakarta.persistence.jdbc.url", REPLICA_URL,
+            "hibernate.cache.use_second_level_cache", "false"));
+        EntityManager em = replicaSetup.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(new Teacher("Replica", "Only", REPLICA_ONLY_EMAIL, "hash"));
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            replicaSetup.close();
+        }
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table replication_lag (lag_ms bigint)");
+            statement.execute("insert into replication_lag values (0)");
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("jakarta.persistence.jdbc.url", PRIMARY_URL);
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put(ReplicaRoutingConnectionProvider.REPLICA_PREFIX + "hibernate.connection.url", REPLICA_URL);
+        properties.put(ReplicaRoutingConnectionProvider.MAX_LAG_PROPERTY, String.valueOf(MAX_LAG_MS));
+        properties.put(ReplicaRoutingConnectionProvider.LAG_QUERY_PROPERTY, "select lag_ms from replication_lag");
+        properties.put(ReplicaRoutingConnectionProvider.LAG_CHECK_INTERVAL_PROPERTY, "0");
+        emf = Persistence.createEntityManagerFactory("TestPU", properties);
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Migrating the databases wrote on this thread
+        ReplicaRouting.endSession();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        ReplicaRouting.useClock(clock);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        ReplicaRouting.endSession();
+        ReplicaRouting.forgetWrites();
+        ReplicaRouting.useClock(Clock.systemUTC());
+        setReplicaLag(0);
+    }
+
+    @Test
+    void testOnlyReadOnlyCallsReadFromTheReplica() throws Exception {
+        assertFalse(readsReplica(), "Outside a read-only call");
+        assertTrue(ReplicaRouting.readOnly(ReplicaRoutingConnectionProviderTest::readsReplica));
+    }
+
+    @Test
+    void testSessionReadsItsOwnWritesFromThePrimaryUntilTheReplicaCaughtUp() throws Exception {
+        ReplicaRouting.beginSession("user:1");
+        saveTeacher("writer@example.com");
+        assertFalse(readOnlyReadsReplica(), "Same call as the write");
+        ReplicaRouting.endSession();
+
+        ReplicaRouting.beginSession("user:1");
+        assertFalse(readOnlyReadsReplica(), "Next request of the session that wrote");
+        ReplicaRouting.beginSession("user:2");
+        assertTrue(readOnlyReadsReplica(), "Another session");
+
+        clock.advance(Duration.ofMillis(MAX_LAG_MS + 1));
+        ReplicaRouting.beginSession("user:1");
+        assertTrue(readOnlyReadsReplica(), "Write is older than the replica's allowed lag");
+    }
+
+    @Test
+    void testWorkOnAnotherThreadWritesForTheCallersSession() throws Exception {
+        ReplicaRouting.beginSession("user:3");
+        Supplier<Void> write = ReplicaRouting.propagate(() -> {
+            saveTeacher("background@example.com");
+            return null;
+        });
+        CompletableFuture.supplyAsync(write).get();
+        ReplicaRouting.endSession();
+
+        ReplicaRouting.beginSession("user:3");
+        assertFalse(readOnlyReadsReplica());
+    }
+
+    @Test
+    void testLaggingReplicaIsNotReadFrom() throws Exception {
+        setReplicaLag(MAX_LAG_MS * 5);
+        assertFalse(readOnlyReadsReplica());
+
+        setReplicaLag(MAX_LAG_MS / 2);
+        assertTrue(readOnlyReadsReplica());
+    }
+
+    private static boolean readOnlyReadsReplica() throws Exception {
+        return ReplicaRouting.readOnly(ReplicaRoutingConnectionProviderTest::readsReplica);
+    }
+
+    // A session without a transaction keeps the connection it first takes, so each read gets its own
+    private static boolean readsReplica() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            return em.createQuery("SELECT COUNT(t) FROM Teacher t WHERE t.email = :email", Long.class)
+                .setParameter("email", REPLICA_ONLY_EMAIL)
+                .getSingleResult() == 1L;
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void saveTeacher(String email) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(new Teacher("Primary", "Writer", email, "hash"));
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void setReplicaLag(long lagMillis) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("update replication_lag set lag_ms = " + lagMillis);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.submission.scheduling;
+
+import com.submission.dao.impl.AssignmentDAOImpl;
+import com.submission.dto.DeadlineEntry;
+import com.submission.metrics.DeadlineMetrics;
+import com.submission.model.Assignment;
+import com.submission.model.Submission;
+import com.submission.model.SubmissionStatus;
+import com.submission.model.Teacher;
+import com.submission.test.BaseTest;
+import jakarta.ejb.NoSuchObjectLocalException;
+import jakarta.ejb.Timer;
+import jakarta.ejb.TimerConfig;
+import jakarta.ejb.TimerService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadlineSchedulerTest extends BaseTest {
+    private DeadlineMetrics metrics;
+    private DeadlineScheduler scheduler;
+    private Teacher teacher;
+    private LocalDateTime now;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        metrics = new DeadlineMetrics();
+        scheduler = new DeadlineScheduler(new AssignmentDAOImpl(em), metrics);
+        teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void testQueueReleasesDeadlinesInOrderOnce() {
+        DeadlineQueue queue = new DeadlineQueue();
+        DeadlineEntry later = new DeadlineEntry(1L, now.plusMinutes(10));
+        DeadlineEntry sooner = new DeadlineEntry(2L, now.plusMinutes(5));
+
+        assertTrue(queue.add(later));
+        assertTrue(queue.add(sooner));
+        assertFalse(queue.add(new DeadlineEntry(2L, now.plusMinutes(5))));
+        assertEquals(sooner.deadline(), queue.nextDeadline().orElseThrow());
+
+        assertEquals(List.of(), queue.pollDue(now));
+        assertEquals(List.of(sooner), queue.pollDue(now.plusMinutes(7)));
+        assertEquals(List.of(later), queue.pollDue(now.plusMinutes(10)));
+        assertTrue(queue.nextDeadline().isEmpty());
+    }
+
+    @Test
+    void testExpiredAssignmentsAreClosedInBulk() {
+        Assignment first = assignment(now.minusMinutes(5));
+        Assignment second = assignment(now.minusMinutes(1));
+        Assignment open = assignment(now.plusDays(1));
+
+        Submission onTime = submission(first, 1L, now.minusMinutes(10));
+        Submission late = submission(first, 2L, now.minusMinutes(2));
+        Submission gradedLate = submission(second, 3L, now);
+        gradedLate.setStatus(SubmissionStatus.GRADED);
+        merge(gradedLate);
+        Submission openWork = submission(open, 4L, now);
+
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        beginTransaction();
+        int closed = scheduler.closeExpired(now);
+        commitTransaction();
+
+        assertEquals(2, closed);
+        // One lookup and two UPDATEs however many assignments expire together
+        assertEquals(3, statistics.getPrepareStatementCount());
+        em.clear();
+        assertEquals(Assignment.STATUS_CLOSED, em.find(Assignment.class, first.getId()).getStatus());
+        assertEquals(Assignment.STATUS_CLOSED, em.find(Assignment.class, second.getId()).getStatus());
+        assertEquals("ACTIVE", em.find(Assignment.class, open.getId()).getStatus());
+        assertEquals(SubmissionStatus.SUBMITTED, em.find(Submission.class, onTime.getId()).getStatus());
+        assertEquals(SubmissionStatus.LATE, em.find(Submission.class, late.getId()).getStatus());
+        assertEquals(SubmissionStatus.GRADED, em.find(Submission.class, gradedLate.getId()).getStatus());
+        assertEquals(SubmissionStatus.SUBMITTED, em.find(Submission.class, openWork.getId()).getStatus());
+
+        DeadlineMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.assignmentsClosed());
+        assertEquals(1, snapshot.submissionsMarkedLate());
+        assertEquals(2, snapshot.transitionLag().count());
+        assertTrue(snapshot.transitionLag().maxMillis() >= 4 * 60_000);
+    }
+
+    @Test
+    void testNothingDueTouchesNothing() {
+        Assignment open = assignment(now.plusDays(1));
+
+        beginTransaction();
+        assertEquals(0, scheduler.closeExpired(now));
+        commitTransaction();
+
+        em.clear();
+        assertEquals("ACTIVE", em.find(Assignment.class, open.getId()).getStatus());
+        assertEquals(0, metrics.snapshot().transitionLag().count());
+    }
+
+    @Test
+    void testTrackArmsOneTimerForTheEarliestDeadline() throws Exception {
+        StubTimerService timers = useStubTimers();
+
+        scheduler.track(1L, LocalDateTime.now().plusMinutes(10));
+        assertEquals(1, timers.created.size());
+        assertDelay(Duration.ofMinutes(10), timers.created.get(0));
+
+        // Sooner: the armed timer is replaced
+        scheduler.track(2L, LocalDateTime.now().plusMinutes(5));
+        assertEquals(2, timers.created.size());
+        assertTrue(timers.created.get(0).cancelled);
+        assertDelay(Duration.ofMinutes(5), timers.created.get(1));
+
+        // Later, or beyond the horizon: the earlier timer stays armed
+        scheduler.track(3L, LocalDateTime.now().plusMinutes(12));
+        scheduler.track(4L, LocalDateTime.now().plus(DeadlineScheduler.HORIZON).plusMinutes(1));
+        assertEquals(2, timers.created.size());
+        assertFalse(timers.created.get(1).cancelled);
+    }
+
+    @Test
+    void testTrackArmsAgainAfterTheTimerFired() throws Exception {
+        StubTimerService timers = useStubTimers();
+        scheduler.track(1L, LocalDateTime.now().plusMinutes(5));
+        timers.created.get(0).fired = true;
+
+        scheduler.track(2L, LocalDateTime.now().plusMinutes(10));
+
+        // The fired timer's deadline is still queued, so the next one is armed for it
+        assertEquals(2, timers.created.size());
+        assertFalse(timers.created.get(0).cancelled);
+        assertDelay(Duration.ofMinutes(5), timers.created.get(1));
+    }
+
+    private StubTimerService useStubTimers() throws Exception {
+        StubTimerService timers = new StubTimerService();
+        Field field = DeadlineScheduler.class.getDeclaredField("timerService");
+        field.setAccessible(true);
+        field.set(scheduler, timers.proxy());
+        return timers;
+    }
+
+    private static void assertDelay(Duration expected, StubTimer timer) {
+        long slack = Duration.ofSeconds(5).toMillis();
+        assertTrue(timer.delay <= expected.toMillis() && timer.delay > expected.toMillis() - slack,
+            "Armed for " + timer.delay + " ms");
+    }
+
+    /** Records single-action timers; a fired timer answers as the container's would. */
+    private static final class StubTimerService {
+        final List<StubTimer> created = new ArrayList<>();
+
+        TimerService proxy() {
+            return (TimerService) Proxy.newProxyInstance(TimerService.class.getClassLoader(),
+                new Class<?>[] {TimerService.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("createSingleActionTimer") && args[0] instanceof Long delay
+                            && args[1] instanceof TimerConfig) {
+                        StubTimer timer = new StubTimer(delay);
+                        created.add(timer);
+                        return timer.proxy();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+
+    private static final class StubTimer {
+        final long delay;
+        final Date nextTimeout;
+        boolean cancelled;
+        boolean fired;
+
+        StubTimer(long delay) {
+            this.delay = delay;
+            this.nextTimeout = new Date(System.currentTimeMillis() + delay);
+        }
+
+        Timer proxy() {
+            return (Timer) Proxy.newProxyInstance(Timer.class.getClassLoader(), new Class<?>[] {Timer.class},
+                (proxy, method, args) -> {
+                    if (fired || cancelled) {
+                        throw new NoSuchObjectLocalException("Timer expired or cancelled");
+                    }
+                    switch (method.getName()) {
+                        case "getNextTimeout":
+                            return nextTimeout;
+                        case "cancel":
+                            cancelled = true;
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+    }
+
+    // The constructor refuses past deadlines, so move them back after persisting
+    private Assignment assignment(LocalDateTime deadline) {
+        Assignment assignment = new Assignment("Assignment", "Description", "path/to/file",
+            now.plusDays(7), teacher, "ACTIVE");
+        persistAndFlush(assignment);
+        assignment.setDeadline(deadline);
+        merge(assignment);
+        return assignment;
+    }
+
+    private Submission submission(Assignment assignment, Long studentId, LocalDateTime timestamp) {
+        Submission submission = new Submission(assignment, studentId, "path/to/submission-" + studentId);
+        submission.setTimestamp(timestamp);
+        persistAndFlush(submission);
+        return submission;
+    }
+}
@@ -0,0 +1,58 @@
+package com.submission.security;
+
+import com.submission.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.Instant;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginAttemptLimiterTest {
+    private MutableClock clock;
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-06T08:00:00Z"));
+        limiter = new LoginAttemptLimiter(clock);
+    }
+
+    @Test
+    void testEmailLimitRejectsUntilWindowExpires() {
+        for (int i = 0; i < LoginAttemptLimiter.MAX_ATTEMPTS_PER_EMAIL; i++) {
+            assertEquals(0, limiter.tryAcquire("teacher@example.com", "10.0.0." + i));
+        }
+        long retryAfter = limiter.tryAcquire("Teacher@Example.com ", "10.0.0.99");
+        assertEquals(LoginAttemptLimiter.EMAIL_WINDOW.toSeconds(), retryAfter);
+
+        clock.advance(LoginAttemptLimiter.EMAIL_WINDOW);
+        assertEquals(0, limiter.tryAcquire("teacher@example.com", "10.0.0.99"));
+    }
+
+    @Test
+    void testAddressLimitSpansEmails() {
+        for (int i = 0; i < LoginAttemptLimiter.MAX_ATTEMPTS_PER_ADDRESS; i++) {
+            assertEquals(0, limiter.tryAcquire("teacher" + i + "@example.com", "10.0.0.1"));
+        }
+        assertTrue(limiter.tryAcquire("someone.else@example.com", "10.0.0.1") > 0);
+        assertEquals(0, limiter.tryAcquire("someone.else@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void testSuccessResetsEmailCounter() {
+        for (int i = 0; i < LoginAttemptLimiter.MAX_ATTEMPTS_PER_EMAIL; i++) {
+            limiter.tryAcquire("teacher@example.com", null);
+        }
+        limiter.recordSuccess("teacher@example.com");
+        assertEquals(0, limiter.tryAcquire("teacher@example.com", null));
+    }
+
+    @Test
+    void testRetryAfterShrinksAsWindowElapses() {
+        for (int i = 0; i <= LoginAttemptLimiter.MAX_ATTEMPTS_PER_EMAIL; i++) {
+            limiter.tryAcquire("teacher@example.com", null);
+        }
+        clock.advance(Duration.ofMinutes(10));
+        assertEquals(Duration.ofMinutes(5).toSeconds(), limiter.tryAcquire("teacher@example.com", null));
+    }
+}
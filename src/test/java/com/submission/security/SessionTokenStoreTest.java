@@ -0,0 +1,58 @@
+package com.submission.security;
+
+import com.submission.security.SessionTokenStore.IssuedToken;
+import com.submission.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionTokenStoreTest {
+    private MutableClock clock;
+    private SessionTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-06T08:00:00Z"));
+        store = new SessionTokenStore(clock);
+    }
+
+    @Test
+    void testIssuedTokenResolvesUntilExpiry() {
+        IssuedToken issued = store.issue(7L);
+        assertEquals(clock.instant().plus(SessionTokenStore.TOKEN_TTL), issued.expiresAt());
+        assertEquals(Optional.of(7L), store.resolve(issued.token()));
+
+        clock.advance(SessionTokenStore.TOKEN_TTL.minus(Duration.ofSeconds(1)));
+        assertEquals(Optional.of(7L), store.resolve(issued.token()));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(store.resolve(issued.token()).isEmpty());
+    }
+
+    @Test
+    void testTokensAreUniqueAndUnknownTokensFail() {
+        IssuedToken first = store.issue(1L);
+        IssuedToken second = store.issue(1L);
+        assertNotEquals(first.token(), second.token());
+        assertTrue(store.resolve("not-a-token").isEmpty());
+        assertTrue(store.resolve(null).isEmpty());
+    }
+
+    @Test
+    void testRevoke() {
+        IssuedToken kept = store.issue(1L);
+        IssuedToken revoked = store.issue(1L);
+        IssuedToken other = store.issue(2L);
+
+        store.revoke(revoked.token());
+        assertTrue(store.resolve(revoked.token()).isEmpty());
+        assertTrue(store.resolve(kept.token()).isPresent());
+
+        store.revokeAll(1L);
+        assertTrue(store.resolve(kept.token()).isEmpty());
+        assertEquals(Optional.of(2L), store.resolve(other.token()));
+    }
+}
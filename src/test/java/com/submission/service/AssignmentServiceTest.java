@@ -4,15 +4,27 @@ import com.submission.dao.AssignmentDAO;
 import com.submission.dao.TeacherDAO;
 import com.submission.dao.impl.AssignmentDAOImpl;
 import com.submission.dao.impl.TeacherDAOImpl;
+import com.submission.dto.AssignmentRequest;
+import com.submission.dto.AssignmentSummary;
+import com.submission.dto.DeadlineEntry;
+import com.submission.dto.Page;
 import com.submission.model.Assignment;
+import com.submission.model.Result;
+import com.submission.model.StudentResult;
+import com.submission.model.Submission;
 import com.submission.model.Teacher;
+import com.submission.scheduling.DeadlineTracker;
 import com.submission.service.impl.AssignmentServiceImpl;
 import com.submission.test.BaseTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class AssignmentServiceTest extends BaseTest {
@@ -84,6 +96,53 @@ public class AssignmentServiceTest extends BaseTest {
         });
     }
 
+    @Test
+    void testCreateAssignmentsWritesOneBatch() {
+        List<DeadlineEntry> tracked = new ArrayList<>();
+        assignmentService = new AssignmentServiceImpl(assignmentDAO, teacherDAO,
+            (id, deadline) -> tracked.add(new DeadlineEntry(id, deadline)));
+        List<AssignmentRequest> requests = new ArrayList<>();
+        for (int week = 1; week <= 12; week++) {
+            requests.add(new AssignmentRequest("Week " + week, "Description", "path/to/week" + week,
+                now.plusWeeks(week)));
+        }
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        beginTransaction();
+        List<Assignment> created = assignmentService.createAssignments(teacher.getId(), requests);
+        commitTransaction();
+
+        // One sequence call for the ids and one batched insert; the teacher, looked up once,
+        // comes from the second-level cache
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(List.of("Week 1", "Week 12"),
+            List.of(created.get(0).getTitle(), created.get(11).getTitle()));
+        assertTrue(created.stream().allMatch(assignment -> assignment.getId() != null));
+        assertEquals(12, tracked.size());
+        assertEquals(12, assignmentService.getTeacherAssignments(teacher.getId()).size());
+    }
+
+    @Test
+    void testCreateAssignmentsValidatesEveryRequestFirst() {
+        List<AssignmentRequest> requests = List.of(
+            new AssignmentRequest("Essay", "Description", "path/to/essay", now.plusDays(7)),
+            new AssignmentRequest("Lab", "Description", "path/to/lab", now.plusDays(14)),
+            new AssignmentRequest("Quiz", "Description", "path/to/quiz", now.minusDays(1)));
+
+        beginTransaction();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> assignmentService.createAssignments(teacher.getId(), requests));
+        commitTransaction();
+
+        assertEquals("Assignment 3: Deadline cannot be in the past", e.getMessage());
+        assertTrue(assignmentService.getTeacherAssignments(teacher.getId()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> assignmentService.createAssignments(
+            999L, List.of(new AssignmentRequest("Essay", "Description", "path/to/essay", now.plusDays(7)))));
+    }
+
     @Test
     void testFindAssignmentById() {
         beginTransaction();
@@ -150,6 +209,49 @@ public class AssignmentServiceTest extends BaseTest {
         }
     }
 
+    @Test
+    void testGetTeacherAssignmentPage() {
+        beginTransaction();
+        try {
+            for (int i = 1; i <= 5; i++) {
+                assignmentService.createAssignment(
+                    "Assignment " + i,
+                    "Description",
+                    "path/to/file" + i,
+                    now.plusDays(i),
+                    teacher.getId()
+                );
+            }
+            commitTransaction();
+        } catch (Exception e) {
+            rollbackTransaction();
+            throw e;
+        }
+
+        Page<AssignmentSummary> firstPage = assignmentService.getTeacherAssignmentPage(teacher.getId(), null, 2);
+        assertEquals(2, firstPage.getItems().size());
+        assertEquals("Assignment 1", firstPage.getItems().get(0).title());
+        assertNotNull(firstPage.getNextCursor());
+
+        Page<AssignmentSummary> secondPage = assignmentService.getTeacherAssignmentPage(
+            teacher.getId(), firstPage.getNextCursor(), 2);
+        assertEquals("Assignment 3", secondPage.getItems().get(0).title());
+
+        Page<AssignmentSummary> lastPage = assignmentService.getTeacherAssignmentPage(
+            teacher.getId(), secondPage.getNextCursor(), 2);
+        assertEquals(1, lastPage.getItems().size());
+        assertEquals("Assignment 5", lastPage.getItems().get(0).title());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void testGetTeacherAssignmentPageRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () ->
+            assignmentService.getTeacherAssignmentPage(teacher.getId(), "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () ->
+            assignmentService.getTeacherAssignmentPage(teacher.getId(), null, 0));
+    }
+
     @Test
     void testGetActiveAssignments() {
         LocalDateTime futureDate = now.plusDays(7);
@@ -257,6 +359,29 @@ public class AssignmentServiceTest extends BaseTest {
         }
     }
 
+    @Test
+    void testDeadlineChangesAreTrackedAndReopenClosedAssignment() {
+        List<DeadlineEntry> tracked = new ArrayList<>();
+        assignmentService = new AssignmentServiceImpl(assignmentDAO, teacherDAO,
+            (id, deadline) -> tracked.add(new DeadlineEntry(id, deadline)));
+
+        beginTransaction();
+        Assignment assignment = assignmentService.createAssignment(
+            "Title", "Description", "path/to/file", now.plusDays(7), teacher.getId());
+        assignment.setStatus(Assignment.STATUS_CLOSED);
+        commitTransaction();
+
+        beginTransaction();
+        Assignment updated = assignmentService.updateAssignment(
+            assignment.getId(), null, null, now.plusDays(14));
+        commitTransaction();
+
+        assertEquals("ACTIVE", updated.getStatus());
+        assertEquals(List.of(
+            new DeadlineEntry(assignment.getId(), now.plusDays(7)),
+            new DeadlineEntry(assignment.getId(), now.plusDays(14))), tracked);
+    }
+
     @Test
     void testUpdateNonExistentAssignment() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -344,6 +469,70 @@ public class AssignmentServiceTest extends BaseTest {
         });
     }
 
+    @Test
+    void testDeleteAssignmentsRemovesSubmissionsAndResultsInOneGo() {
+        StudentResultsCache studentResults = new StudentResultsCache();
+        assignmentService = new AssignmentServiceImpl(assignmentDAO, teacherDAO, DeadlineTracker.NONE, studentResults);
+        Teacher other = new Teacher("Jane", "Roe", "jane.roe@example.com", "hashedPassword");
+        persistAndFlush(other);
+        beginTransaction();
+        List<Assignment> mine = assignmentService.createAssignments(teacher.getId(), List.of(
+            new AssignmentRequest("Essay", "Description", "path/to/essay", now.plusDays(7)),
+            new AssignmentRequest("Lab", "Description", "path/to/lab", now.plusDays(14))));
+        Assignment theirs = assignmentService.createAssignment(
+            "Theirs", "Description", "path/to/theirs", now.plusDays(7), other.getId());
+        for (Assignment assignment : List.of(mine.get(0), mine.get(1), theirs)) {
+            em.persist(new Submission(assignment, 1L, "path/to/submission"));
+            Result result = new Result(assignment, 1L);
+            em.persist(result);
+            em.persist(new StudentResult(result));
+        }
+        commitTransaction();
+        List<Long> ids = mine.stream().map(Assignment::getId).toList();
+
+        // Cache the teacher's assignments collection, which the deletion has to drop
+        em.clear();
+        assertEquals(2, em.find(Teacher.class, teacher.getId()).getAssignments().size());
+        org.hibernate.Cache cache = emf.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsCollection(Teacher.class.getName() + ".assignments", teacher.getId()));
+
+        beginTransaction();
+        assertThrows(IllegalArgumentException.class,
+            () -> assignmentService.deleteAssignments(List.of(ids.get(0), theirs.getId()), teacher.getId()));
+        commitTransaction();
+        assertEquals(3, countRows("Assignment"));
+
+        studentResults.get(1L, null, 20, () -> new Page<>(List.of(), null));
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        beginTransaction();
+        assertEquals(2, assignmentService.deleteAssignments(ids, teacher.getId()));
+        commitTransaction();
+
+        // The student's cached timeline still listed the deleted results
+        AtomicBoolean reloaded = new AtomicBoolean();
+        studentResults.get(1L, null, 20, () -> {
+            reloaded.set(true);
+            return new Page<>(List.of(), null);
+        });
+        assertTrue(reloaded.get());
+
+        // The ownership check and three bulk deletes; student timeline rows cascade in the database
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertFalse(cache.containsEntity(Assignment.class, ids.get(0)));
+        assertEquals(1, countRows("Assignment"));
+        assertEquals(1, countRows("Submission"));
+        assertEquals(1, countRows("Result"));
+        assertEquals(1, countRows("StudentResult"));
+
+        // The teacher's collection is reloaded rather than served stale from the cache
+        em.clear();
+        statistics.clear();
+        assertTrue(em.find(Teacher.class, teacher.getId()).getAssignments().isEmpty());
+        assertEquals(0, statistics.getDomainDataRegionStatistics("teacher-assignments").getHitCount());
+    }
+
     @Test
     void testGetAssignmentsByDeadlineRange() {
         LocalDateTime start = now.plusDays(1);
@@ -381,4 +570,8 @@ public class AssignmentServiceTest extends BaseTest {
             throw e;
         }
     }
-} 
\ No newline at end of file
+
+    private long countRows(String entity) {
+        return em.createQuery("SELECT COUNT(e) FROM " + entity + " e", Long.class).getSingleResult();
+    }
+}
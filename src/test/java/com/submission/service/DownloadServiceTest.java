@@ -0,0 +1,70 @@
+package com.submission.service;
+
+import com.submission.dao.impl.StoredFileDAOImpl;
+import com.submission.model.Assignment;
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.model.Teacher;
+import com.submission.service.impl.DownloadServiceImpl;
+import com.submission.test.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DownloadServiceTest extends BaseTest {
+
+    @TempDir
+    Path storageRoot;
+
+    private DownloadService downloadService;
+    private Teacher teacher;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        downloadService = new DownloadServiceImpl(new StoredFileDAOImpl(em), storageRoot);
+        teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+    }
+
+    @Test
+    void testResolvesStoredFilesUnderStorageRoot() throws IOException {
+        Path stored = Files.createDirectories(storageRoot.resolve("files")).resolve("brief.pdf");
+        Files.writeString(stored, "brief");
+
+        Assignment assignment = new Assignment("Assignment", "Description", "files/brief.pdf",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(assignment);
+        Note note = new Note("Note", "files/brief.pdf", teacher, "Maths", "2026");
+        persistAndFlush(note);
+        PastPaper paper = new PastPaper("Paper", "Description", stored.toString(), 2025, ExamType.FINAL, teacher);
+        persistAndFlush(paper);
+
+        assertEquals(stored, downloadService.findAssignmentFile(assignment.getId()).orElseThrow());
+        assertEquals(stored, downloadService.findNoteFile(note.getId()).orElseThrow());
+        assertEquals(stored, downloadService.findPastPaperFile(paper.getId()).orElseThrow());
+    }
+
+    @Test
+    void testMissingOrEscapingFilesAreNotServed() throws IOException {
+        Files.writeString(storageRoot.resolveSibling("secret.pdf"), "secret");
+
+        Assignment missing = new Assignment("Missing", "Description", "files/missing.pdf",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(missing);
+        Assignment escaping = new Assignment("Escaping", "Description", "../secret.pdf",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(escaping);
+
+        assertTrue(downloadService.findAssignmentFile(missing.getId()).isEmpty());
+        assertTrue(downloadService.findAssignmentFile(escaping.getId()).isEmpty());
+        assertTrue(downloadService.findAssignmentFile(-1L).isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+package com.submission.service;
+
+import com.submission.dao.impl.StoredFileDAOImpl;
+import com.submission.dao.impl.TeacherDAOImpl;
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.model.Teacher;
+import com.submission.service.impl.MaterialServiceImpl;
+import com.submission.storage.ContentAddressedStore;
+import com.submission.test.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MaterialServiceTest extends BaseTest {
+
+    @TempDir
+    Path storageRoot;
+
+    private MaterialService materialService;
+    private Teacher teacher;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        materialService = new MaterialServiceImpl(new ContentAddressedStore(storageRoot),
+            new TeacherDAOImpl(em), new StoredFileDAOImpl(em));
+        teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+    }
+
+    @Test
+    void testSameFileUploadedForAnotherYearIsStoredOnce() throws IOException {
+        Note thisYear = inTransaction(() -> materialService.uploadNote(teacher.getId(), "Week 1", "Maths", "2026",
+            "week1.pdf", channel("lecture notes")));
+        Note lastYear = inTransaction(() -> materialService.uploadNote(teacher.getId(), "Week 1", "Maths", "2025",
+            "Week1-old.PDF", channel("lecture notes")));
+        PastPaper paper = inTransaction(() -> materialService.uploadPastPaper(teacher.getId(), "Final", null, 2025,
+            ExamType.FINAL, "final.pdf", channel("final paper")));
+
+        assertNotEquals(thisYear.getId(), lastYear.getId());
+        assertEquals(thisYear.getFilePath(), lastYear.getFilePath());
+        assertEquals("lecture notes", Files.readString(storageRoot.resolve(thisYear.getFilePath())));
+        assertEquals("final paper", Files.readString(storageRoot.resolve(paper.getFilePath())));
+        assertEquals(2, countBlobs());
+
+        em.clear();
+        assertEquals(thisYear.getFilePath(), em.find(Note.class, lastYear.getId()).getFilePath());
+    }
+
+    @Test
+    void testRejectedUploadsStoreNothing() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> materialService.uploadNote(teacher.getId(),
+            "Week 1", "Maths", "2026", "week1.exe", channel("program")));
+        assertThrows(IllegalArgumentException.class, () -> materialService.uploadNote(teacher.getId(),
+            " ", "Maths", "2026", "week1.pdf", channel("notes")));
+        assertThrows(IllegalArgumentException.class, () -> materialService.uploadPastPaper(teacher.getId(),
+            "Final", null, 2025, null, "final.pdf", channel("paper")));
+        assertEquals(0, countBlobs());
+    }
+
+    @Test
+    void testUnknownTeacherIsRejected() throws IOException {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> inTransaction(() ->
+            materialService.uploadNote(-1L, "Week 1", "Maths", "2026", "week1.pdf", channel("notes"))));
+        assertEquals("Teacher not found", e.getMessage());
+        // Rejected before the file is read
+        assertEquals(0, countBlobs());
+    }
+
+    private long countBlobs() throws IOException {
+        try (Stream<Path> files = Files.walk(storageRoot.resolve("blobs"))) {
+            return files.filter(file -> ContentAddressedStore.contentHash(file).isPresent()).count();
+        }
+    }
+
+    private static ReadableByteChannel channel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private <T> T inTransaction(IOWork<T> work) throws IOException {
+        beginTransaction();
+        try {
+            T value = work.run();
+            commitTransaction();
+            return value;
+        } catch (IOException | RuntimeException e) {
+            rollbackTransaction();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOWork<T> {
+        T run() throws IOException;
+    }
+}
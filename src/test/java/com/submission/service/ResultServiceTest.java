@@ -0,0 +1,384 @@
+package com.submission.service;
+
+import com.submission.dao.impl.AssignmentDAOImpl;
+import com.submission.dao.impl.ResultDAOImpl;
+import com.submission.dao.impl.StudentResultDAOImpl;
+import com.submission.dto.AppealClaim;
+import com.submission.dto.GradeOutcome;
+import com.submission.dto.GradeRequest;
+import com.submission.dto.Page;
+import com.submission.dto.StudentResultSummary;
+import com.submission.model.Assignment;
+import com.submission.model.Result;
+import com.submission.model.ResultStatus;
+import com.submission.model.Submission;
+import com.submission.model.SubmissionStatus;
+import com.submission.model.Teacher;
+import com.submission.service.impl.ResultServiceImpl;
+import com.submission.test.BaseTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultServiceTest extends BaseTest {
+    private ResultService resultService;
+    private Teacher teacher;
+    private Teacher otherTeacher;
+    private Assignment assignment;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        resultService = new ResultServiceImpl(new ResultDAOImpl(em), new AssignmentDAOImpl(em),
+            new StudentResultDAOImpl(em), new StudentResultsCache());
+
+        teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+        otherTeacher = new Teacher("Jane", "Roe", generateUniqueEmail("other"), "hashedPassword");
+        persistAndFlush(otherTeacher);
+        assignment = new Assignment("Assignment", "Description", "path/to/file",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(assignment);
+    }
+
+    @Test
+    void testGradeSubmission() {
+        Submission submission = submit(assignment, 1L);
+
+        Result result = inTransaction(() ->
+            resultService.gradeSubmission(submission.getId(), teacher.getId(), "A", "Well done"));
+
+        assertNotNull(result.getId());
+        assertEquals(ResultStatus.GRADED, result.getStatus());
+        em.clear();
+        assertEquals(SubmissionStatus.GRADED, em.find(Submission.class, submission.getId()).getStatus());
+        assertEquals("A", em.find(Result.class, result.getId()).getGrade());
+    }
+
+    @Test
+    void testGradeSubmissionRejectsOtherTeacher() {
+        Submission submission = submit(assignment, 1L);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmission(submission.getId(), otherTeacher.getId(), "A", null));
+        assertEquals("Not authorized to grade this submission", e.getMessage());
+    }
+
+    @Test
+    void testGradeSubmissionRejectsInvalidInput() {
+        Submission submission = submit(assignment, 1L);
+
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmission(submission.getId(), teacher.getId(), " ", null));
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmission(submission.getId(), teacher.getId(), "TOOLONG", null));
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmission(-1L, teacher.getId(), "A", null));
+    }
+
+    @Test
+    void testGradeSubmissionTwiceFails() {
+        Submission submission = submit(assignment, 1L);
+        inTransaction(() -> resultService.gradeSubmission(submission.getId(), teacher.getId(), "A", null));
+        em.clear();
+
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmission(submission.getId(), teacher.getId(), "B", null));
+    }
+
+    @Test
+    void testUpdateAndDeleteGrade() {
+        Submission submission = submit(assignment, 1L);
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.updateGrade(submission.getId(), teacher.getId(), "B", null));
+
+        inTransaction(() -> resultService.gradeSubmission(submission.getId(), teacher.getId(), "A", null));
+        em.clear();
+        Result updated = inTransaction(() ->
+            resultService.updateGrade(submission.getId(), teacher.getId(), "B", "Revised"));
+        em.clear();
+        assertEquals("B", em.find(Result.class, updated.getId()).getGrade());
+        assertEquals("Revised", resultService.getResult(submission.getId(), teacher.getId()).get().getRemarks());
+        assertTrue(resultService.getResult(submission.getId(), otherTeacher.getId()).isEmpty());
+
+        em.clear();
+        inTransaction(() -> {
+            resultService.deleteGrade(submission.getId(), teacher.getId());
+            return null;
+        });
+        em.clear();
+        assertNull(em.find(Result.class, updated.getId()));
+        assertEquals(SubmissionStatus.UNDER_REVIEW, em.find(Submission.class, submission.getId()).getStatus());
+    }
+
+    @Test
+    void testGetResultsByAssignment() {
+        Submission first = submit(assignment, 1L);
+        Submission second = submit(assignment, 2L);
+        assertTrue(resultService.getResultsByAssignment(assignment.getId(), teacher.getId()).isEmpty());
+
+        inTransaction(() -> resultService.gradeSubmissions(List.of(
+            new GradeRequest(first.getId(), "A", null),
+            new GradeRequest(second.getId(), "B", null)), teacher.getId()));
+        em.clear();
+
+        List<Result> results = resultService.getResultsByAssignment(assignment.getId(), teacher.getId());
+        assertEquals(2, results.size());
+        assertEquals(1L, results.get(0).getStudentId());
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.getResultsByAssignment(assignment.getId(), otherTeacher.getId()));
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.getResultsByAssignment(-1L, teacher.getId()));
+    }
+
+    @Test
+    void testGradeSubmissionsReportsPerItemOutcomes() {
+        Submission graded = submit(assignment, 1L);
+        Submission fresh = submit(assignment, 2L);
+        Assignment foreign = new Assignment("Foreign", "Description", "path/to/foreign",
+            LocalDateTime.now().plusDays(7), otherTeacher);
+        persistAndFlush(foreign);
+        Submission foreignSubmission = submit(foreign, 3L);
+        inTransaction(() -> resultService.gradeSubmission(graded.getId(), teacher.getId(), "C", null));
+        em.clear();
+
+        List<GradeOutcome> outcomes = inTransaction(() -> resultService.gradeSubmissions(List.of(
+            new GradeRequest(graded.getId(), "B", "Regraded"),
+            new GradeRequest(fresh.getId(), "A", null),
+            new GradeRequest(fresh.getId(), "A", null),
+            new GradeRequest(foreignSubmission.getId(), "A", null),
+            new GradeRequest(-1L, "A", null),
+            new GradeRequest(null, "A", null),
+            new GradeRequest(fresh.getId(), "", null)), teacher.getId()));
+
+        assertEquals(7, outcomes.size());
+        assertTrue(outcomes.get(0).isSuccess());
+        assertTrue(outcomes.get(1).isSuccess());
+        assertNotNull(outcomes.get(1).getResultId());
+        assertEquals("Duplicate submission in batch", outcomes.get(2).getMessage());
+        assertEquals("Not authorized to grade this submission", outcomes.get(3).getMessage());
+        assertEquals("Submission not found", outcomes.get(4).getMessage());
+        assertEquals("Submission ID is required", outcomes.get(5).getMessage());
+        assertFalse(outcomes.get(6).isSuccess());
+
+        em.clear();
+        assertEquals("B", resultService.getResult(graded.getId(), teacher.getId()).get().getGrade());
+        assertTrue(resultService.getResult(foreignSubmission.getId(), otherTeacher.getId()).isEmpty());
+    }
+
+    @Test
+    void testGradeSubmissionsRejectsEmptyOrOversizedBatch() {
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmissions(List.of(), teacher.getId()));
+        List<GradeRequest> tooMany = java.util.Collections.nCopies(501, new GradeRequest(1L, "A", null));
+        assertThrows(IllegalArgumentException.class, () ->
+            resultService.gradeSubmissions(tooMany, teacher.getId()));
+    }
+
+    @Test
+    void testStatementsPerGradeDoNotGrowWithAssignmentSize() {
+        Submission lone = submit(assignment, 1L);
+
+        Assignment crowded = new Assignment("Crowded", "Description", "path/to/crowded",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(crowded);
+        for (long studentId = 1; studentId <= 30; studentId++) {
+            Submission submission = submit(crowded, studentId);
+            if (studentId <= 20) {
+                Long submissionId = submission.getId();
+                inTransaction(() -> resultService.gradeSubmission(submissionId, teacher.getId(), "B", null));
+            }
+        }
+        Submission crowdedUngraded = submit(crowded, 31L);
+
+        long loneStatements = countStatements(() ->
+            resultService.gradeSubmission(lone.getId(), teacher.getId(), "A", null));
+        long crowdedStatements = countStatements(() ->
+            resultService.gradeSubmission(crowdedUngraded.getId(), teacher.getId(), "A", null));
+        assertEquals(loneStatements, crowdedStatements);
+        // One fetch-joined lookup, the result insert, its timeline row and the submission status update
+        assertEquals(4, crowdedStatements);
+    }
+
+    @Test
+    void testStudentResultsTimeline() {
+        Assignment later = new Assignment("Later", "Description", "path/to/later",
+            LocalDateTime.now().plusDays(14), teacher);
+        persistAndFlush(later);
+        Assignment latest = new Assignment("Latest", "Description", "path/to/latest",
+            LocalDateTime.now().plusDays(21), teacher);
+        persistAndFlush(latest);
+        Submission first = submit(assignment, 1L);
+        Submission second = submit(later, 1L);
+        Submission third = submit(latest, 1L);
+        Submission otherStudent = submit(latest, 2L);
+        inTransaction(() -> resultService.gradeSubmissions(List.of(
+            new GradeRequest(first.getId(), "A", null),
+            new GradeRequest(second.getId(), "B", null),
+            new GradeRequest(third.getId(), "C", null),
+            new GradeRequest(otherStudent.getId(), "D", null)), teacher.getId()));
+
+        // Editing an assignment carries its title into the timeline
+        inTransaction(() -> {
+            Assignment renamed = em.find(Assignment.class, later.getId());
+            renamed.setTitle("Later, renamed");
+            return new AssignmentDAOImpl(em).update(renamed);
+        });
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<StudentResultSummary> firstPage = resultService.getStudentResults(1L, null, 2);
+        // Read from the projection alone: one statement, no entities
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of("Latest", "Later, renamed"),
+            firstPage.getItems().stream().map(StudentResultSummary::assignmentTitle).toList());
+        assertEquals("C", firstPage.getItems().get(0).grade());
+        assertTrue(firstPage.hasMore());
+
+        Page<StudentResultSummary> secondPage = resultService.getStudentResults(1L, firstPage.getNextCursor(), 2);
+        assertEquals(1, secondPage.getItems().size());
+        assertEquals("Assignment", secondPage.getItems().get(0).assignmentTitle());
+        assertFalse(secondPage.hasMore());
+
+        assertThrows(IllegalArgumentException.class, () -> resultService.getStudentResults(null, null, 2));
+        assertThrows(IllegalArgumentException.class, () -> resultService.getStudentResults(1L, null, 0));
+    }
+
+    @Test
+    void testStudentResultsCacheInvalidatedByGradeWrites() {
+        Submission submission = submit(assignment, 1L);
+        inTransaction(() -> resultService.gradeSubmission(submission.getId(), teacher.getId(), "A", null));
+        em.clear();
+        assertEquals("A", resultService.getStudentResults(1L, null, null).getItems().get(0).grade());
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        resultService.getStudentResults(1L, null, null);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        inTransaction(() -> resultService.updateGrade(submission.getId(), teacher.getId(), "B", "Revised"));
+        em.clear();
+        StudentResultSummary regraded = resultService.getStudentResults(1L, null, null).getItems().get(0);
+        assertEquals("B", regraded.grade());
+        assertEquals("Revised", regraded.remarks());
+
+        inTransaction(() -> {
+            Result appealed = em.find(Result.class, regraded.resultId());
+            appealed.setAppealText("Please re-mark");
+            appealed.setStatus(ResultStatus.APPEALED);
+            return appealed;
+        });
+        inTransaction(() -> resultService.claimAppeals(teacher.getId(), 1));
+        inTransaction(() -> resultService.updateAppealStatus(
+            submission.getId(), teacher.getId(), ResultStatus.APPEAL_REVIEWED, "Upheld"));
+        em.clear();
+        StudentResultSummary reviewed = resultService.getStudentResults(1L, null, null).getItems().get(0);
+        assertEquals(ResultStatus.APPEAL_REVIEWED, reviewed.status());
+        assertEquals("Upheld", reviewed.remarks());
+        assertEquals(ResultStatus.APPEAL_REVIEWED, em.find(Result.class, reviewed.resultId()).getStatus());
+
+        inTransaction(() -> {
+            resultService.deleteGrade(submission.getId(), teacher.getId());
+            return null;
+        });
+        em.clear();
+        assertTrue(resultService.getStudentResults(1L, null, null).getItems().isEmpty());
+    }
+
+    @Test
+    void testClaimAndDecideAppeals() {
+        Submission submission = submit(assignment, 1L);
+        Result graded = inTransaction(() ->
+            resultService.gradeSubmission(submission.getId(), teacher.getId(), "C", null));
+        inTransaction(() -> {
+            Result appealed = em.find(Result.class, graded.getId());
+            appealed.setAppealText("Please re-mark");
+            appealed.setStatus(ResultStatus.APPEALED);
+            return appealed;
+        });
+        em.clear();
+
+        assertTrue(inTransaction(() -> resultService.claimAppeals(otherTeacher.getId(), null)).isEmpty());
+        List<AppealClaim> claims = inTransaction(() -> resultService.claimAppeals(teacher.getId(), 5));
+        assertEquals(1, claims.size());
+        assertEquals(submission.getId(), claims.get(0).submissionId());
+        assertTrue(inTransaction(() -> resultService.claimAppeals(teacher.getId(), 5)).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> resultService.claimAppeals(teacher.getId(), 0));
+        em.clear();
+
+        assertThrows(IllegalArgumentException.class, () -> resultService.updateAppealStatus(
+            submission.getId(), teacher.getId(), ResultStatus.GRADED, null));
+        Result decision = inTransaction(() -> resultService.updateAppealStatus(
+            claims.get(0).submissionId(), teacher.getId(), ResultStatus.APPEAL_REVIEWED, "Upheld"));
+        assertEquals(ResultStatus.APPEAL_REVIEWED, decision.getStatus());
+        assertEquals("Upheld", decision.getRemarks());
+        em.clear();
+        Result decided = em.find(Result.class, graded.getId());
+        assertEquals(ResultStatus.APPEAL_REVIEWED, decided.getStatus());
+        assertNull(decided.getAppealLeaseUntil());
+
+        // The claim went with the decision
+        assertThrows(AppealNotClaimedException.class, () -> inTransaction(() -> resultService.updateAppealStatus(
+            submission.getId(), teacher.getId(), ResultStatus.APPEALED, "Reopened")));
+    }
+
+    @Test
+    void testExpiredClaimCannotDecideAppeal() {
+        Submission submission = submit(assignment, 1L);
+        Result graded = inTransaction(() ->
+            resultService.gradeSubmission(submission.getId(), teacher.getId(), "C", null));
+        inTransaction(() -> {
+            Result appealed = em.find(Result.class, graded.getId());
+            appealed.setAppealText("Please re-mark");
+            appealed.setStatus(ResultStatus.APPEALED);
+            return appealed;
+        });
+        inTransaction(() -> resultService.claimAppeals(teacher.getId(), 1));
+        inTransaction(() -> em.createQuery("UPDATE Result r SET r.appealLeaseUntil = :past WHERE r.id = :id")
+            .setParameter("past", LocalDateTime.now().minusMinutes(1))
+            .setParameter("id", graded.getId())
+            .executeUpdate());
+        em.clear();
+
+        assertThrows(AppealNotClaimedException.class, () -> inTransaction(() -> resultService.updateAppealStatus(
+            submission.getId(), teacher.getId(), ResultStatus.APPEAL_REVIEWED, "Upheld")));
+        em.clear();
+        Result unchanged = em.find(Result.class, graded.getId());
+        assertEquals(ResultStatus.APPEALED, unchanged.getStatus());
+        assertEquals(teacher.getId(), unchanged.getAppealClaimedBy());
+    }
+
+    private Submission submit(Assignment target, Long studentId) {
+        Submission submission = new Submission(target, studentId, "path/to/submission-" + studentId);
+        persistAndFlush(submission);
+        return submission;
+    }
+
+    private long countStatements(Supplier<?> work) {
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        inTransaction(work);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        beginTransaction();
+        try {
+            T value = work.get();
+            commitTransaction();
+            return value;
+        } catch (RuntimeException e) {
+            rollbackTransaction();
+            throw e;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.submission.service;
 import com.submission.dao.TeacherDAO;
 import com.submission.dao.impl.TeacherDAOImpl;
 import com.submission.model.Teacher;
+import com.submission.security.PasswordHasher;
 import com.submission.service.impl.TeacherServiceImpl;
 import com.submission.test.BaseTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mindrot.jbcrypt.BCrypt;
@@ -17,13 +19,22 @@ import static org.junit.jupiter.api.Assertions.*;
 public class TeacherServiceTest extends BaseTest {
     private TeacherService teacherService;
     private TeacherDAO teacherDAO;
+    private PasswordHasher passwordHasher;
 
     @BeforeEach
     @Override
     public void setUp() {
         super.setUp();
         teacherDAO = new TeacherDAOImpl(em);
-        teacherService = new TeacherServiceImpl(teacherDAO);
+        passwordHasher = new PasswordHasher();
+        teacherService = new TeacherServiceImpl(teacherDAO, passwordHasher);
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() {
+        passwordHasher.shutdown();
+        super.tearDown();
     }
 
     @Test
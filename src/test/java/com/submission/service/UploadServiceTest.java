@@ -0,0 +1,298 @@
+package com.submission.service;
+
+import com.submission.dao.impl.AssignmentDAOImpl;
+import com.submission.dao.impl.SubmissionDAOImpl;
+import com.submission.dto.UploadRequest;
+import com.submission.dto.UploadStatus;
+import com.submission.ingest.SubmissionIngestor;
+import com.submission.model.Assignment;
+import com.submission.model.Submission;
+import com.submission.model.SubmissionStatus;
+import com.submission.model.Teacher;
+import com.submission.service.impl.SubmissionServiceImpl;
+import com.submission.service.impl.UploadServiceImpl;
+import com.submission.storage.ChunkedUploadStore;
+import com.submission.storage.FileUploadPolicy;
+import com.submission.storage.UploadConflictException;
+import com.submission.test.BaseTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UploadServiceTest extends BaseTest {
+    private static final Long STUDENT_ID = 42L;
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path storageRoot;
+
+    private UploadService uploadService;
+    private Assignment assignment;
+    private EntityManager writerEm;
+    private EntityManager submissionEm;
+    private SubmissionIngestor ingestor;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        writerEm = emf.createEntityManager();
+        ingestor = new SubmissionIngestor(committingSubmissionDAO(writerEm), 100);
+        uploadService = newService();
+
+        Teacher teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+        assignment = new Assignment("Assignment", "Description", "path/to/file",
+            LocalDateTime.now().plusDays(7), teacher);
+        persistAndFlush(assignment);
+    }
+
+    @Test
+    void testSubmissionIsCreatedOnlyWhenLastChunkArrives() throws IOException {
+        UploadStatus started = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length));
+        assertEquals(0, started.offset());
+
+        UploadStatus partial = append(started.uploadId(), 0, Arrays.copyOfRange(CONTENT, 0, 4));
+        assertFalse(partial.complete());
+        assertEquals(4, partial.offset());
+        assertEquals(0, countSubmissions());
+
+        UploadStatus done = append(started.uploadId(), 4, Arrays.copyOfRange(CONTENT, 4, CONTENT.length));
+        assertTrue(done.complete());
+        assertNotNull(done.submissionId());
+
+        em.clear();
+        Submission submission = em.find(Submission.class, done.submissionId());
+        assertEquals(SubmissionStatus.SUBMITTED, submission.getStatus());
+        assertArrayEquals(CONTENT, Files.readAllBytes(Path.of(submission.getFilePath())));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.getUploadStatus(started.uploadId(), STUDENT_ID));
+    }
+
+    @Test
+    void testInterruptedUploadResumesFromStoredOffset() throws IOException {
+        UploadStatus started = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length));
+
+        assertThrows(IOException.class, () -> inTransaction(() ->
+            uploadService.appendChunk(started.uploadId(), STUDENT_ID, 0, failingAfter(Arrays.copyOfRange(CONTENT, 0, 3)))));
+        assertEquals(3, uploadService.getUploadStatus(started.uploadId(), STUDENT_ID).offset());
+
+        // A fresh store stands in for a restarted server; progress comes back from disk
+        uploadService = newService();
+        assertEquals(3, uploadService.getUploadStatus(started.uploadId(), STUDENT_ID).offset());
+        UploadStatus done = append(started.uploadId(), 3, Arrays.copyOfRange(CONTENT, 3, CONTENT.length));
+
+        assertTrue(done.complete());
+        em.clear();
+        Submission submission = em.find(Submission.class, done.submissionId());
+        assertArrayEquals(CONTENT, Files.readAllBytes(Path.of(submission.getFilePath())));
+    }
+
+    @Test
+    void testStaleOffsetIsRejectedWithCurrentOffset() throws IOException {
+        UploadStatus started = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length));
+        append(started.uploadId(), 0, Arrays.copyOfRange(CONTENT, 0, 4));
+
+        UploadConflictException e = assertThrows(UploadConflictException.class, () ->
+            append(started.uploadId(), 0, CONTENT));
+        assertEquals(4, e.getCurrentOffset());
+        assertEquals(4, uploadService.getUploadStatus(started.uploadId(), STUDENT_ID).offset());
+    }
+
+    @Test
+    void testBytesPastDeclaredLengthAreRejected() throws IOException {
+        UploadStatus started = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", 4));
+
+        assertThrows(IllegalArgumentException.class, () -> append(started.uploadId(), 0, CONTENT));
+        assertEquals(0, uploadService.getUploadStatus(started.uploadId(), STUDENT_ID).offset());
+        assertEquals(0, countSubmissions());
+    }
+
+    @Test
+    void testFileIsValidatedBeforeAnyBytesAreAccepted() throws IOException {
+        assertThrows(IllegalArgumentException.class, () ->
+            uploadService.beginUpload(STUDENT_ID, request(assignment, "virus.exe", CONTENT.length)));
+        assertThrows(IllegalArgumentException.class, () ->
+            uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", FileUploadPolicy.MAX_FILE_SIZE + 1)));
+        assertThrows(IllegalArgumentException.class, () ->
+            uploadService.beginUpload(STUDENT_ID, request(assignment, "essay", CONTENT.length)));
+
+        try (var files = Files.list(storageRoot.resolve("incoming"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testUploadAfterDeadlineIsMarkedLate() throws IOException {
+        UploadStatus started = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.docx", CONTENT.length));
+        // The constructor refuses past deadlines, so close the assignment after the fact
+        assignment.setDeadline(LocalDateTime.now().minusMinutes(1));
+        merge(assignment);
+
+        UploadStatus done = append(started.uploadId(), 0, CONTENT);
+
+        em.clear();
+        assertEquals(SubmissionStatus.LATE, em.find(Submission.class, done.submissionId()).getStatus());
+    }
+
+    @Test
+    void testSecondSubmissionForSameAssignmentIsRejected() throws IOException {
+        UploadStatus first = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length));
+        UploadStatus second = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length));
+        append(first.uploadId(), 0, CONTENT);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            append(second.uploadId(), 0, CONTENT));
+        assertEquals("Submission already exists for this assignment", e.getMessage());
+        assertEquals(1, countSubmissions());
+        assertThrows(IllegalArgumentException.class, () ->
+            uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length)));
+    }
+
+    @Test
+    void testAnotherStudentsUploadIsNotFound() throws IOException {
+        UploadStatus started = uploadService.beginUpload(STUDENT_ID, request(assignment, "essay.pdf", CONTENT.length));
+        Long otherStudent = STUDENT_ID + 1;
+
+        assertThrows(IllegalArgumentException.class, () -> uploadService.getUploadStatus(started.uploadId(), otherStudent));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.appendChunk(started.uploadId(), otherStudent, 0,
+            Channels.newChannel(new ByteArrayInputStream(CONTENT))));
+        assertThrows(IllegalArgumentException.class, () -> uploadService.cancelUpload(started.uploadId(), otherStudent));
+
+        assertEquals(0, uploadService.getUploadStatus(started.uploadId(), STUDENT_ID).offset());
+        assertTrue(append(started.uploadId(), 0, CONTENT).complete());
+        em.clear();
+        assertEquals(STUDENT_ID, em.createQuery("SELECT s.studentId FROM Submission s", Long.class).getSingleResult());
+    }
+
+    @Test
+    void testSubmissionRacingPastTheCheckIsRejectedAsDuplicate() {
+        // Both requests checked before either row was committed
+        SubmissionService racing = new SubmissionServiceImpl(new AssignmentDAOImpl(submissionEm),
+            new SubmissionDAOImpl(submissionEm) {
+                @Override
+                public boolean existsByAssignmentIdAndStudentId(Long assignmentId, Long studentId) {
+                    return false;
+                }
+            }, ingestor);
+        racing.submit(assignment.getId(), 42L, "path/to/first");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            racing.submit(assignment.getId(), 42L, "path/to/second"));
+        assertEquals("Submission already exists for this assignment", e.getMessage());
+        assertEquals(1, countSubmissions());
+    }
+
+    @AfterEach
+    void stopIngestor() {
+        ingestor.shutdown();
+        writerEm.close();
+        if (submissionEm != null) {
+            submissionEm.close();
+        }
+    }
+
+    private UploadService newService() {
+        SubmissionDAOImpl submissionDAO = new SubmissionDAOImpl(em);
+        AssignmentDAOImpl assignmentDAO = new AssignmentDAOImpl(em);
+        // The submission service runs outside the caller's transaction, with its own persistence context
+        if (submissionEm != null) {
+            submissionEm.close();
+        }
+        submissionEm = emf.createEntityManager();
+        SubmissionService submissionService = new SubmissionServiceImpl(new AssignmentDAOImpl(submissionEm),
+            new SubmissionDAOImpl(submissionEm), ingestor);
+        return new UploadServiceImpl(new ChunkedUploadStore(storageRoot), assignmentDAO, submissionDAO,
+            submissionService);
+    }
+
+    // The ingestor writes on its own thread, so it gets its own entity manager and commits each
+    // batch as the container transaction around the DAO would
+    private static SubmissionDAOImpl committingSubmissionDAO(EntityManager writer) {
+        return new SubmissionDAOImpl(writer) {
+            @Override
+            public List<Submission> saveAll(List<Submission> submissions) {
+                writer.getTransaction().begin();
+                try {
+                    super.saveAll(submissions);
+                    writer.getTransaction().commit();
+                    return submissions;
+                } catch (RuntimeException e) {
+                    if (writer.getTransaction().isActive()) {
+                        writer.getTransaction().rollback();
+                    }
+                    throw e;
+                } finally {
+                    writer.clear();
+                }
+            }
+        };
+    }
+
+    private UploadRequest request(Assignment target, String fileName, long length) {
+        return new UploadRequest(target.getId(), fileName, length);
+    }
+
+    private UploadStatus append(String uploadId, long offset, byte[] chunk) throws IOException {
+        return inTransaction(() -> uploadService.appendChunk(uploadId, STUDENT_ID, offset,
+            Channels.newChannel(new ByteArrayInputStream(chunk))));
+    }
+
+    private long countSubmissions() {
+        return em.createQuery("SELECT COUNT(s) FROM Submission s", Long.class).getSingleResult();
+    }
+
+    // Yields the given bytes and then fails, like a connection dropped mid-request
+    private static ReadableByteChannel failingAfter(byte[] bytes) {
+        ReadableByteChannel delegate = Channels.newChannel(new ByteArrayInputStream(bytes));
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                int read = delegate.read(dst);
+                if (read < 0) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private <T> T inTransaction(IOWork<T> work) throws IOException {
+        beginTransaction();
+        try {
+            T value = work.run();
+            commitTransaction();
+            return value;
+        } catch (IOException | RuntimeException e) {
+            rollbackTransaction();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOWork<T> {
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,120 @@
+package com.submission.storage;
+
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.model.Teacher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against its own factory, whose persistence unit names {@link #root} as the storage
+ * root, so the listener releases blobs there.
+ */
+public class BlobReleaseListenerTest {
+
+    @TempDir
+    static Path root;
+
+    private static EntityManagerFactory emf;
+    private EntityManager em;
+    private ContentAddressedStore store;
+    private Teacher teacher;
+
+    @BeforeAll
+    static void createFactory() {
+        // Without the second-level cache, whose regions are shared with the test database's factory
+        emf = Persistence.createEntityManagerFactory("TestPU", Map.of(
+            "jakarta.persistence.jdbc.url", "jdbc:h2:mem:blob-release;DB_CLOSE_DELAY=-1",
+            "hibernate.cache.use_second_level_cache", "false",
+            StorageLocation.STORAGE_ROOT_PROPERTY, root.toString()));
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        if (emf != null && emf.isOpen()) {
+            emf.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = emf.createEntityManager();
+        // Stores as of an hour ago, since blobs younger than the release grace period are always kept
+        store = new ContentAddressedStore(root, Clock.offset(Clock.systemUTC(), Duration.ofHours(-1)));
+        teacher = new Teacher("John", "Doe", "teacher." + System.nanoTime() + "@example.com", "hashedPassword");
+        persist(teacher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        em.close();
+    }
+
+    @Test
+    void testBlobIsDeletedWithItsLastNote() throws IOException {
+        String path = storeAged("lecture notes");
+        Note thisYear = new Note("Week 1", path, teacher, "Maths", "2026");
+        persist(thisYear);
+        Note lastYear = new Note("Week 1", path, teacher, "Maths", "2025");
+        persist(lastYear);
+
+        removeNote(thisYear);
+        assertTrue(Files.exists(root.resolve(path)));
+
+        removeNote(lastYear);
+        assertFalse(Files.exists(root.resolve(path)));
+    }
+
+    @Test
+    void testRepointedPastPaperReleasesPreviousBlob() throws IOException {
+        String draft = storeAged("draft paper");
+        String published = storeAged("published paper");
+        PastPaper paper = new PastPaper("Final", "Description", draft, 2025, ExamType.FINAL, teacher);
+        persist(paper);
+
+        paper.setFilePath(published);
+        em.getTransaction().begin();
+        em.merge(paper);
+        em.getTransaction().commit();
+
+        assertFalse(Files.exists(root.resolve(draft)));
+        assertTrue(Files.exists(root.resolve(published)));
+    }
+
+    private void persist(Object entity) {
+        em.getTransaction().begin();
+        em.persist(entity);
+        em.getTransaction().commit();
+    }
+
+    private void removeNote(Note note) {
+        em.getTransaction().begin();
+        Teacher managed = em.find(Teacher.class, teacher.getId());
+        managed.removeNote(em.find(Note.class, note.getId()));
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    private String storeAged(String content) throws IOException {
+        return store.store(Channels.newChannel(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))), "file.pdf");
+    }
+}
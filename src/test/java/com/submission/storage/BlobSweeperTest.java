@@ -0,0 +1,67 @@
+package com.submission.storage;
+
+import com.submission.dao.impl.StoredFileDAOImpl;
+import com.submission.model.ExamType;
+import com.submission.model.Note;
+import com.submission.model.PastPaper;
+import com.submission.model.Teacher;
+import com.submission.test.BaseTest;
+import com.submission.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlobSweeperTest extends BaseTest {
+
+    @TempDir
+    Path root;
+
+    private MutableClock clock;
+    private ContentAddressedStore store;
+    private BlobSweeper sweeper;
+    private Teacher teacher;
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+        clock = new MutableClock(Instant.now());
+        store = new ContentAddressedStore(root, clock);
+        sweeper = new BlobSweeper(store, new StoredFileDAOImpl(em));
+        teacher = new Teacher("John", "Doe", generateUniqueEmail("teacher"), "hashedPassword");
+        persistAndFlush(teacher);
+    }
+
+    @Test
+    void testDeletesBlobsNothingReferencesOnceTheGracePeriodIsOver() throws IOException {
+        String note = store("lecture notes");
+        persistAndFlush(new Note("Week 1", note, teacher, "Maths", "2026"));
+        String paper = store("final paper");
+        persistAndFlush(new PastPaper("Final", "Description", paper, 2025, ExamType.FINAL, teacher));
+        // Its row never committed, or went while the blob was within the grace period
+        String orphaned = store("abandoned upload");
+
+        assertEquals(0, sweeper.sweepUnreferenced());
+        assertTrue(Files.exists(root.resolve(orphaned)));
+
+        clock.advance(ContentAddressedStore.RELEASE_GRACE.plus(Duration.ofSeconds(1)));
+        assertEquals(1, sweeper.sweepUnreferenced());
+        assertFalse(Files.exists(root.resolve(orphaned)));
+        assertTrue(Files.exists(root.resolve(note)));
+        assertTrue(Files.exists(root.resolve(paper)));
+    }
+
+    private String store(String content) throws IOException {
+        return store.store(Channels.newChannel(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))), "file.pdf");
+    }
+}
@@ -0,0 +1,139 @@
+package com.submission.storage;
+
+import com.submission.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentAddressedStoreTest {
+
+    @TempDir
+    Path root;
+
+    private MutableClock clock;
+    private ContentAddressedStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now());
+        store = new ContentAddressedStore(root, clock);
+    }
+
+    @Test
+    void testIdenticalContentIsStoredOnce() throws IOException {
+        String first = store.store(channel("past paper 2024"), "paper.pdf");
+        String again = store.store(channel("past paper 2024"), "Paper-2025.PDF");
+        String other = store.store(channel("past paper 2025"), "paper.pdf");
+
+        assertEquals(first, again);
+        assertNotEquals(first, other);
+        assertTrue(store.isBlob(first));
+        String hash = Path.of(first).getFileName().toString().replace(".pdf", "");
+        assertEquals("blobs/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".pdf", first);
+        assertEquals("past paper 2024", Files.readString(root.resolve(first)));
+        assertEquals(Optional.of(hash), ContentAddressedStore.contentHash(root.resolve(first)));
+        assertEquals(Optional.empty(), ContentAddressedStore.contentHash(root.resolve("uploads/" + hash + ".pdf")));
+        try (var files = Files.walk(root.resolve("blobs"))) {
+            assertEquals(2, files.filter(file -> ContentAddressedStore.contentHash(file).isPresent()).count());
+        }
+    }
+
+    @Test
+    void testOversizedFileIsRejectedWhileStreaming() throws IOException {
+        ReadableByteChannel endless = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) {
+                int count = dst.remaining();
+                dst.position(dst.limit());
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> store.store(endless, "huge.pdf"));
+        try (var files = Files.walk(root.resolve("blobs"))) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testReleaseWaitsForReferencesAndGracePeriod() throws IOException {
+        String path = store.store(channel("notes"), "notes.pdf");
+
+        assertFalse(store.releaseIfUnreferenced(path, () -> 1));
+        assertFalse(store.releaseIfUnreferenced(path, () -> 0));
+        assertTrue(Files.exists(root.resolve(path)));
+
+        clock.advance(ContentAddressedStore.RELEASE_GRACE.plus(Duration.ofSeconds(1)));
+        assertFalse(store.releaseIfUnreferenced(path, () -> 1));
+        assertTrue(store.releaseIfUnreferenced(path, () -> 0));
+        assertFalse(Files.exists(root.resolve(path)));
+        assertFalse(store.releaseIfUnreferenced("uploads/notes.pdf", () -> 0));
+    }
+
+    @Test
+    void testStoringAgainRenewsGraceWithoutTouchingTheBlob() throws IOException {
+        String path = store.store(channel("notes"), "notes.pdf");
+        FileTime written = Files.getLastModifiedTime(root.resolve(path));
+
+        clock.advance(ContentAddressedStore.RELEASE_GRACE.plus(Duration.ofSeconds(1)));
+        assertEquals(path, store.store(channel("notes"), "notes-2025.pdf"));
+        // Downloads already being served keep their Last-Modified
+        assertEquals(written, Files.getLastModifiedTime(root.resolve(path)));
+        assertFalse(store.releaseIfUnreferenced(path, () -> 0));
+
+        clock.advance(ContentAddressedStore.RELEASE_GRACE.plus(Duration.ofSeconds(1)));
+        assertTrue(store.releaseIfUnreferenced(path, () -> 0));
+        try (var files = Files.walk(root.resolve("blobs"))) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testSweepDeletesOnlyOldUnreferencedBlobs() throws IOException {
+        String referenced = store.store(channel("referenced"), "kept.pdf");
+        String orphaned = store.store(channel("orphaned"), "orphaned.pdf");
+        assertEquals(0, store.sweep(path -> 0));
+
+        clock.advance(ContentAddressedStore.RELEASE_GRACE.plus(Duration.ofSeconds(1)));
+        String recent = store.store(channel("recent"), "recent.pdf");
+        Set<String> counted = new HashSet<>();
+        assertEquals(1, store.sweep(path -> {
+            counted.add(path);
+            return path.equals(referenced) ? 1 : 0;
+        }));
+
+        assertTrue(Files.exists(root.resolve(referenced)));
+        assertFalse(Files.exists(root.resolve(orphaned)));
+        assertTrue(Files.exists(root.resolve(recent)));
+        // Blobs within the grace period are kept without counting their references
+        assertEquals(Set.of(referenced, orphaned), counted);
+    }
+
+    private static ReadableByteChannel channel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}